@@ -8,6 +8,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.wildfly.common.Assert;
@@ -28,6 +29,7 @@ public final class BuildContext {
     private final Execution execution;
     private final AtomicInteger dependencies;
     private volatile boolean running;
+    private volatile long readyTime;
 
     BuildContext(final StepInfo stepInfo, final Execution execution) {
         this.stepInfo = stepInfo;
@@ -256,21 +258,28 @@ public final class BuildContext {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
+            readyTime = System.nanoTime();
             execution.getExecutor().execute(this::run);
         }
     }
 
+    void setReadyTime(long readyTime) {
+        this.readyTime = readyTime;
+    }
+
     void run() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
+        boolean failed = true;
         log.tracef("Starting step \"%s\"", buildStep);
         try {
             if (!execution.isErrorReported()) {
                 running = true;
                 try {
                     buildStep.execute(this);
+                    failed = false;
                 } catch (Throwable t) {
                     final List<Diagnostic> list = execution.getDiagnostics();
                     list.add(new Diagnostic(Diagnostic.Level.ERROR, t, null, "Build step %s threw an exception", buildStep));
@@ -280,7 +289,9 @@ public final class BuildContext {
                 }
             }
         } finally {
-            log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
+            final long finish = System.nanoTime();
+            log.tracef("Finished step \"%s\" in %s ms", buildStep, TimeUnit.NANOSECONDS.toMillis(finish - start));
+            execution.recordStep(stepInfo, readyTime, start, finish, failed);
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
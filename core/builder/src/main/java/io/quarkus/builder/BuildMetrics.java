@@ -0,0 +1,239 @@
+package io.quarkus.builder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timing of the build steps executed during a build. The report can be written in a JSON form, or in the Trace Event
+ * Format understood by {@code chrome://tracing} and similar tools.
+ */
+public final class BuildMetrics {
+    private final List<BuildStepMetrics> steps;
+    private final long nanos;
+
+    BuildMetrics(final Map<StepInfo, BuildStepMetrics> recorded, final long nanos) {
+        final Map<StepInfo, List<BuildStepMetrics>> dependencies = new HashMap<>();
+        for (Map.Entry<StepInfo, BuildStepMetrics> entry : recorded.entrySet()) {
+            for (StepInfo dependent : entry.getKey().getDependents()) {
+                dependencies.computeIfAbsent(dependent, si -> new ArrayList<>()).add(entry.getValue());
+            }
+        }
+        for (Map.Entry<StepInfo, BuildStepMetrics> entry : recorded.entrySet()) {
+            final List<BuildStepMetrics> list = dependencies.get(entry.getKey());
+            if (list != null) {
+                list.sort(Comparator.comparingInt(BuildStepMetrics::getId));
+                entry.getValue().setDependencies(list);
+            }
+        }
+        final List<BuildStepMetrics> steps = new ArrayList<>(recorded.values());
+        steps.sort(new Comparator<BuildStepMetrics>() {
+            @Override
+            public int compare(BuildStepMetrics o1, BuildStepMetrics o2) {
+                final int result = Long.compare(o1.getStartedAt(), o2.getStartedAt());
+                return result != 0 ? result : Integer.compare(o1.getId(), o2.getId());
+            }
+        });
+        this.steps = Collections.unmodifiableList(steps);
+        this.nanos = nanos;
+    }
+
+    /**
+     * Get the executed steps, in the order they were started.
+     *
+     * @return the steps (not {@code null})
+     */
+    public List<BuildStepMetrics> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Get the amount of elapsed time from the time the build was initiated to the time it was completed.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getDuration(TimeUnit timeUnit) {
+        return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the critical path of the build, i.e. the chain of dependent steps that determined the duration of the build. The
+     * path ends with the step that finished last; each preceding element is the dependency that finished last, and thus
+     * made the following step ready to run.
+     *
+     * @return the steps on the critical path, in execution order (not {@code null})
+     */
+    public List<BuildStepMetrics> getCriticalPath() {
+        final List<BuildStepMetrics> path = new ArrayList<>();
+        BuildStepMetrics current = null;
+        for (BuildStepMetrics step : steps) {
+            if (current == null || step.getFinishedAt() > current.getFinishedAt()) {
+                current = step;
+            }
+        }
+        while (current != null) {
+            path.add(current);
+            BuildStepMetrics last = null;
+            for (BuildStepMetrics dependency : current.getDependencies()) {
+                if (last == null || dependency.getFinishedAt() > last.getFinishedAt()) {
+                    last = dependency;
+                }
+            }
+            current = last;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Get a human readable summary of the critical path.
+     *
+     * @return the summary (not {@code null})
+     */
+    public String getCriticalPathSummary() {
+        final List<BuildStepMetrics> path = getCriticalPath();
+        long total = 0;
+        for (BuildStepMetrics step : path) {
+            total += step.getDuration(TimeUnit.NANOSECONDS);
+        }
+        final StringBuilder b = new StringBuilder();
+        b.append(String.format("Critical path of %d build steps took %d ms of the %d ms build:", path.size(),
+                TimeUnit.NANOSECONDS.toMillis(total), getDuration(TimeUnit.MILLISECONDS)));
+        for (BuildStepMetrics step : path) {
+            b.append(String.format("%n  %6d ms (queued %d ms) %s [%s]", step.getDuration(TimeUnit.MILLISECONDS),
+                    step.getQueueTime(TimeUnit.MILLISECONDS), step.getName(), step.getThreadName()));
+        }
+        return b.toString();
+    }
+
+    /**
+     * Write the report in a JSON form. The times are in microseconds.
+     *
+     * @param writer the writer (must not be {@code null})
+     * @throws IOException if writing fails
+     */
+    public void writeJson(Writer writer) throws IOException {
+        writer.write("{\n  \"duration\": ");
+        writer.write(Long.toString(getDuration(TimeUnit.MICROSECONDS)));
+        writer.write(",\n  \"steps\": [");
+        boolean first = true;
+        for (BuildStepMetrics step : steps) {
+            writer.write(first ? "\n" : ",\n");
+            first = false;
+            writer.write("    {\"id\": ");
+            writer.write(Integer.toString(step.getId()));
+            writer.write(", \"name\": ");
+            writeString(writer, step.getName());
+            writer.write(", \"thread\": ");
+            writeString(writer, step.getThreadName());
+            writer.write(", \"ready\": ");
+            writer.write(Long.toString(step.getReadyAt(TimeUnit.MICROSECONDS)));
+            writer.write(", \"started\": ");
+            writer.write(Long.toString(step.getStartedAt(TimeUnit.MICROSECONDS)));
+            writer.write(", \"finished\": ");
+            writer.write(Long.toString(step.getFinishedAt(TimeUnit.MICROSECONDS)));
+            writer.write(", \"duration\": ");
+            writer.write(Long.toString(step.getDuration(TimeUnit.MICROSECONDS)));
+            writer.write(", \"failed\": ");
+            writer.write(Boolean.toString(step.isFailed()));
+            writer.write(", \"dependencies\": ");
+            writeIds(writer, step.getDependencies());
+            writer.write("}");
+        }
+        writer.write("\n  ],\n  \"criticalPath\": ");
+        writeIds(writer, getCriticalPath());
+        writer.write("\n}\n");
+        writer.flush();
+    }
+
+    /**
+     * Write the report in the Trace Event Format. Each build thread is displayed as a separate track.
+     *
+     * @param writer the writer (must not be {@code null})
+     * @throws IOException if writing fails
+     */
+    public void writeChromeTrace(Writer writer) throws IOException {
+        final Map<String, Integer> threads = new LinkedHashMap<>();
+        for (BuildStepMetrics step : steps) {
+            threads.putIfAbsent(step.getThreadName(), threads.size() + 1);
+        }
+        writer.write("{\"displayTimeUnit\": \"ms\", \"traceEvents\": [");
+        boolean first = true;
+        for (Map.Entry<String, Integer> thread : threads.entrySet()) {
+            writer.write(first ? "\n" : ",\n");
+            first = false;
+            writer.write("  {\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": 1, \"tid\": ");
+            writer.write(Integer.toString(thread.getValue()));
+            writer.write(", \"args\": {\"name\": ");
+            writeString(writer, thread.getKey());
+            writer.write("}}");
+        }
+        for (BuildStepMetrics step : steps) {
+            writer.write(first ? "\n" : ",\n");
+            first = false;
+            writer.write("  {\"name\": ");
+            writeString(writer, step.getName());
+            writer.write(", \"cat\": \"build-step\", \"ph\": \"X\", \"pid\": 1, \"tid\": ");
+            writer.write(Integer.toString(threads.get(step.getThreadName())));
+            writer.write(", \"ts\": ");
+            writer.write(Long.toString(step.getStartedAt(TimeUnit.MICROSECONDS)));
+            writer.write(", \"dur\": ");
+            writer.write(Long.toString(step.getDuration(TimeUnit.MICROSECONDS)));
+            writer.write(", \"args\": {\"queued\": ");
+            writer.write(Long.toString(step.getQueueTime(TimeUnit.MICROSECONDS)));
+            writer.write("}}");
+        }
+        writer.write("\n]}\n");
+        writer.flush();
+    }
+
+    private static void writeIds(Writer writer, List<BuildStepMetrics> steps) throws IOException {
+        writer.write('[');
+        for (int i = 0; i < steps.size(); i++) {
+            if (i > 0) {
+                writer.write(", ");
+            }
+            writer.write(Integer.toString(steps.get(i).getId()));
+        }
+        writer.write(']');
+    }
+
+    private static void writeString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+}
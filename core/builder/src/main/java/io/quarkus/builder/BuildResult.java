@@ -22,14 +22,16 @@ public final class BuildResult {
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems;
     private final List<Diagnostic> diagnostics;
     private final long nanos;
+    private final BuildMetrics metrics;
 
     BuildResult(final ConcurrentHashMap<ItemId, BuildItem> simpleItems,
             final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems, final Set<ItemId> finalIds,
-            final List<Diagnostic> diagnostics, final long nanos) {
+            final List<Diagnostic> diagnostics, final long nanos, final BuildMetrics metrics) {
         this.simpleItems = simpleItems;
         this.multiItems = multiItems;
         this.diagnostics = diagnostics;
         this.nanos = nanos;
+        this.metrics = metrics;
     }
 
     /**
@@ -102,6 +104,15 @@ public final class BuildResult {
         return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Get the timing of the build steps executed during the build.
+     *
+     * @return the build metrics (not {@code null})
+     */
+    public BuildMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Close all the resultant resources, logging any failures.
      */
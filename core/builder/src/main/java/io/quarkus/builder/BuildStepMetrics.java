@@ -0,0 +1,145 @@
+package io.quarkus.builder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timing of a single build step execution. All the points in time are relative to the start of the build.
+ */
+public final class BuildStepMetrics {
+    private final int id;
+    private final String name;
+    private final String threadName;
+    private final long readyAt;
+    private final long startedAt;
+    private final long finishedAt;
+    private final boolean failed;
+    private List<BuildStepMetrics> dependencies = Collections.emptyList();
+
+    BuildStepMetrics(final int id, final String name, final String threadName, final long readyAt, final long startedAt,
+            final long finishedAt, final boolean failed) {
+        this.id = id;
+        this.name = name;
+        this.threadName = threadName;
+        this.readyAt = readyAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.failed = failed;
+    }
+
+    /**
+     * Get the identifier of the step, unique within a build.
+     *
+     * @return the identifier
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Get the name of the step, as returned by {@link BuildStep#toString()}.
+     *
+     * @return the name (not {@code null})
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the name of the thread the step was executed on.
+     *
+     * @return the thread name (not {@code null})
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Get the time at which all the inputs of the step were available and the step was submitted to the executor.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time elapsed from the start of the build
+     */
+    public long getReadyAt(TimeUnit timeUnit) {
+        return timeUnit.convert(readyAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the time at which the step started to execute.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time elapsed from the start of the build
+     */
+    public long getStartedAt(TimeUnit timeUnit) {
+        return timeUnit.convert(startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the time at which the step finished.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time elapsed from the start of the build
+     */
+    public long getFinishedAt(TimeUnit timeUnit) {
+        return timeUnit.convert(finishedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the amount of time the step spent waiting for a build thread once its inputs were available.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getQueueTime(TimeUnit timeUnit) {
+        return timeUnit.convert(startedAt - readyAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the amount of time the step took to execute.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getDuration(TimeUnit timeUnit) {
+        return timeUnit.convert(finishedAt - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Determine whether the step threw an exception, or was skipped because another step failed.
+     *
+     * @return {@code true} if the step did not complete normally
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Get the steps that had to finish before this step could start.
+     *
+     * @return the dependencies (not {@code null})
+     */
+    public List<BuildStepMetrics> getDependencies() {
+        return dependencies;
+    }
+
+    void setDependencies(final List<BuildStepMetrics> dependencies) {
+        this.dependencies = Collections.unmodifiableList(dependencies);
+    }
+
+    long getFinishedAt() {
+        return finishedAt;
+    }
+
+    long getStartedAt() {
+        return startedAt;
+    }
+
+    long getReadyAt() {
+        return readyAt;
+    }
+
+    public String toString() {
+        return name;
+    }
+}
@@ -36,6 +36,9 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final ConcurrentHashMap<StepInfo, BuildStepMetrics> stepMetrics = new ConcurrentHashMap<>();
+    private final AtomicInteger stepIds = new AtomicInteger();
+    private volatile long startTime;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -77,11 +80,14 @@ final class Execution {
 
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        startTime = start;
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            final BuildContext buildContext = getBuildContext(startStep);
+            buildContext.setReadyTime(start);
+            executor.execute(buildContext::run);
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -123,8 +129,15 @@ final class Execution {
         }
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
-        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+        final long nanos = max(0, System.nanoTime() - start);
+        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics), nanos,
+                new BuildMetrics(stepMetrics, nanos));
+    }
+
+    void recordStep(StepInfo stepInfo, long readyTime, long startTime, long finishTime, boolean failed) {
+        final long base = this.startTime;
+        stepMetrics.put(stepInfo, new BuildStepMetrics(stepIds.incrementAndGet(), stepInfo.getBuildStep().toString(),
+                Thread.currentThread().getName(), readyTime - base, startTime - base, finishTime - base, failed));
     }
 
     EnhancedQueueExecutor getExecutor() {
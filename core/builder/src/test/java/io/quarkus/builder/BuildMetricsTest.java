@@ -0,0 +1,98 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ */
+public class BuildMetricsTest {
+
+    public static final class FastItem extends SimpleBuildItem {
+    }
+
+    public static final class SlowItem extends SimpleBuildItem {
+    }
+
+    public static final class FinalItem extends SimpleBuildItem {
+    }
+
+    @Test
+    public void testCriticalPath() throws ChainBuildException, BuildException, Exception {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new NamedStep("fast") {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new FastItem());
+            }
+        });
+        stepBuilder.produces(FastItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new NamedStep("slow") {
+            @Override
+            public void execute(final BuildContext context) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                context.produce(new SlowItem());
+            }
+        });
+        stepBuilder.produces(SlowItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new NamedStep("final") {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new FinalItem());
+            }
+        });
+        stepBuilder.consumes(FastItem.class);
+        stepBuilder.consumes(SlowItem.class);
+        stepBuilder.produces(FinalItem.class);
+        stepBuilder.build();
+        builder.addFinal(FinalItem.class);
+        final BuildResult result = builder.build().createExecutionBuilder("my-app.jar").execute();
+
+        final BuildMetrics metrics = result.getMetrics();
+        assertEquals(3, metrics.getSteps().size());
+        final List<BuildStepMetrics> path = metrics.getCriticalPath();
+        assertEquals(2, path.size());
+        assertEquals("slow", path.get(0).getName());
+        assertEquals("final", path.get(1).getName());
+        assertTrue(path.get(0).getDuration(TimeUnit.MILLISECONDS) >= 100);
+        assertEquals(2, path.get(1).getDependencies().size());
+        assertTrue(path.get(1).getReadyAt(TimeUnit.NANOSECONDS) >= path.get(0).getFinishedAt(TimeUnit.NANOSECONDS));
+        assertFalse(path.get(1).isFailed());
+        assertTrue(metrics.getCriticalPathSummary().contains("slow"));
+
+        final StringWriter json = new StringWriter();
+        metrics.writeJson(json);
+        assertTrue(json.toString().contains("\"name\": \"slow\""));
+        assertTrue(json.toString().contains("\"criticalPath\": [" + path.get(0).getId() + ", " + path.get(1).getId() + "]"));
+        final StringWriter trace = new StringWriter();
+        metrics.writeChromeTrace(trace);
+        assertTrue(trace.toString().contains("\"ph\": \"X\""));
+        assertTrue(trace.toString().contains("\"name\": \"thread_name\""));
+    }
+
+    abstract static class NamedStep implements BuildStep {
+        private final String name;
+
+        NamedStep(final String name) {
+            this.name = name;
+        }
+
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -25,4 +25,12 @@ public class DebugConfig {
      */
     @ConfigItem
     Optional<String> generatedClassesDir;
+
+    /**
+     * If set to true, the timing of the build steps is written to {@code build-metrics.json} and {@code build-trace.json} in
+     * the build output directory, and the critical path of the build is logged. The trace file can be opened with
+     * {@code chrome://tracing}.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean dumpBuildMetrics;
 }
@@ -1,6 +1,9 @@
 package io.quarkus.deployment;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -24,6 +27,7 @@ import io.quarkus.bootstrap.model.AppModel;
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
@@ -43,6 +47,8 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    private static final String DUMP_BUILD_METRICS = "quarkus.debug.dump-build-metrics";
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final Path root;
@@ -148,6 +154,9 @@ public class QuarkusAugmentor {
                 //test and dev mode already report the total startup time, no need to add noise to the logs
                 log.debug(message);
             }
+            if (isDumpBuildMetrics()) {
+                dumpBuildMetrics(buildResult.getMetrics());
+            }
             return buildResult;
         } finally {
             if (rootFs != null) {
@@ -169,6 +178,35 @@ public class QuarkusAugmentor {
         }
     }
 
+    private boolean isDumpBuildMetrics() {
+        String value = System.getProperty(DUMP_BUILD_METRICS);
+        if (value == null && buildSystemProperties != null) {
+            value = buildSystemProperties.getProperty(DUMP_BUILD_METRICS);
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    private void dumpBuildMetrics(BuildMetrics metrics) {
+        log.info(metrics.getCriticalPathSummary());
+        if (targetDir == null) {
+            return;
+        }
+        Path metricsFile = targetDir.resolve("build-metrics.json");
+        Path traceFile = targetDir.resolve("build-trace.json");
+        try {
+            Files.createDirectories(targetDir);
+            try (Writer writer = Files.newBufferedWriter(metricsFile, StandardCharsets.UTF_8)) {
+                metrics.writeJson(writer);
+            }
+            try (Writer writer = Files.newBufferedWriter(traceFile, StandardCharsets.UTF_8)) {
+                metrics.writeChromeTrace(writer);
+            }
+            log.infof("Build metrics written to %s and %s", metricsFile, traceFile);
+        } catch (IOException e) {
+            log.warn("Unable to write the build metrics", e);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
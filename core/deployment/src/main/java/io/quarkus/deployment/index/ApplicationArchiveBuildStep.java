@@ -15,12 +15,17 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Stream;
@@ -32,6 +37,8 @@ import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 
+import io.quarkus.bootstrap.resolver.AppModelResolverException;
+import io.quarkus.bootstrap.resolver.maven.MavenRepoInitializer;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.ApplicationArchiveImpl;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -58,6 +65,8 @@ public class ApplicationArchiveBuildStep {
 
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -68,6 +77,24 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(name = "index-cache", phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * If the Jandex indexes computed for the dependencies that do not contain an up-to-date index should be cached on
+         * disk. The cache entries are keyed by the SHA-256 of the jar content, so the cache directory can be shared between
+         * builds. For a jar in the local Maven repository the SHA-1 checksum stored next to it is used instead, as long as
+         * the size and the last modified time of the jar match the ones recorded in the cache entry.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean enabled;
+
+        /**
+         * The cache directory. If not set {@code .quarkus/index-cache} in the user home directory is used.
+         */
+        @ConfigItem
+        Optional<String> directory;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -93,6 +120,13 @@ public class ApplicationArchiveBuildStep {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        if (indexCacheConfig.enabled) {
+            indexCache.persistentCache = new PersistentIndexCache(indexCacheConfig.directory.isPresent()
+                    ? Paths.get(indexCacheConfig.directory.get())
+                    : Paths.get(System.getProperty("user.home"), ".quarkus", "index-cache"), getLocalRepository());
+        } else {
+            indexCache.persistentCache = null;
+        }
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(Thread.currentThread().getContextClassLoader(),
                 markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache);
@@ -101,6 +135,15 @@ public class ApplicationArchiveBuildStep {
                 applicationArchives);
     }
 
+    private static Path getLocalRepository() {
+        try {
+            return Paths.get(MavenRepoInitializer.getLocalRepo(MavenRepoInitializer.getSettings()));
+        } catch (AppModelResolverException | RuntimeException e) {
+            LOGGER.debug("Unable to determine the local Maven repository", e);
+            return null;
+        }
+    }
+
     private List<ApplicationArchive> scanForOtherIndexes(ClassLoader classLoader, Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
             List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache)
@@ -152,23 +195,85 @@ public class ApplicationArchiveBuildStep {
     private static List<ApplicationArchive> indexPaths(Set<Path> dependenciesToIndex, ClassLoader classLoader,
             IndexCache indexCache)
             throws IOException {
-        List<ApplicationArchive> ret = new ArrayList<>();
+        List<Path> dependencies = new ArrayList<>(dependenciesToIndex);
+        List<IndexView> indexes = indexDependencies(dependencies, indexCache);
 
-        for (final Path dep : dependenciesToIndex) {
-            LOGGER.debugf("Indexing dependency: %s", dep);
+        List<ApplicationArchive> ret = new ArrayList<>();
+        for (int i = 0; i < dependencies.size(); i++) {
+            Path dep = dependencies.get(i);
             if (Files.isDirectory(dep)) {
-                IndexView indexView = handleFilePath(dep);
-                ret.add(new ApplicationArchiveImpl(indexView, dep, null, false, dep));
+                ret.add(new ApplicationArchiveImpl(indexes.get(i), dep, null, false, dep));
             } else {
-                IndexView index = handleJarPath(dep, indexCache);
                 FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
-                ret.add(new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs, true, dep));
+                ret.add(new ApplicationArchiveImpl(indexes.get(i), fs.getRootDirectories().iterator().next(), fs, true,
+                        dep));
             }
         }
 
         return ret;
     }
 
+    /**
+     * Indexes the dependencies that are not cached yet in parallel, one task per dependency.
+     *
+     * @return the indexes, in the order of the given dependencies
+     */
+    private static List<IndexView> indexDependencies(List<Path> dependencies, IndexCache indexCache) throws IOException {
+        List<IndexView> indexes = new ArrayList<>(dependencies.size());
+        List<Integer> toIndex = new ArrayList<>();
+        for (int i = 0; i < dependencies.size(); i++) {
+            Index cached = indexCache.cache.get(dependencies.get(i));
+            indexes.add(cached);
+            if (cached == null) {
+                toIndex.add(i);
+            }
+        }
+        if (toIndex.size() <= 1) {
+            for (Integer i : toIndex) {
+                indexes.set(i, indexDependency(dependencies.get(i), indexCache));
+            }
+            return indexes;
+        }
+        final ExecutorService executorPool = Executors
+                .newFixedThreadPool(Math.min(Runtime.getRuntime().availableProcessors(), toIndex.size()));
+        final List<Future<Index>> futures = new ArrayList<>(toIndex.size());
+        try {
+            for (Integer i : toIndex) {
+                Path dep = dependencies.get(i);
+                futures.add(executorPool.submit(new Callable<Index>() {
+                    @Override
+                    public Index call() throws Exception {
+                        return indexDependency(dep, indexCache);
+                    }
+                }));
+            }
+            for (int j = 0; j < futures.size(); j++) {
+                indexes.set(toIndex.get(j), futures.get(j).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while indexing the application dependencies", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executorPool.shutdownNow();
+        }
+        return indexes;
+    }
+
+    private static Index indexDependency(Path dep, IndexCache indexCache) throws IOException {
+        LOGGER.debugf("Indexing dependency: %s", dep);
+        if (Files.isDirectory(dep)) {
+            return handleFilePath(dep);
+        }
+        return handleJarPath(dep, indexCache);
+    }
+
     private static Collection<? extends Path> getMarkerFilePaths(ClassLoader classLoader, Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root)
             throws IOException {
@@ -246,30 +351,39 @@ public class ApplicationArchiveBuildStep {
     }
 
     private static Index handleJarPath(Path path, IndexCache indexCache) throws IOException {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try (JarFile file = new JarFile(path.toFile())) {
-                    ZipEntry existing = file.getEntry(JANDEX_INDEX);
-                    if (existing != null) {
-                        try (InputStream in = file.getInputStream(existing)) {
-                            IndexReader reader = new IndexReader(in);
-                            if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
-                                LOGGER.warnf(
-                                        "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
-                                        path);
-                                return indexJar(file);
-                            } else {
-                                return reader.read();
-                            }
-                        }
+        Index index = indexCache.cache.get(path);
+        if (index != null) {
+            return index;
+        }
+        try (JarFile file = new JarFile(path.toFile())) {
+            ZipEntry existing = file.getEntry(JANDEX_INDEX);
+            if (existing != null) {
+                try (InputStream in = file.getInputStream(existing)) {
+                    IndexReader reader = new IndexReader(in);
+                    if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
+                        LOGGER.warnf(
+                                "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
+                                path);
+                        index = indexJar(path, file, indexCache);
+                    } else {
+                        index = reader.read();
                     }
-                    return indexJar(file);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
                 }
+            } else {
+                index = indexJar(path, file, indexCache);
             }
-        });
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to process " + path, e);
+        }
+        Index previous = indexCache.cache.putIfAbsent(path, index);
+        return previous != null ? previous : index;
+    }
+
+    private static Index indexJar(Path path, JarFile file, IndexCache indexCache) throws IOException {
+        if (indexCache.persistentCache != null) {
+            return indexCache.persistentCache.get(path, () -> indexJar(file));
+        }
+        return indexJar(file);
     }
 
     private static Index indexJar(JarFile file) throws IOException {
@@ -292,7 +406,12 @@ public class ApplicationArchiveBuildStep {
      */
     private static final class IndexCache {
 
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
+
+        /**
+         * The on-disk cache shared between builds, if enabled
+         */
+        PersistentIndexCache persistentCache;
 
     }
 }
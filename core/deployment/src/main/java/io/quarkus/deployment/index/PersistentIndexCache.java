@@ -0,0 +1,151 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.util.HashUtil;
+
+/**
+ * An on-disk cache of the Jandex indexes computed for the dependencies that do not contain an up-to-date index.
+ *
+ * The entries are keyed by the SHA-256 of the jar content, so the location of the jar does not matter. For a jar in the local
+ * Maven repository the SHA-1 checksum stored next to it is used instead, so that the jar does not need to be read at all if
+ * its index is cached. The checksum file is not verified, so such an entry is only used if the size and the last modified
+ * time of the jar match the ones recorded in the entry. An entry is written to a temporary file first and then moved in
+ * place, so the cache directory can be shared by concurrent builds, e.g. on a CI server. An entry that cannot be read is
+ * recomputed and replaced.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final int MAGIC = 0x51494458;
+    private static final int VERSION = 1;
+
+    private static final String SUFFIX = ".idx";
+
+    private static final String SHA1_SUFFIX = ".sha1";
+
+    private static final String SHA1_PREFIX = "sha1-";
+
+    private static final int SHA1_LENGTH = 40;
+
+    private final Path directory;
+    private final Path localRepository;
+
+    /**
+     *
+     * @param directory the cache directory
+     * @param localRepository the local Maven repository, may be {@code null}
+     */
+    PersistentIndexCache(Path directory, Path localRepository) {
+        this.directory = directory;
+        this.localRepository = localRepository == null ? null : localRepository.toAbsolutePath().normalize();
+    }
+
+    Index get(Path jar, IndexFunction indexFunction) throws IOException {
+        String key = key(jar);
+        // the checksum file is not verified, the entry must have been created for the same file
+        boolean checkLastModified = key.startsWith(SHA1_PREFIX);
+        long size = Files.size(jar);
+        long lastModified = Files.getLastModifiedTime(jar).toMillis();
+        Path entry = directory.resolve(key + SUFFIX);
+        if (Files.exists(entry)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    throw new IOException("Unsupported format");
+                }
+                long entrySize = in.readLong();
+                long entryLastModified = in.readLong();
+                if (entrySize == size && (!checkLastModified || entryLastModified == lastModified)) {
+                    Index index = new IndexReader(in).read();
+                    LOGGER.debugf("Index of %s read from %s", jar, entry);
+                    return index;
+                }
+                LOGGER.debugf("The cached index %s was created for a different file, re-indexing %s", entry, jar);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debugf(e, "Unable to read the cached index %s, re-indexing %s", entry, jar);
+            }
+        }
+        Index index = indexFunction.index();
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, key, ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    out.writeLong(size);
+                    out.writeLong(lastModified);
+                    new IndexWriter(out).write(index);
+                }
+                try {
+                    Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // the cache is an optimization only
+            LOGGER.warnf(e, "Unable to cache the index of %s in %s", jar, directory);
+        }
+        return index;
+    }
+
+    String key(Path jar) throws IOException {
+        if (localRepository != null && jar.toAbsolutePath().normalize().startsWith(localRepository)) {
+            Path checksum = jar.resolveSibling(jar.getFileName() + SHA1_SUFFIX);
+            // an outdated checksum may be left over if a snapshot was installed over a downloaded one
+            if (Files.isRegularFile(checksum)
+                    && Files.getLastModifiedTime(checksum).compareTo(Files.getLastModifiedTime(jar)) >= 0) {
+                String sha1 = readSha1(checksum);
+                if (sha1 != null) {
+                    return SHA1_PREFIX + sha1;
+                }
+            }
+        }
+        return HashUtil.sha256(jar);
+    }
+
+    private static String readSha1(Path checksum) {
+        try {
+            // the file may contain the file name after the checksum
+            String content = new String(Files.readAllBytes(checksum), StandardCharsets.US_ASCII).trim();
+            if (content.length() < SHA1_LENGTH) {
+                return null;
+            }
+            String sha1 = content.substring(0, SHA1_LENGTH).toLowerCase(Locale.ROOT);
+            for (int i = 0; i < SHA1_LENGTH; i++) {
+                if (Character.digit(sha1.charAt(i), 16) == -1) {
+                    return null;
+                }
+            }
+            return sha1;
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to read the checksum %s", checksum);
+            return null;
+        }
+    }
+
+    interface IndexFunction {
+
+        Index index() throws IOException;
+
+    }
+}
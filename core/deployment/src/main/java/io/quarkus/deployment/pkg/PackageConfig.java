@@ -10,12 +10,16 @@ import io.quarkus.runtime.annotations.ConfigRoot;
 public class PackageConfig {
 
     public static final String JAR = "jar";
+    public static final String FAST_JAR = "fast-jar";
     public static final String NATIVE = "native";
 
     /**
      * The requested output type.
      * 
-     * The default built in types are jar and native
+     * The default built in types are jar, fast-jar and native.
+     *
+     * The fast-jar type produces a {@code quarkus-app} directory that contains a {@code quarkus-run.jar} launcher, the jars
+     * and an index of the resources computed at build time, so that the classpath does not have to be scanned at startup.
      */
     @ConfigItem(defaultValue = JAR)
     public String type;
@@ -26,6 +30,17 @@ public class PackageConfig {
     @ConfigItem(defaultValue = "false")
     public boolean uberJar;
 
+    /**
+     * Whether an AppCDS archive of the runner jar should be created. The application is started once at the end of the
+     * build to record the classes it loads, so it must be able to start in the build environment.
+     *
+     * The archive is created with the JVM that runs the build and can only be used with the same JVM. Java 11 or later
+     * is required. With the {@code fast-jar} package type, the application classes are loaded by a custom class loader
+     * and are only archived on Java 13 or later; on Java 11 and 12 the archive only contains the JDK and the boot classes.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean createAppcds;
+
     /**
      * Manifest configuration of the runner jar.
      */
@@ -0,0 +1,21 @@
+package io.quarkus.deployment.pkg.builditem;
+
+import java.nio.file.Path;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The AppCDS archive of the runner jar.
+ */
+public final class AppCDSResultBuildItem extends SimpleBuildItem {
+
+    private final Path appCDS;
+
+    public AppCDSResultBuildItem(Path appCDS) {
+        this.appCDS = appCDS;
+    }
+
+    public Path getAppCDS() {
+        return appCDS;
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkus.deployment.pkg.steps;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarBuildItem;
+import io.quarkus.deployment.util.ExecUtil;
+
+/**
+ * Creates an AppCDS archive of the runner jar.
+ *
+ * The application is started in a separate JVM with the {@code quarkus.appcds.generate} system property set, which makes it
+ * stop as soon as it is started. On Java 13+ the JVM dumps a dynamic archive of the loaded classes at exit. On Java 11 and
+ * 12 the list of the loaded classes is recorded first and the archive is then dumped from that list. The archive is dumped
+ * with the runner jar as the class path, so for the fast-jar package type only the JDK and the boot classes are archived on
+ * Java 11 and 12.
+ */
+public class AppCDSBuildStep {
+
+    private static final Logger log = Logger.getLogger(AppCDSBuildStep.class);
+
+    public static final String JSA_FILE_NAME = "app-cds.jsa";
+    private static final String CLASSES_LIST_FILE_NAME = "classes.lst";
+    private static final String APPCDS_GENERATE = "-Dquarkus.appcds.generate=true";
+
+    @BuildStep(onlyIf = AppCDSRequired.class)
+    public void build(JarBuildItem jarResult, PackageConfig packageConfig, BuildProducer<AppCDSResultBuildItem> appCDS)
+            throws Exception {
+        int javaVersion = javaMajorVersion();
+        if (javaVersion < 11) {
+            log.warn("An AppCDS archive can only be created when the build runs on Java 11 or later, skipping");
+            return;
+        }
+        if (javaVersion < 13 && packageConfig.type.equalsIgnoreCase(PackageConfig.FAST_JAR)) {
+            // the class list dumped by -Xshare:dump is resolved against the class path only
+            log.warnf("The application classes of a %s package are loaded by a custom class loader and cannot be"
+                    + " archived on Java %d, the AppCDS archive will only contain the JDK and the boot classes."
+                    + " Use Java 13 or later, or the %s package type", PackageConfig.FAST_JAR, javaVersion,
+                    PackageConfig.JAR);
+        }
+
+        Path runnerJar = jarResult.getPath();
+        // the class path recorded in the archive is relative to the directory of the runner jar
+        Path workingDirectory = runnerJar.getParent();
+        String jarName = runnerJar.getFileName().toString();
+        Path archive = workingDirectory.resolve(JSA_FILE_NAME);
+        Files.deleteIfExists(archive);
+        String java = javaExecutable();
+
+        log.info("Creating the AppCDS archive, the application is started to record the loaded classes");
+        long start = System.currentTimeMillis();
+        boolean success;
+        if (javaVersion >= 13) {
+            success = ExecUtil.exec(workingDirectory.toFile(), java, "-XX:ArchiveClassesAtExit=" + JSA_FILE_NAME,
+                    APPCDS_GENERATE, "-jar", jarName);
+        } else {
+            Path classesList = workingDirectory.resolve(CLASSES_LIST_FILE_NAME);
+            try {
+                success = ExecUtil.exec(workingDirectory.toFile(), java, "-XX:DumpLoadedClassList=" + CLASSES_LIST_FILE_NAME,
+                        APPCDS_GENERATE, "-jar", jarName)
+                        && ExecUtil.exec(workingDirectory.toFile(), java, "-Xshare:dump",
+                                "-XX:SharedClassListFile=" + CLASSES_LIST_FILE_NAME,
+                                "-XX:SharedArchiveFile=" + JSA_FILE_NAME, "-cp", jarName);
+            } finally {
+                Files.deleteIfExists(classesList);
+            }
+        }
+
+        if (!success || !Files.exists(archive)) {
+            log.warn("Unable to create the AppCDS archive, see the output of the application above");
+            return;
+        }
+        log.infof("AppCDS archive %s created in %sms. Start the application from %s with: %s -XX:SharedArchiveFile=%s"
+                + " -Xshare:auto -jar %s", archive, System.currentTimeMillis() - start, workingDirectory, java,
+                JSA_FILE_NAME, jarName);
+        appCDS.produce(new AppCDSResultBuildItem(archive));
+    }
+
+    private static String javaExecutable() {
+        String executable = System.getProperty("os.name").toLowerCase().contains("windows") ? "java.exe" : "java";
+        Path java = Paths.get(System.getProperty("java.home"), "bin", executable);
+        return Files.exists(java) ? java.toString() : executable;
+    }
+
+    static int javaMajorVersion() {
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+        try {
+            return Integer.parseInt(version);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static class AppCDSRequired implements BooleanSupplier {
+
+        private final PackageConfig packageConfig;
+
+        AppCDSRequired(PackageConfig packageConfig) {
+            this.packageConfig = packageConfig;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            return packageConfig.createAppcds && (packageConfig.type.equalsIgnoreCase(PackageConfig.JAR)
+                    || packageConfig.type.equalsIgnoreCase(PackageConfig.FAST_JAR));
+        }
+    }
+}
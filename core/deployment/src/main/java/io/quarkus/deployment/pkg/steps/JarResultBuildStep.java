@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
@@ -49,6 +50,8 @@ import io.quarkus.bootstrap.BootstrapDependencyProcessingException;
 import io.quarkus.bootstrap.model.AppArtifact;
 import io.quarkus.bootstrap.model.AppDependency;
 import io.quarkus.bootstrap.resolver.AppModelResolverException;
+import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
+import io.quarkus.bootstrap.runner.SerializedApplication;
 import io.quarkus.bootstrap.util.IoUtils;
 import io.quarkus.bootstrap.util.ZipUtils;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -59,6 +62,7 @@ import io.quarkus.deployment.builditem.GeneratedNativeImageClassBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
 import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
@@ -68,7 +72,7 @@ import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.UberJarRequiredBuildItem;
 
 /**
- * This build step builds both the thin jars and uber jars.
+ * This build step builds the thin jars, the fast jars and the uber jars.
  *
  * The way this is built is a bit convoluted. In general we only want a single one built,
  * as determined by the {@link PackageConfig} (unless the config explicitly asks for both of them)
@@ -110,6 +114,17 @@ public class JarResultBuildStep {
             "META-INF/jandex.idx",
             "LICENSE")));
 
+    // the layout of the fast jar
+    private static final String FAST_JAR_DIR = "quarkus-app";
+    private static final String LIB = "lib";
+    private static final String BOOT_LIB = "boot";
+    private static final String MAIN_LIB = "main";
+    private static final String APP = "app";
+    private static final String QUARKUS_RUN_JAR = "quarkus-run.jar";
+    // the launcher of the fast jar is loaded by the system class loader
+    private static final String RUNNER_GROUP_ID = "io.quarkus";
+    private static final String RUNNER_ARTIFACT_ID = "quarkus-bootstrap-runner";
+
     private static final Logger log = Logger.getLogger(JarResultBuildStep.class);
     // we shouldn't have to specify these flags when opening a ZipFS (since they are the default ones), but failure to do so
     // makes a subsequent uberJar creation fail in java 8 (but works fine in Java 11)
@@ -126,13 +141,17 @@ public class JarResultBuildStep {
     }
 
     @BuildStep(onlyIf = JarRequired.class)
-    ArtifactResultBuildItem jarOutput(JarBuildItem jarBuildItem) {
+    ArtifactResultBuildItem jarOutput(JarBuildItem jarBuildItem, PackageConfig packageConfig,
+            Optional<AppCDSResultBuildItem> appCDS) {
+        String type = packageConfig.type.equalsIgnoreCase(PackageConfig.FAST_JAR) ? PackageConfig.FAST_JAR : PackageConfig.JAR;
+        Map<String, Path> additionalPaths = new HashMap<>();
         if (jarBuildItem.getLibraryDir() != null) {
-            return new ArtifactResultBuildItem(jarBuildItem.getPath(), PackageConfig.JAR,
-                    Collections.singletonMap("library-dir", jarBuildItem.getLibraryDir()));
-        } else {
-            return new ArtifactResultBuildItem(jarBuildItem.getPath(), PackageConfig.JAR, Collections.emptyMap());
+            additionalPaths.put("library-dir", jarBuildItem.getLibraryDir());
+        }
+        if (appCDS.isPresent()) {
+            additionalPaths.put("appcds", appCDS.get().getAppCDS());
         }
+        return new ArtifactResultBuildItem(jarBuildItem.getPath(), type, additionalPaths);
     }
 
     @BuildStep
@@ -148,6 +167,9 @@ public class JarResultBuildStep {
         if (!uberJarRequired.isEmpty() || packageConfig.uberJar) {
             return buildUberJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
                     packageConfig, applicationInfo, generatedClasses, generatedResources);
+        } else if (packageConfig.type.equalsIgnoreCase(PackageConfig.FAST_JAR)) {
+            return buildFastJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
+                    packageConfig, applicationInfo, generatedClasses, generatedResources);
         } else {
             return buildThinJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
                     packageConfig, applicationInfo, generatedClasses, generatedResources);
@@ -194,7 +216,8 @@ public class JarResultBuildStep {
             AppArtifact appArtifact = curateOutcomeBuildItem.getEffectiveModel().getAppArtifact();
             // the manifest needs to be the first entry in the jar, otherwise JarInputStream does not work properly
             // see https://bugs.openjdk.java.net/browse/JDK-8031748
-            generateManifest(runnerZipFs, classPath.toString(), packageConfig, appArtifact, applicationInfo);
+            generateManifest(runnerZipFs, classPath.toString(), packageConfig.mainClass, packageConfig, appArtifact,
+                    applicationInfo);
 
             for (AppDependency appDep : appDeps) {
                 final AppArtifact depArtifact = appDep.getArtifact();
@@ -331,6 +354,82 @@ public class JarResultBuildStep {
         return new JarBuildItem(runnerJar, null, libDir);
     }
 
+    /**
+     * The fast jar is a directory with the following layout:
+     * <ul>
+     * <li>{@code quarkus-run.jar} - the launcher, it only references the jars in {@code lib/boot}</li>
+     * <li>{@code lib/boot} - the jars loaded by the system class loader, i.e. the runner</li>
+     * <li>{@code lib/main} - the dependencies of the application</li>
+     * <li>{@code app} - the application jar</li>
+     * <li>{@code quarkus/quarkus-application.dat} - the index of the resources, see {@link SerializedApplication}</li>
+     * </ul>
+     *
+     * At runtime the application class loader is created from the index so that no jar is scanned at startup.
+     */
+    private JarBuildItem buildFastJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
+            OutputTargetBuildItem outputTargetBuildItem,
+            TransformedClassesBuildItem transformedClasses,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            PackageConfig packageConfig,
+            ApplicationInfoBuildItem applicationInfo,
+            List<GeneratedClassBuildItem> generatedClasses,
+            List<GeneratedResourceBuildItem> generatedResources) throws Exception {
+
+        Path buildDir = outputTargetBuildItem.getOutputDirectory().resolve(FAST_JAR_DIR);
+        IoUtils.recursiveDelete(buildDir);
+        Path libDir = buildDir.resolve(LIB);
+        Path bootLibDir = Files.createDirectories(libDir.resolve(BOOT_LIB));
+        Path mainLibDir = Files.createDirectories(libDir.resolve(MAIN_LIB));
+        Path appDir = Files.createDirectories(buildDir.resolve(APP));
+        Path runnerJar = buildDir.resolve(QUARKUS_RUN_JAR);
+
+        log.info("Building fast jar: " + runnerJar);
+
+        final List<AppDependency> appDeps = new ArrayList<>();
+        final StringBuilder bootClassPath = new StringBuilder();
+        for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getUserDependencies()) {
+            final AppArtifact depArtifact = appDep.getArtifact();
+            if (isAppDepAJar(depArtifact) && RUNNER_GROUP_ID.equals(depArtifact.getGroupId())
+                    && RUNNER_ARTIFACT_ID.equals(depArtifact.getArtifactId())) {
+                final String fileName = depArtifact.getGroupId() + "." + depArtifact.getArtifactId() + "-"
+                        + depArtifact.getVersion() + ".jar";
+                final Path targetPath = bootLibDir.resolve(fileName);
+                if (isAppDepPathAJar(depArtifact)) {
+                    Files.copy(depArtifact.getPath(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    ZipUtils.zip(depArtifact.getPath(), targetPath);
+                }
+                bootClassPath.append(" " + LIB + "/" + BOOT_LIB + "/" + fileName);
+            } else {
+                appDeps.add(appDep);
+            }
+        }
+
+        final Path appJar = appDir.resolve(outputTargetBuildItem.getBaseName() + ".jar");
+        final List<Path> classPath = new ArrayList<>();
+        classPath.add(appJar);
+        try (FileSystem appZipFs = ZipUtils.newZip(appJar)) {
+            final Map<String, List<byte[]>> services = new HashMap<>();
+            copyLibraryJars(appZipFs, transformedClasses, mainLibDir, classPath, appDeps, services);
+            copyCommonContent(appZipFs, services, applicationArchivesBuildItem, transformedClasses, generatedClasses,
+                    generatedResources, new HashMap<>());
+        }
+
+        try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
+            generateManifest(runnerZipFs, bootClassPath.toString(), QuarkusEntryPoint.class.getName(), packageConfig,
+                    curateOutcomeBuildItem.getEffectiveModel().getAppArtifact(), applicationInfo);
+        }
+        runnerJar.toFile().setReadable(true, false);
+
+        final Path applicationDat = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
+        Files.createDirectories(applicationDat.getParent());
+        try (OutputStream out = Files.newOutputStream(applicationDat)) {
+            SerializedApplication.write(out, packageConfig.mainClass, buildDir, classPath);
+        }
+
+        return new JarBuildItem(runnerJar, null, libDir);
+    }
+
     /**
      * Native images are built from a specially created jar file. This allows for changes in how the jar file is generated.
      *
@@ -435,19 +534,24 @@ public class JarResultBuildStep {
 
         final List<AppDependency> appDeps = curateOutcomeBuildItem.getEffectiveModel().getUserDependencies();
 
-        copyLibraryJars(runnerZipFs, transformedClasses, libDir, classPath,
+        final List<Path> libraries = new ArrayList<>();
+        copyLibraryJars(runnerZipFs, transformedClasses, libDir, libraries,
                 appDeps, services);
+        for (Path library : libraries) {
+            classPath.append(" lib/" + library.getFileName());
+        }
 
         AppArtifact appArtifact = curateOutcomeBuildItem.getEffectiveModel().getAppArtifact();
         // the manifest needs to be the first entry in the jar, otherwise JarInputStream does not work properly
         // see https://bugs.openjdk.java.net/browse/JDK-8031748
-        generateManifest(runnerZipFs, classPath.toString(), packageConfig, appArtifact, applicationInfo);
+        generateManifest(runnerZipFs, classPath.toString(), packageConfig.mainClass, packageConfig, appArtifact,
+                applicationInfo);
         copyCommonContent(runnerZipFs, services, applicationArchivesBuildItem, transformedClasses, allClasses,
                 generatedResources, seen);
     }
 
     private void copyLibraryJars(FileSystem runnerZipFs, TransformedClassesBuildItem transformedClasses, Path libDir,
-            StringBuilder classPath, List<AppDependency> appDeps, Map<String, List<byte[]>> services) throws IOException {
+            List<Path> libraries, List<AppDependency> appDeps, Map<String, List<byte[]>> services) throws IOException {
 
         for (AppDependency appDep : appDeps) {
             final AppArtifact depArtifact = appDep.getArtifact();
@@ -464,12 +568,12 @@ public class JarResultBuildStep {
                     final String fileName = depArtifact.getGroupId() + "." + resolvedDep.getFileName();
                     final Path targetPath = libDir.resolve(fileName);
                     Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
-                    classPath.append(" lib/" + fileName);
+                    libraries.add(targetPath);
                 } else {
                     //we have transformed classes, we need to handle them correctly
                     final String fileName = "modified-" + depArtifact.getGroupId() + "." + resolvedDep.getFileName();
                     final Path targetPath = libDir.resolve(fileName);
-                    classPath.append(" lib/" + fileName);
+                    libraries.add(targetPath);
                     filterZipFile(resolvedDep, targetPath, transformedFromThisArchive);
                 }
             } else {
@@ -606,8 +710,8 @@ public class JarResultBuildStep {
      * <b>BEWARE</b> this method should be invoked after file copy from target/classes and so on.
      * Otherwise this manifest manipulation will be useless.
      */
-    private void generateManifest(FileSystem runnerZipFs, final String classPath, PackageConfig config, AppArtifact appArtifact,
-            ApplicationInfoBuildItem applicationInfo)
+    private void generateManifest(FileSystem runnerZipFs, final String classPath, String mainClass, PackageConfig config,
+            AppArtifact appArtifact, ApplicationInfoBuildItem applicationInfo)
             throws IOException {
         final Path manifestPath = runnerZipFs.getPath("META-INF", "MANIFEST.MF");
         final Manifest manifest = new Manifest();
@@ -629,11 +733,11 @@ public class JarResultBuildStep {
         attributes.put(Attributes.Name.CLASS_PATH, classPath);
         if (attributes.containsKey(Attributes.Name.MAIN_CLASS)) {
             String existingMainClass = attributes.getValue(Attributes.Name.MAIN_CLASS);
-            if (!config.mainClass.equals(existingMainClass)) {
+            if (!mainClass.equals(existingMainClass)) {
                 log.warn("Your MANIFEST.MF already defined a MAIN_CLASS entry. Quarkus has overwritten your existing entry.");
             }
         }
-        attributes.put(Attributes.Name.MAIN_CLASS, config.mainClass);
+        attributes.put(Attributes.Name.MAIN_CLASS, mainClass);
         if (config.manifest.addImplementationEntries && !attributes.containsKey(Attributes.Name.IMPLEMENTATION_TITLE)) {
             String name = ApplicationInfoBuildItem.UNSET_VALUE.equals(applicationInfo.getName()) ? appArtifact.getArtifactId()
                     : applicationInfo.getName();
@@ -754,7 +858,8 @@ public class JarResultBuildStep {
 
         @Override
         public boolean getAsBoolean() {
-            return packageConfig.type.equalsIgnoreCase(PackageConfig.JAR);
+            return packageConfig.type.equalsIgnoreCase(PackageConfig.JAR)
+                    || packageConfig.type.equalsIgnoreCase(PackageConfig.FAST_JAR);
         }
     }
 
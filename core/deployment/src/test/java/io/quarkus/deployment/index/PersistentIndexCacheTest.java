@@ -0,0 +1,133 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.deployment.util.HashUtil;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void testIndexIsReusedForTheSameContent() throws IOException {
+        Path first = createJar(tmp.resolve("first.jar"));
+        Path cacheDir = tmp.resolve("cache");
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir, null);
+
+        Index index = cache.get(first, () -> index(PersistentIndexCacheTest.class));
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            assertEquals(1, entries.count());
+        }
+
+        // same content, different location
+        Path copy = Files.copy(first, tmp.resolve("copy.jar"));
+        Index cached = new PersistentIndexCache(cacheDir, null).get(copy, () -> fail("The cached index should be used"));
+        assertNotNull(cached.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+    }
+
+    @Test
+    public void testCorruptedEntryIsReplaced() throws IOException {
+        Path jar = createJar(tmp.resolve("app.jar"));
+        Path cacheDir = tmp.resolve("cache");
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir, null);
+        cache.get(jar, () -> index(PersistentIndexCacheTest.class));
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            Files.write(entries.findFirst().get(), new byte[] { 1, 2, 3 });
+        }
+
+        Index index = cache.get(jar, () -> index(PersistentIndexCacheTest.class));
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        Index reread = cache.get(jar, () -> fail("The replaced index should be used"));
+        assertNotNull(reread.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+    }
+
+    @Test
+    public void testMavenChecksumIsUsedAsKey() throws IOException {
+        Path repo = tmp.resolve("repository");
+        Path jar = createJar(Files.createDirectories(repo.resolve("org/acme/lib/1.0")).resolve("lib-1.0.jar"));
+        Path checksum = jar.resolveSibling("lib-1.0.jar.sha1");
+        Files.write(checksum, "0123456789ABCDEF0123456789abcdef01234567  lib.jar\n".getBytes(StandardCharsets.US_ASCII));
+        Files.setLastModifiedTime(checksum, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1000));
+        PersistentIndexCache cache = new PersistentIndexCache(tmp.resolve("cache"), repo);
+        assertEquals("sha1-0123456789abcdef0123456789abcdef01234567", cache.key(jar));
+
+        // not in the local repository
+        Path other = Files.copy(jar, tmp.resolve("lib-1.0.jar"));
+        Files.copy(checksum, tmp.resolve("lib-1.0.jar.sha1"), StandardCopyOption.COPY_ATTRIBUTES);
+        assertEquals(HashUtil.sha256(other), cache.key(other));
+        assertEquals(HashUtil.sha256(jar), new PersistentIndexCache(tmp.resolve("cache"), null).key(jar));
+
+        // outdated checksum
+        Files.setLastModifiedTime(checksum, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() - 1000));
+        assertEquals(HashUtil.sha256(jar), cache.key(jar));
+
+        // invalid checksum
+        Files.write(checksum, "not a checksum".getBytes(StandardCharsets.US_ASCII));
+        Files.setLastModifiedTime(checksum, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1000));
+        assertEquals(HashUtil.sha256(jar), cache.key(jar));
+    }
+
+    @Test
+    public void testWrongMavenChecksumDoesNotPoisonTheCache() throws IOException {
+        Path repo = tmp.resolve("repository");
+        Path cacheDir = tmp.resolve("cache");
+        Path first = createJar(Files.createDirectories(repo.resolve("org/acme/first/1.0")).resolve("first-1.0.jar"));
+        Path second = createJar(Files.createDirectories(repo.resolve("org/acme/second/1.0")).resolve("second-1.0.jar"));
+        Files.setLastModifiedTime(second, FileTime.fromMillis(Files.getLastModifiedTime(first).toMillis() - 5000));
+        // both jars claim the same checksum
+        for (Path jar : new Path[] { first, second }) {
+            Path checksum = jar.resolveSibling(jar.getFileName() + ".sha1");
+            Files.write(checksum, "0123456789abcdef0123456789abcdef01234567".getBytes(StandardCharsets.US_ASCII));
+            Files.setLastModifiedTime(checksum, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1000));
+        }
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir, repo);
+        cache.get(first, () -> index(PersistentIndexCacheTest.class));
+        assertNotNull(cache.get(first, () -> fail("The cached index should be used"))
+                .getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+
+        Index index = cache.get(second, () -> index(Index.class));
+        assertNotNull(index.getClassByName(DotName.createSimple(Index.class.getName())));
+        assertNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+    }
+
+    private static Path createJar(Path jar) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(new JarEntry("test.txt"));
+            jarOut.write(new byte[] { 42 });
+            jarOut.closeEntry();
+        }
+        return jar;
+    }
+
+    private static Index index(Class<?> clazz) throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream in = clazz.getClassLoader()
+                .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            indexer.index(in);
+        }
+        return indexer.complete();
+    }
+}
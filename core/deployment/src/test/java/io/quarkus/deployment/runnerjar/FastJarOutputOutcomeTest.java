@@ -0,0 +1,89 @@
+package io.quarkus.deployment.runnerjar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import io.quarkus.bootstrap.app.AugmentAction;
+import io.quarkus.bootstrap.app.AugmentResult;
+import io.quarkus.bootstrap.app.CuratedApplication;
+import io.quarkus.bootstrap.app.QuarkusBootstrap;
+import io.quarkus.bootstrap.resolver.TsArtifact;
+import io.quarkus.bootstrap.resolver.TsQuarkusExt;
+import io.quarkus.bootstrap.resolver.update.CreatorOutcomeTestBase;
+import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
+import io.quarkus.bootstrap.runner.SerializedApplication;
+
+public class FastJarOutputOutcomeTest extends CreatorOutcomeTestBase {
+
+    private final Set<String> expectedLib = new HashSet<>();
+
+    @Override
+    protected TsArtifact modelApp() {
+        final TsQuarkusExt coreExt = new TsQuarkusExt("core-ext");
+        addToExpectedLib(coreExt.getRuntime());
+
+        final TsArtifact compileDep = TsArtifact.jar("compile-dep");
+        addToExpectedLib(compileDep);
+
+        return TsArtifact.jar("app")
+                .addDependency(coreExt)
+                .addDependency(compileDep);
+    }
+
+    private void addToExpectedLib(TsArtifact entry) {
+        expectedLib.add(entry.getGroupId() + '.' + entry.getArtifactId() + '-' + entry.getVersion() + '.' + entry.getType());
+    }
+
+    @Override
+    protected void initProps(QuarkusBootstrap.Builder builder) {
+        Properties props = new Properties();
+        props.setProperty("quarkus.package.type", "fast-jar");
+        builder.setBuildSystemProperties(props);
+    }
+
+    @Override
+    protected void testCreator(QuarkusBootstrap creator) throws Exception {
+        CuratedApplication curated = creator.bootstrap();
+        AugmentAction action = curated.createAugmentor();
+        AugmentResult outcome = action.createProductionApplication();
+
+        final Path runnerJar = outcome.getJar().getPath();
+        assertEquals("quarkus-run.jar", runnerJar.getFileName().toString());
+        final Path appRoot = runnerJar.getParent();
+        try (JarFile jar = new JarFile(runnerJar.toFile())) {
+            final Attributes mainAttrs = jar.getManifest().getMainAttributes();
+            assertEquals(QuarkusEntryPoint.class.getName(), mainAttrs.getValue("Main-Class"));
+        }
+
+        final Set<String> actualLib = new HashSet<>();
+        try (Stream<Path> stream = Files.list(appRoot.resolve("lib").resolve("main"))) {
+            final Iterator<Path> i = stream.iterator();
+            while (i.hasNext()) {
+                actualLib.add(i.next().getFileName().toString());
+            }
+        }
+        assertEquals(expectedLib, actualLib);
+
+        final Path applicationDat = appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
+        assertTrue(Files.exists(applicationDat));
+        try (InputStream in = Files.newInputStream(applicationDat)) {
+            SerializedApplication app = SerializedApplication.read(in, appRoot);
+            assertEquals("io.quarkus.runner.GeneratedMain", app.getMainClass());
+            // the generated main class is in the application jar
+            assertNotNull(app.getRunnerClassLoader().getResource("io/quarkus/runner/GeneratedMain.class"));
+            app.getRunnerClassLoader().close();
+        }
+    }
+}
@@ -2,7 +2,13 @@ package io.quarkus.deployment.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class HashUtilTest {
 
@@ -10,4 +16,10 @@ public class HashUtilTest {
     public void testSha1() {
         assertEquals("a94a8fe5ccb19ba61c4c0873d391e987982fbbd3", HashUtil.sha1("test"));
     }
+
+    @Test
+    public void testSha256(@TempDir Path tmp) throws IOException {
+        Path file = Files.write(tmp.resolve("test.txt"), "test".getBytes(StandardCharsets.UTF_8));
+        assertEquals("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08", HashUtil.sha256(file));
+    }
 }
@@ -27,6 +27,11 @@ public abstract class Application implements Closeable {
     // WARNING: do not inject a logger here, it's too early: the log manager has not been properly set up yet
 
     private static final String DISABLE_SIGNAL_HANDLERS = "DISABLE_SIGNAL_HANDLERS";
+    /**
+     * If set to true the application is stopped as soon as it is started, this is used to record the loaded classes when
+     * an AppCDS archive is generated at build time
+     */
+    private static final String APPCDS_GENERATE = "quarkus.appcds.generate";
 
     private static final int ST_INITIAL = 0;
     private static final int ST_STARTING = 1;
@@ -197,6 +202,7 @@ public abstract class Application implements Closeable {
      * Run the application as if it were in a standalone JVM.
      */
     public final void run(String[] args) {
+        final boolean appCDSGenerate = Boolean.getBoolean(APPCDS_GENERATE);
         try {
             if (ImageInfo.inImageRuntimeCode() && System.getenv(DISABLE_SIGNAL_HANDLERS) == null) {
                 final SignalHandler handler = new SignalHandler() {
@@ -226,6 +232,9 @@ public abstract class Application implements Closeable {
             final ShutdownHookThread shutdownHookThread = new ShutdownHookThread(Thread.currentThread());
             Runtime.getRuntime().addShutdownHook(shutdownHookThread);
             start(args);
+            if (appCDSGenerate) {
+                shutdownRequested = true;
+            }
             try {
                 while (!shutdownRequested) {
                     Thread.interrupted();
@@ -237,6 +246,10 @@ public abstract class Application implements Closeable {
         } finally {
             exit();
         }
+        if (appCDSGenerate) {
+            // make sure the JVM exits and dumps the loaded classes even if a non-daemon thread is still running
+            System.exit(0);
+        }
     }
 
     private void exit() {
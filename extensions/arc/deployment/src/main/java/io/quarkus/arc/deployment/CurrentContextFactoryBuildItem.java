@@ -0,0 +1,22 @@
+package io.quarkus.arc.deployment;
+
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * An extension can provide a custom {@link CurrentContextFactory} to store the state of the built-in contexts, e.g. the
+ * request context. The factory must be obtained from a recorder method executed during static init.
+ */
+public final class CurrentContextFactoryBuildItem extends SimpleBuildItem {
+
+    private final CurrentContextFactory factory;
+
+    public CurrentContextFactoryBuildItem(CurrentContextFactory factory) {
+        this.factory = factory;
+    }
+
+    public CurrentContextFactory getFactory() {
+        return factory;
+    }
+
+}
@@ -13,6 +13,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.runtime.RuntimeValue;
@@ -31,8 +32,8 @@ public class ArcRecorder {
 
     private static final Logger LOGGER = Logger.getLogger(ArcRecorder.class.getName());
 
-    public ArcContainer getContainer(ShutdownContext shutdown) throws Exception {
-        ArcContainer container = Arc.initialize();
+    public ArcContainer getContainer(ShutdownContext shutdown, CurrentContextFactory currentContextFactory) throws Exception {
+        ArcContainer container = Arc.initialize(currentContextFactory);
         shutdown.addShutdownTask(new Runnable() {
             @Override
             public void run() {
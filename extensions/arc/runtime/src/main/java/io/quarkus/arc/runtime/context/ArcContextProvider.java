@@ -18,6 +18,9 @@ import io.quarkus.arc.ManagedContext;
  */
 public class ArcContextProvider implements ThreadContextProvider {
 
+    private static final ThreadContextController NOOP_CONTROLLER = () -> {
+    };
+
     @Override
     public ThreadContextSnapshot currentContext(Map<String, String> map) {
         ArcContainer arc = Arc.container();
@@ -40,6 +43,10 @@ public class ArcContextProvider implements ThreadContextProvider {
             if (isContextActiveOnThisThread(arcContainer)) {
                 // context active, store current state, feed it new one and restore state afterwards
                 InjectableContext.ContextState stateToRestore = requestContext.getState();
+                if (stateToRestore == state) {
+                    // the captured state is already active, e.g. the continuation runs on the same event loop
+                    return NOOP_CONTROLLER;
+                }
                 requestContext.deactivate();
                 if (state != null) {
                     // only activate if previous thread had it active
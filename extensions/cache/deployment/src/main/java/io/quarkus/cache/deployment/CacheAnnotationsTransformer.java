@@ -4,11 +4,14 @@ import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALID
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
-import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
-import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_PARAMETER_POSITIONS_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_FACTORY_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_BULK;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.LOCK_TIMEOUT_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.RETURN_TYPE_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,11 +23,14 @@ import org.jboss.jandex.AnnotationTarget.Kind;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptorBinding;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptorBinding;
+import io.quarkus.cache.runtime.CacheResultBulkInterceptorBinding;
 import io.quarkus.cache.runtime.CacheResultInterceptorBinding;
+import io.quarkus.cache.runtime.CacheResultInterceptorBinding.ReturnType;
 
 public class CacheAnnotationsTransformer implements AnnotationsTransformer {
 
@@ -54,6 +60,9 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
                     }
                 } else if (CACHE_RESULT.equals(annotation.name())) {
                     interceptorBindings.add(createCacheResultBinding(method, annotation, target));
+                } else if (CACHE_RESULT_BULK.equals(annotation.name())) {
+                    interceptorBindings.add(createBinding(CacheResultBulkInterceptorBinding.class, target,
+                            getCacheName(annotation)));
                 }
             }
         }
@@ -68,7 +77,7 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
             AnnotationTarget target) {
         List<AnnotationValue> parameters = new ArrayList<>();
         parameters.add(getCacheName(annotation));
-        findCacheKeyParameters(method).ifPresent(parameters::add);
+        findCacheKeyFactory(method).ifPresent(parameters::add);
         return createBinding(CacheInvalidateInterceptorBinding.class, target, toArray(parameters));
     }
 
@@ -76,8 +85,9 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
             AnnotationTarget target) {
         List<AnnotationValue> parameters = new ArrayList<>();
         parameters.add(getCacheName(annotation));
-        findCacheKeyParameters(method).ifPresent(parameters::add);
+        findCacheKeyFactory(method).ifPresent(parameters::add);
         findLockTimeout(annotation).ifPresent(parameters::add);
+        parameters.add(getReturnType(method));
         return createBinding(CacheResultInterceptorBinding.class, target, toArray(parameters));
     }
 
@@ -89,23 +99,34 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
         return annotation.value(CACHE_NAME_PARAM);
     }
 
-    private Optional<AnnotationValue> findCacheKeyParameters(MethodInfo method) {
-        List<AnnotationValue> parameters = new ArrayList<>();
-        for (AnnotationInstance annotation : method.annotations()) {
-            if (annotation.target().kind() == Kind.METHOD_PARAMETER && CACHE_KEY.equals(annotation.name())) {
-                parameters.add(AnnotationValue.createShortValue("", annotation.target().asMethodParameter().position()));
-            }
-        }
-        if (parameters.isEmpty()) {
+    private Optional<AnnotationValue> findCacheKeyFactory(MethodInfo method) {
+        // The key of a method without parameters is the default key of the cache and doesn't require any factory.
+        if (method.parameters().isEmpty()) {
             return Optional.empty();
         }
-        return Optional.of(AnnotationValue.createArrayValue(CACHE_KEY_PARAMETER_POSITIONS_PARAM, toArray(parameters)));
+        DotName factoryClassName = DotName.createSimple(CacheKeyFactoryGenerator.getFactoryClassName(method));
+        return Optional.of(AnnotationValue.createClassValue(CACHE_KEY_FACTORY_PARAM,
+                Type.create(factoryClassName, Type.Kind.CLASS)));
     }
 
     private Optional<AnnotationValue> findLockTimeout(AnnotationInstance annotation) {
         return Optional.ofNullable(annotation.value(LOCK_TIMEOUT_PARAM));
     }
 
+    private AnnotationValue getReturnType(MethodInfo method) {
+        DotName returnType = method.returnType().name();
+        ReturnType kind;
+        if (COMPLETION_STAGE.equals(returnType)) {
+            kind = ReturnType.COMPLETION_STAGE;
+        } else if (UNI.equals(returnType)) {
+            kind = ReturnType.UNI;
+        } else {
+            kind = ReturnType.OTHER;
+        }
+        return AnnotationValue.createEnumValue(RETURN_TYPE_PARAM, DotName.createSimple(ReturnType.class.getName()),
+                kind.name());
+    }
+
     private AnnotationValue[] toArray(List<AnnotationValue> parameters) {
         return parameters.toArray(new AnnotationValue[0]);
     }
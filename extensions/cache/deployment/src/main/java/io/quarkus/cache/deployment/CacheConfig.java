@@ -15,7 +15,9 @@ import io.quarkus.runtime.annotations.ConfigRoot;
 public class CacheConfig {
 
     /**
-     * Cache type.
+     * Cache type. Supported values are {@code caffeine} and {@code tiered}. A tiered cache is a Caffeine cache configured
+     * with the {@code caffeine} properties, in front of a remote store shared by all the nodes of a cluster. The remote store
+     * has to be provided as a CDI bean implementing {@code io.quarkus.cache.runtime.tiered.RemoteCacheStore}.
      */
     @ConfigItem(defaultValue = CacheDeploymentConstants.CAFFEINE_CACHE_TYPE)
     String type;
@@ -25,6 +27,23 @@ public class CacheConfig {
      */
     CaffeineConfig caffeine;
 
+    /**
+     * Tiered caches configuration.
+     */
+    TieredConfig tiered;
+
+    @ConfigGroup
+    public static class TieredConfig {
+
+        /**
+         * Maximum time to wait for the remote store of the tiered caches. A lookup which fails or takes longer is handled as
+         * if the remote store didn't contain the value, so the cached method is invoked. An invalidation which fails or takes
+         * longer fails the invocation of the method annotated with {@code @CacheInvalidate} or {@code @CacheInvalidateAll}.
+         */
+        @ConfigItem(defaultValue = "1S")
+        Duration remoteTimeout;
+    }
+
     @ConfigGroup
     public static class CaffeineConfig {
 
@@ -67,6 +86,30 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The current value keeps being returned while the
+             * reload is in progress and is only replaced once the reload completes successfully. The reload is triggered by
+             * the first read of the entry after that duration, so an entry that is never read again will not be reloaded.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * If enabled, the cache stores the value produced by methods returning {@code CompletionStage} or {@code Uni}
+             * instead of the asynchronous type itself. The cache lookup then never blocks the calling thread: concurrent
+             * invocations for the same missing key share a single method invocation and a failed computation is not cached.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean asyncValues;
+
+            /**
+             * Whether the cache statistics should be recorded and exposed as metrics if the {@code smallrye-metrics}
+             * extension is present. Recording the statistics has a small cost on every cache access.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean metricsEnabled;
         }
     }
 }
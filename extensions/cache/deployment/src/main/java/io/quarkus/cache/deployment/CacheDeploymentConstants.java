@@ -1,7 +1,11 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
 
@@ -9,6 +13,7 @@ import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheResultBulk;
 
 public class CacheDeploymentConstants {
 
@@ -18,20 +23,35 @@ public class CacheDeploymentConstants {
     public static final DotName CACHE_INVALIDATE = dotName(CacheInvalidate.class);
     public static final DotName CACHE_INVALIDATE_LIST = dotName(CacheInvalidate.List.class);
     public static final DotName CACHE_RESULT = dotName(CacheResult.class);
+    public static final DotName CACHE_RESULT_BULK = dotName(CacheResultBulk.class);
     public static final DotName CACHE_KEY = dotName(CacheKey.class);
     public static final List<DotName> API_METHODS_ANNOTATIONS = Arrays.asList(
-            CACHE_RESULT, CACHE_INVALIDATE, CACHE_INVALIDATE_ALL);
+            CACHE_RESULT, CACHE_RESULT_BULK, CACHE_INVALIDATE, CACHE_INVALIDATE_ALL);
     public static final List<DotName> API_METHODS_ANNOTATIONS_LISTS = Arrays.asList(
             CACHE_INVALIDATE_LIST, CACHE_INVALIDATE_ALL_LIST);
 
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
-    public static final String CACHE_KEY_PARAMETER_POSITIONS_PARAM = "cacheKeyParameterPositions";
+    public static final String CACHE_KEY_FACTORY_PARAM = "cacheKeyFactory";
     public static final String LOCK_TIMEOUT_PARAM = "lockTimeout";
+    public static final String RETURN_TYPE_PARAM = "returnType";
+
+    // Asynchronous return types.
+    public static final DotName COMPLETION_STAGE = dotName(CompletionStage.class);
+    // Mutiny is an optional dependency of the runtime module.
+    public static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+
+    // Bulk loading types.
+    public static final List<DotName> BULK_PARAMETER_TYPES = Arrays.asList(
+            dotName(Collection.class), dotName(List.class), dotName(Set.class));
+    public static final DotName MAP = dotName(Map.class);
 
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
 
+    // Caffeine near cache in front of a remote store.
+    public static final String TIERED_CACHE_TYPE = "tiered";
+
     private static DotName dotName(Class<?> annotationClass) {
         return DotName.createSimple(annotationClass.getName());
     }
@@ -0,0 +1,193 @@
+package io.quarkus.cache.deployment;
+
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.cache.runtime.CacheKeyBuilder;
+import io.quarkus.cache.runtime.CacheKeyFactory;
+import io.quarkus.deployment.util.HashUtil;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldCreator;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates the {@link CacheKeyFactory} implementations of the cached methods and the composite cache key classes they
+ * instantiate. Composite keys are not specific to a method: keys built from the same elements by different methods (e.g. a
+ * method annotated with {@code @CacheResult} and another one annotated with {@code @CacheInvalidate}) must be equal.
+ */
+public class CacheKeyFactoryGenerator {
+
+    static final String FACTORY_SUFFIX = "_CacheKeyFactory";
+    static final String COMPOSITE_KEY_PREFIX = "io.quarkus.cache.runtime.generated.CompositeCacheKey";
+
+    private static final String HASH_CODE_FIELD = "hashCode";
+
+    private static final MethodDescriptor REQUIRE_NON_NULL_KEY = MethodDescriptor.ofMethod(CacheKeyBuilder.class,
+            "requireNonNullKey", Object.class, Object.class);
+    private static final MethodDescriptor COMBINE_HASH_CODE = MethodDescriptor.ofMethod(CacheKeyBuilder.class,
+            "combineHashCode", int.class, int.class, Object.class);
+    private static final MethodDescriptor IS_SAME_CLASS = MethodDescriptor.ofMethod(CacheKeyBuilder.class, "isSameClass",
+            boolean.class, Object.class, Object.class);
+    private static final MethodDescriptor DEEP_EQUALS = MethodDescriptor.ofMethod(Objects.class, "deepEquals",
+            boolean.class, Object.class, Object.class);
+
+    /**
+     * @param method cached method
+     * @return the name of the cache key factory generated for the given method
+     */
+    public static String getFactoryClassName(MethodInfo method) {
+        StringBuilder sigBuilder = new StringBuilder();
+        sigBuilder.append(method.name()).append("_").append(method.returnType().name().toString());
+        for (Type parameter : method.parameters()) {
+            sigBuilder.append(parameter.name().toString());
+        }
+        String targetPackage = DotNames.packageName(method.declaringClass().name());
+        String baseName = DotNames.simpleName(method.declaringClass().name()).replace('$', '_');
+        return (targetPackage.isEmpty() ? "" : targetPackage + ".") + baseName + FACTORY_SUFFIX + "_" + method.name() + "_"
+                + HashUtil.sha1(sigBuilder.toString());
+    }
+
+    /**
+     * If at least one of the method parameters is annotated with {@code @CacheKey}, then the key is composed of all
+     * {@code @CacheKey}-annotated parameters. Otherwise, the key is composed of all of the method parameters.
+     *
+     * @param method cached method
+     * @return the positions of the key elements among the method parameters
+     */
+    public static List<Short> getKeyParameterPositions(MethodInfo method) {
+        List<Short> positions = new ArrayList<>();
+        for (AnnotationInstance annotation : method.annotations()) {
+            if (annotation.target().kind() == Kind.METHOD_PARAMETER && CACHE_KEY.equals(annotation.name())) {
+                positions.add(annotation.target().asMethodParameter().position());
+            }
+        }
+        if (positions.isEmpty()) {
+            for (short i = 0; i < method.parameters().size(); i++) {
+                positions.add(i);
+            }
+        } else {
+            positions.sort(null);
+        }
+        return positions;
+    }
+
+    /**
+     * Generates the cache key factory of the given method.
+     *
+     * @param method cached method with at least one parameter
+     * @param classOutput class output
+     * @param compositeKeySizes the sizes of the composite keys required by the generated factories
+     * @return the name of the generated class
+     */
+    public static String generateFactory(MethodInfo method, ClassOutput classOutput, Set<Integer> compositeKeySizes) {
+        String factoryClassName = getFactoryClassName(method);
+        List<Short> positions = getKeyParameterPositions(method);
+
+        ClassCreator factoryCreator = ClassCreator.builder().classOutput(classOutput).className(factoryClassName)
+                .interfaces(CacheKeyFactory.class).build();
+
+        // The descriptor is: Object create(Object[] methodParameterValues)
+        MethodCreator create = factoryCreator.getMethodCreator("create", Object.class, Object[].class);
+        ResultHandle parameters = create.getMethodParam(0);
+        if (positions.size() == 1) {
+            // A single element key is the element itself.
+            create.returnValue(create.invokeStaticMethod(REQUIRE_NON_NULL_KEY,
+                    create.readArrayValue(parameters, positions.get(0))));
+        } else {
+            ResultHandle[] keyElements = new ResultHandle[positions.size()];
+            for (int i = 0; i < keyElements.length; i++) {
+                keyElements[i] = create.readArrayValue(parameters, positions.get(i));
+            }
+            compositeKeySizes.add(keyElements.length);
+            create.returnValue(create.newInstance(compositeKeyConstructor(keyElements.length), keyElements));
+        }
+
+        factoryCreator.close();
+        return factoryClassName;
+    }
+
+    /**
+     * Generates a composite cache key class with a fixed number of elements. The hash code of the key is computed once from
+     * its elements in the constructor.
+     *
+     * @param size number of key elements
+     * @param classOutput class output
+     * @return the name of the generated class
+     */
+    public static String generateCompositeKey(int size, ClassOutput classOutput) {
+        String keyClassName = COMPOSITE_KEY_PREFIX + size;
+
+        ClassCreator keyCreator = ClassCreator.builder().classOutput(classOutput).className(keyClassName)
+                .setFinal(true).build();
+
+        FieldDescriptor[] elementFields = new FieldDescriptor[size];
+        for (int i = 0; i < size; i++) {
+            FieldCreator elementField = keyCreator.getFieldCreator("element" + i, Object.class);
+            elementField.setModifiers(Modifier.PRIVATE | Modifier.FINAL);
+            elementFields[i] = elementField.getFieldDescriptor();
+        }
+        FieldCreator hashCodeField = keyCreator.getFieldCreator(HASH_CODE_FIELD, int.class);
+        hashCodeField.setModifiers(Modifier.PRIVATE | Modifier.FINAL);
+
+        // Constructor
+        MethodCreator constructor = keyCreator.getMethodCreator(compositeKeyConstructor(size));
+        constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(Object.class), constructor.getThis());
+        ResultHandle hashCode = constructor.load(1);
+        for (int i = 0; i < size; i++) {
+            ResultHandle element = constructor.getMethodParam(i);
+            constructor.writeInstanceField(elementFields[i], constructor.getThis(), element);
+            hashCode = constructor.invokeStaticMethod(COMBINE_HASH_CODE, hashCode, element);
+        }
+        constructor.writeInstanceField(hashCodeField.getFieldDescriptor(), constructor.getThis(), hashCode);
+        constructor.returnValue(null);
+
+        // int hashCode()
+        MethodCreator hashCodeMethod = keyCreator.getMethodCreator("hashCode", int.class);
+        hashCodeMethod.returnValue(hashCodeMethod.readInstanceField(hashCodeField.getFieldDescriptor(),
+                hashCodeMethod.getThis()));
+
+        // boolean equals(Object obj)
+        // The hash codes are not compared here since the cache already does it before calling this method.
+        MethodCreator equals = keyCreator.getMethodCreator("equals", boolean.class, Object.class);
+        ResultHandle other = equals.getMethodParam(0);
+        BytecodeCreator notSameClass = equals.ifNonZero(equals.invokeStaticMethod(IS_SAME_CLASS, equals.getThis(), other))
+                .falseBranch();
+        notSameClass.returnValue(notSameClass.load(false));
+        ResultHandle otherKey = equals.checkCast(other, keyClassName);
+        for (int i = 0; i < size; i++) {
+            ResultHandle elementsEqual = equals.invokeStaticMethod(DEEP_EQUALS,
+                    equals.readInstanceField(elementFields[i], equals.getThis()),
+                    equals.readInstanceField(elementFields[i], otherKey));
+            BytecodeCreator notEqual = equals.ifNonZero(elementsEqual).falseBranch();
+            notEqual.returnValue(notEqual.load(false));
+        }
+        equals.returnValue(equals.load(true));
+
+        keyCreator.close();
+        return keyClassName;
+    }
+
+    private static MethodDescriptor compositeKeyConstructor(int size) {
+        Object[] parameterTypes = new Object[size];
+        for (int i = 0; i < size; i++) {
+            parameterTypes[i] = Object.class;
+        }
+        return MethodDescriptor.ofConstructor(COMPOSITE_KEY_PREFIX + size, parameterTypes);
+    }
+}
@@ -1,8 +1,13 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_PARAMETER_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_BULK;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 
 import java.util.List;
+import java.util.Set;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.MethodInfo;
@@ -10,12 +15,14 @@ import org.jboss.jandex.Type.Kind;
 
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.cache.deployment.exception.IllegalParameterTypeException;
 import io.quarkus.cache.deployment.exception.IllegalReturnTypeException;
 
 public class CacheMethodValidator {
 
     public static void validateAnnotations(AnnotationStore annotationStore, BeanInfo bean, MethodInfo method,
-            List<Throwable> throwables) {
+            Set<String> refreshedCacheNames, List<Throwable> throwables) {
 
         AnnotationInstance cacheResult = annotationStore.getAnnotation(method, CACHE_RESULT);
         if (cacheResult != null && method.returnType().kind() == Kind.VOID) {
@@ -23,5 +30,38 @@ public class CacheMethodValidator {
                     + bean.getBeanClass() + ", method= " + method + "]";
             throwables.add(new IllegalReturnTypeException(exceptionMessage));
         }
+
+        AnnotationInstance cacheResultBulk = annotationStore.getAnnotation(method, CACHE_RESULT_BULK);
+        if (cacheResultBulk != null) {
+            if (cacheResult != null) {
+                String exceptionMessage = "The @CacheResultBulk annotation cannot be combined with @CacheResult: [class= "
+                        + bean.getBeanClass() + ", method= " + method + "]";
+                throwables.add(new IllegalStateException(exceptionMessage));
+            }
+            if (method.parameters().size() != 1 || !BULK_PARAMETER_TYPES.contains(method.parameters().get(0).name())) {
+                String exceptionMessage = "The @CacheResultBulk annotation is only allowed on a method with a single Collection, List or Set parameter: [class= "
+                        + bean.getBeanClass() + ", method= " + method + "]";
+                throwables.add(new IllegalParameterTypeException(exceptionMessage));
+            }
+            if (!MAP.equals(method.returnType().name())) {
+                String exceptionMessage = "The @CacheResultBulk annotation is only allowed on a method returning a Map: [class= "
+                        + bean.getBeanClass() + ", method= " + method + "]";
+                throwables.add(new IllegalReturnTypeException(exceptionMessage));
+            }
+        }
+
+        /*
+         * The refreshed entries are reloaded by invoking the cached method again, long after the invocation which cached them
+         * returned. This is only safe if the bean instance is not destroyed in the meantime.
+         */
+        for (AnnotationInstance annotation : new AnnotationInstance[] { cacheResult, cacheResultBulk }) {
+            if (annotation != null && refreshedCacheNames.contains(annotation.value(CACHE_NAME_PARAM).asString())
+                    && !BuiltinScope.APPLICATION.is(bean.getScope()) && !BuiltinScope.SINGLETON.is(bean.getScope())) {
+                String exceptionMessage = "The cache [" + annotation.value(CACHE_NAME_PARAM).asString()
+                        + "] is configured with refresh-after-write and can only be used by @ApplicationScoped or @Singleton beans: [class= "
+                        + bean.getBeanClass() + ", method= " + method + "]";
+                throwables.add(new IllegalStateException(exceptionMessage));
+            }
+        }
     }
 }
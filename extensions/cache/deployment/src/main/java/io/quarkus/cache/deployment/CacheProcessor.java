@@ -2,7 +2,10 @@ package io.quarkus.cache.deployment;
 
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.API_METHODS_ANNOTATIONS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.API_METHODS_ANNOTATIONS_LISTS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 
@@ -11,9 +14,14 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import javax.enterprise.inject.spi.DeploymentException;
 
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
@@ -21,7 +29,10 @@ import org.jboss.jandex.MethodInfo;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
+import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem.BeanTypeExclusion;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.AnnotationStore;
@@ -29,13 +40,23 @@ import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension.Key;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
+import io.quarkus.cache.runtime.CacheResultBulkInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.metrics.CacheGauge;
+import io.quarkus.cache.runtime.tiered.RemoteCacheStore;
+import io.quarkus.cache.runtime.tiered.TieredCacheBuildRecorder;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 
 class CacheProcessor {
 
@@ -54,18 +75,35 @@ class CacheProcessor {
         return Arrays.asList(
                 new AdditionalBeanBuildItem(CacheInvalidateAllInterceptor.class),
                 new AdditionalBeanBuildItem(CacheInvalidateInterceptor.class),
-                new AdditionalBeanBuildItem(CacheResultInterceptor.class));
+                new AdditionalBeanBuildItem(CacheResultInterceptor.class),
+                new AdditionalBeanBuildItem(CacheResultBulkInterceptor.class));
     }
 
     @BuildStep
-    ValidationErrorBuildItem validateBeanDeployment(ValidationPhaseBuildItem validationPhase) {
+    void unremovableBeans(CacheConfig config, BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        if (CacheDeploymentConstants.TIERED_CACHE_TYPE.equals(config.type)) {
+            // The remote store is looked up programmatically by the tiered caches.
+            unremovableBeans.produce(new UnremovableBeanBuildItem(
+                    new BeanTypeExclusion(DotName.createSimple(RemoteCacheStore.class.getName()))));
+        }
+    }
+
+    @BuildStep
+    ValidationErrorBuildItem validateBeanDeployment(ValidationPhaseBuildItem validationPhase, CacheConfig config) {
         AnnotationStore annotationStore = validationPhase.getContext().get(Key.ANNOTATION_STORE);
+        Set<String> refreshedCacheNames = new HashSet<>();
+        config.caffeine.namespace.forEach((cacheName, namespaceConfig) -> {
+            if (namespaceConfig.refreshAfterWrite.isPresent()) {
+                refreshedCacheNames.add(cacheName);
+            }
+        });
         List<Throwable> throwables = new ArrayList<>();
         for (BeanInfo bean : validationPhase.getContext().get(Key.BEANS)) {
             if (bean.isClassBean()) {
                 for (MethodInfo method : bean.getTarget().get().asClass().methods()) {
                     if (annotationStore.hasAnyAnnotation(method, API_METHODS_ANNOTATIONS)) {
-                        CacheMethodValidator.validateAnnotations(annotationStore, bean, method, throwables);
+                        CacheMethodValidator.validateAnnotations(annotationStore, bean, method, refreshedCacheNames,
+                                throwables);
                     }
                 }
             }
@@ -73,21 +111,116 @@ class CacheProcessor {
         return new ValidationErrorBuildItem(throwables.toArray(new Throwable[0]));
     }
 
+    @BuildStep
+    void generateCacheKeyFactories(BeanArchiveIndexBuildItem beanArchiveIndex,
+            BuildProducer<GeneratedClassBuildItem> generatedClass, BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
+        // A method may be annotated with several caching annotations but a single factory is generated for it.
+        Set<MethodInfo> cachedMethods = new HashSet<>();
+        for (DotName cacheAnnotation : Arrays.asList(CACHE_RESULT, CACHE_INVALIDATE, CACHE_INVALIDATE_LIST)) {
+            for (AnnotationInstance annotation : beanArchiveIndex.getIndex().getAnnotations(cacheAnnotation)) {
+                if (annotation.target().kind() == METHOD && !annotation.target().asMethod().parameters().isEmpty()) {
+                    cachedMethods.add(annotation.target().asMethod());
+                }
+            }
+        }
+        Set<Integer> compositeKeySizes = new TreeSet<>();
+        for (MethodInfo method : cachedMethods) {
+            String factoryClass = CacheKeyFactoryGenerator.generateFactory(method, classOutput, compositeKeySizes);
+            // The factories are instantiated reflectively the first time they are used.
+            reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, factoryClass));
+        }
+        for (Integer size : compositeKeySizes) {
+            CacheKeyFactoryGenerator.generateCompositeKey(size, classOutput);
+        }
+    }
+
     @BuildStep
     @Record(STATIC_INIT)
     void recordCachesBuild(CombinedIndexBuildItem combinedIndex, BeanContainerBuildItem beanContainer, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder) {
+            CaffeineCacheBuildRecorder caffeineRecorder, TieredCacheBuildRecorder tieredRecorder) {
         Set<String> cacheNames = getCacheNames(combinedIndex.getIndex());
         switch (config.type) {
             case CacheDeploymentConstants.CAFFEINE_CACHE_TYPE:
                 Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config);
                 caffeineRecorder.buildCaches(beanContainer.getValue(), cacheInfos);
                 break;
+            case CacheDeploymentConstants.TIERED_CACHE_TYPE:
+                // The near caches are configured with the Caffeine properties.
+                Set<CaffeineCacheInfo> nearCacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config);
+                tieredRecorder.buildCaches(beanContainer.getValue(), nearCacheInfos, config.tiered.remoteTimeout.toMillis());
+                break;
             default:
                 throw new DeploymentException("Unknown cache type: " + config.type);
         }
     }
 
+    @BuildStep
+    void registerMetrics(CombinedIndexBuildItem combinedIndex, CacheConfig config, BuildProducer<MetricBuildItem> metrics) {
+        Metadata hitsMetadata = Metadata.builder()
+                .withName("cache.hits")
+                .withDescription("Number of times a cache lookup returned a cached value.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata missesMetadata = Metadata.builder()
+                .withName("cache.misses")
+                .withDescription("Number of times a cache lookup had to compute the value.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata hitRatioMetadata = Metadata.builder()
+                .withName("cache.hit.ratio")
+                .withDescription("Ratio of cache lookups that returned a cached value.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata evictionsMetadata = Metadata.builder()
+                .withName("cache.evictions")
+                .withDescription("Number of entries evicted from the cache.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata estimatedSizeMetadata = Metadata.builder()
+                .withName("cache.estimated.size")
+                .withDescription("Approximate number of entries in the cache.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata loadFailuresMetadata = Metadata.builder()
+                .withName("cache.load.failures")
+                .withDescription("Number of times the computation of a value failed.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata loadTimeAverageMetadata = Metadata.builder()
+                .withName("cache.load.time.average")
+                .withDescription("Average time spent computing a value.")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata loadTimeTotalMetadata = Metadata.builder()
+                .withName("cache.load.time.total")
+                .withDescription("Total time spent computing values.")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withType(MetricType.GAUGE)
+                .build();
+        for (CaffeineCacheInfo cacheInfo : CaffeineCacheInfoBuilder.build(getCacheNames(combinedIndex.getIndex()), config)) {
+            if (!cacheInfo.metricsEnabled) {
+                continue;
+            }
+            String cacheName = cacheInfo.name;
+            Tag tag = new Tag("cache", cacheName);
+            metrics.produce(new MetricBuildItem(hitsMetadata, new CacheGauge(cacheName, "hitCount"), true, "cache", tag));
+            metrics.produce(new MetricBuildItem(missesMetadata, new CacheGauge(cacheName, "missCount"), true, "cache", tag));
+            metrics.produce(new MetricBuildItem(hitRatioMetadata, new CacheGauge(cacheName, "hitRate"), true, "cache", tag));
+            metrics.produce(new MetricBuildItem(evictionsMetadata, new CacheGauge(cacheName, "evictionCount"), true,
+                    "cache", tag));
+            metrics.produce(new MetricBuildItem(estimatedSizeMetadata, new CacheGauge(cacheName, "estimatedSize"), true,
+                    "cache", tag));
+            metrics.produce(new MetricBuildItem(loadFailuresMetadata, new CacheGauge(cacheName, "loadFailureCount"), true,
+                    "cache", tag));
+            metrics.produce(new MetricBuildItem(loadTimeAverageMetadata, new CacheGauge(cacheName, "averageLoadPenalty"),
+                    true, "cache", tag));
+            metrics.produce(new MetricBuildItem(loadTimeTotalMetadata, new CacheGauge(cacheName, "totalLoadTime"), true,
+                    "cache", tag));
+        }
+    }
+
     private Set<String> getCacheNames(IndexView index) {
         Set<String> cacheNames = new HashSet<>();
         for (DotName cacheAnnotation : API_METHODS_ANNOTATIONS) {
@@ -19,6 +19,9 @@ public class CaffeineCacheInfoBuilder {
                 namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
                 namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                 namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                cacheInfo.asyncValues = namespaceConfig.asyncValues;
+                cacheInfo.metricsEnabled = namespaceConfig.metricsEnabled;
             }
 
             return cacheInfo;
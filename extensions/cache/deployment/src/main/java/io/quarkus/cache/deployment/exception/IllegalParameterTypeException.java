@@ -0,0 +1,9 @@
+package io.quarkus.cache.deployment.exception;
+
+@SuppressWarnings("serial")
+public class IllegalParameterTypeException extends RuntimeException {
+
+    public IllegalParameterTypeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,47 @@
+package io.quarkus.cache.test.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Unremovable;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheRefreshAfterWriteScopeTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class).addAsResource(
+                    new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=1S"),
+                    "application.properties"))
+            .assertException(e -> {
+                assertEquals(DeploymentException.class, e.getClass());
+                assertEquals(IllegalStateException.class, e.getCause().getClass());
+            });
+
+    @Test
+    public void shouldNotBeInvoked() {
+        fail("This method should not be invoked");
+    }
+
+    @Unremovable
+    @RequestScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String shouldThrowDeploymentException(String key) {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheMetricsTest {
+
+    private static final String MONITORED_CACHE = "monitored-cache";
+    private static final String OTHER_CACHE = "other-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class).addAsResource(
+                    new StringAsset("quarkus.cache.caffeine.\"" + MONITORED_CACHE + "\".metrics-enabled=true"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testMetrics() {
+        cachedService.monitoredMethod("foo");
+        cachedService.monitoredMethod("foo");
+        cachedService.monitoredMethod("bar");
+        cachedService.otherMethod("foo");
+
+        assertEquals(1L, getGauge("cache.hits", MONITORED_CACHE).getValue().longValue());
+        assertEquals(2L, getGauge("cache.misses", MONITORED_CACHE).getValue().longValue());
+        assertEquals(2L, getGauge("cache.estimated.size", MONITORED_CACHE).getValue().longValue());
+        assertTrue(getGauge("cache.load.time.total", MONITORED_CACHE).getValue().longValue() > 0L);
+
+        // The statistics are not recorded for the caches without metrics.
+        assertFalse(registry.getGauges().containsKey(new MetricID("cache.hits", new Tag("cache", OTHER_CACHE))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Gauge<Number> getGauge(String name, String cacheName) {
+        return registry.getGauges().get(new MetricID(name, new Tag("cache", cacheName)));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = MONITORED_CACHE)
+        public String monitoredMethod(String key) {
+            return new String(key);
+        }
+
+        @CacheResult(cacheName = OTHER_CACHE)
+        public String otherMethod(String key) {
+            return new String(key);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheRefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class).addAsResource(
+                    new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=0.5S"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testRefresh() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        // Verified by: STEP 2.
+        String value1 = cachedService.cachedMethod("foo");
+
+        // STEP 2
+        // Action: same call as STEP 1 after the refresh delay.
+        // Expected effect: cached value returned and refresh triggered in the background.
+        // Verified by: same object reference between STEPS 1 and 2 results and STEP 3.
+        Thread.sleep(1000L);
+        assertTrue(value1 == cachedService.cachedMethod("foo"));
+
+        // STEP 3
+        // Action: same call as STEP 2 once the refresh is done.
+        // Expected effect: refreshed value returned.
+        // Verified by: different objects references between STEPS 2 and 3 results and invocations counter.
+        long deadline = System.currentTimeMillis() + 5000L;
+        String value3 = cachedService.cachedMethod("foo");
+        while (value3 == value1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            value3 = cachedService.cachedMethod("foo");
+        }
+        assertTrue(value1 != value3);
+        assertEquals(2, cachedService.getInvocations());
+        assertTrue(cachedService.isRequestContextActive());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        private final AtomicBoolean requestContextActive = new AtomicBoolean();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            requestContextActive.set(Arc.container().requestContext().isActive());
+            return new String(key + invocations.incrementAndGet());
+        }
+
+        public boolean isRequestContextActive() {
+            return requestContextActive.get();
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class CacheResultAsyncValuesTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class).addAsResource(
+                    new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".async-values=true"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testCompletionStage() throws InterruptedException, ExecutionException {
+        // STEP 1
+        // Action: concurrent @CacheResult-annotated method calls with the same key.
+        // Expected effect: method invoked once, calling thread not blocked and resolved value cached.
+        // Verified by: invocations counter and STEP 2.
+        CompletionStage<Object> completionStage1 = cachedService.completionStageMethod("foo");
+        CompletionStage<Object> completionStage2 = cachedService.completionStageMethod("foo");
+        assertFalse(completionStage1.toCompletableFuture().isDone());
+        assertTrue(completionStage1 != completionStage2);
+        Object value1 = completionStage1.toCompletableFuture().get();
+        assertTrue(value1 == completionStage2.toCompletableFuture().get());
+        assertEquals(1, cachedService.getCompletionStageInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: method not invoked and result coming from the cache.
+        // Verified by: same value object reference and invocations counter.
+        assertTrue(value1 == cachedService.completionStageMethod("foo").toCompletableFuture().get());
+        assertEquals(1, cachedService.getCompletionStageInvocations());
+    }
+
+    @Test
+    public void testFailedCompletionStageNotCached() throws InterruptedException, ExecutionException {
+        // STEP 1
+        // Action: @CacheResult-annotated method call completing exceptionally.
+        // Expected effect: the failure is propagated and nothing is cached.
+        // Verified by: STEP 2.
+        assertThrows(ExecutionException.class, () -> cachedService.failingMethod("bar").toCompletableFuture().get());
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: method invoked again.
+        // Verified by: invocations counter.
+        assertThrows(ExecutionException.class, () -> cachedService.failingMethod("bar").toCompletableFuture().get());
+        assertEquals(2, cachedService.getFailingInvocations());
+    }
+
+    @Test
+    public void testUni() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked on subscription and resolved value cached.
+        // Verified by: STEP 2.
+        Uni<Object> uni1 = cachedService.uniMethod("baz");
+        assertEquals(0, cachedService.getUniInvocations());
+        Object value1 = uni1.await().indefinitely();
+        assertEquals(1, cachedService.getUniInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: method not invoked and result coming from the cache.
+        // Verified by: same value object reference and invocations counter.
+        assertTrue(value1 == cachedService.uniMethod("baz").await().indefinitely());
+        assertEquals(1, cachedService.getUniInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        private final AtomicInteger completionStageInvocations = new AtomicInteger();
+        private final AtomicInteger failingInvocations = new AtomicInteger();
+        private final AtomicInteger uniInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public CompletionStage<Object> completionStageMethod(String key) {
+            completionStageInvocations.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return new Object();
+            }, executorService);
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public CompletionStage<Object> failingMethod(String key) {
+            failingInvocations.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> {
+                throw new IllegalStateException();
+            }, executorService);
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Uni<Object> uniMethod(String key) {
+            return Uni.createFrom().item(() -> {
+                uniInvocations.incrementAndGet();
+                return new Object();
+            });
+        }
+
+        public int getCompletionStageInvocations() {
+            return completionStageInvocations.get();
+        }
+
+        public int getFailingInvocations() {
+            return failingInvocations.get();
+        }
+
+        public int getUniInvocations() {
+            return uniInvocations.get();
+        }
+    }
+}
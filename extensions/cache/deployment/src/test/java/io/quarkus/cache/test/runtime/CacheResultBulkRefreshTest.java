@@ -0,0 +1,102 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResultBulk;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheResultBulkRefreshTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class).addAsResource(
+                    new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=0.5S"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testConcurrentRefreshes() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResultBulk-annotated method call.
+        // Expected effect: method invoked once with both keys and results cached.
+        // Verified by: STEP 2.
+        Map<String, String> values1 = cachedService.bulkMethod(new HashSet<>(Arrays.asList("a", "b")));
+
+        // STEP 2
+        // Action: same call as STEP 1 after the refresh delay.
+        // Expected effect: cached values returned and both entries reloaded in the background at the same time.
+        // Verified by: same object references between STEPS 1 and 2 results and STEP 3.
+        Thread.sleep(1000L);
+        Map<String, String> values2 = cachedService.bulkMethod(new HashSet<>(Arrays.asList("a", "b")));
+        assertTrue(values1.get("a") == values2.get("a"));
+        assertTrue(values1.get("b") == values2.get("b"));
+
+        // STEP 3
+        // Action: same call as STEP 2 once the refreshes are done.
+        // Expected effect: each entry reloaded with its own key and still cached.
+        // Verified by: refreshed values and bulk invocations.
+        long deadline = System.currentTimeMillis() + 5000L;
+        Map<String, String> values3 = cachedService.bulkMethod(new HashSet<>(Arrays.asList("a", "b")));
+        while ((values3.get("a") == values1.get("a") || values3.get("b") == values1.get("b"))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            values3 = cachedService.bulkMethod(new HashSet<>(Arrays.asList("a", "b")));
+        }
+        assertTrue(values3.get("a").startsWith("a") && values3.get("a") != values1.get("a"));
+        assertTrue(values3.get("b").startsWith("b") && values3.get("b") != values1.get("b"));
+        List<Set<String>> invocations = cachedService.getBulkInvocations();
+        assertEquals(3, invocations.size());
+        assertEquals(new HashSet<>(Arrays.asList(new HashSet<>(Arrays.asList("a")), new HashSet<>(Arrays.asList("b")))),
+                new HashSet<>(invocations.subList(1, 3)));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final List<Set<String>> bulkInvocations = new CopyOnWriteArrayList<>();
+
+        @CacheResultBulk(cacheName = CACHE_NAME)
+        public Map<String, String> bulkMethod(Set<String> keys) {
+            bulkInvocations.add(new HashSet<>(keys));
+            // The invocation is slow enough for the two refreshes to overlap.
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, key + counter.incrementAndGet());
+            }
+            return values;
+        }
+
+        public List<Set<String>> getBulkInvocations() {
+            return bulkInvocations;
+        }
+    }
+}
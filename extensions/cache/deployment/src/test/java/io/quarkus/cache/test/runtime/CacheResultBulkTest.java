@@ -0,0 +1,107 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheResultBulk;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheResultBulkTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testBulkLoading() {
+        // STEP 1
+        // Action: @CacheResultBulk-annotated method call with an empty cache.
+        // Expected effect: method invoked with all the keys and results cached.
+        // Verified by: STEP 2.
+        Map<String, String> values1 = cachedService.bulkMethod(new HashSet<>(Arrays.asList("a", "b")));
+        assertEquals(2, values1.size());
+        assertEquals(Arrays.asList(new HashSet<>(Arrays.asList("a", "b"))), cachedService.getBulkInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1 with an additional key.
+        // Expected effect: method invoked with the missing key only.
+        // Verified by: same object references for the cached keys and bulk invocations.
+        Map<String, String> values2 = cachedService.bulkMethod(new HashSet<>(Arrays.asList("a", "b", "c")));
+        assertEquals(3, values2.size());
+        assertTrue(values1.get("a") == values2.get("a"));
+        assertTrue(values1.get("b") == values2.get("b"));
+        assertEquals(new HashSet<>(Arrays.asList("c")), cachedService.getBulkInvocations().get(1));
+
+        // STEP 3
+        // Action: @CacheResult-annotated method call on the same cache with a key loaded in STEP 2.
+        // Expected effect: method not invoked and the entry loaded in bulk returned.
+        // Verified by: same object reference between STEPS 2 and 3 results.
+        assertTrue(values2.get("c") == cachedService.singleMethod("c"));
+
+        // STEP 4
+        // Action: @CacheResultBulk-annotated method call with a key the method doesn't return any value for.
+        // Expected effect: key neither cached nor returned.
+        // Verified by: result and bulk invocations.
+        Map<String, String> values4 = cachedService.bulkMethod(new HashSet<>(Arrays.asList("a", "unknown")));
+        assertFalse(values4.containsKey("unknown"));
+        cachedService.bulkMethod(new HashSet<>(Arrays.asList("unknown")));
+        assertEquals(4, cachedService.getBulkInvocations().size());
+
+        // STEP 5
+        // Action: @CacheResultBulk-annotated method call with only cached keys.
+        // Expected effect: method not invoked.
+        // Verified by: bulk invocations.
+        cachedService.bulkMethod(new HashSet<>(Arrays.asList("a", "b", "c")));
+        assertEquals(4, cachedService.getBulkInvocations().size());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<Set<String>> bulkInvocations = new ArrayList<>();
+
+        @CacheResultBulk(cacheName = CACHE_NAME)
+        public Map<String, String> bulkMethod(Set<String> keys) {
+            bulkInvocations.add(new HashSet<>(keys));
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                if (!key.equals("unknown")) {
+                    values.put(key, new String(key));
+                }
+            }
+            return values;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String singleMethod(String key) {
+            return new String(key);
+        }
+
+        public List<Set<String>> getBulkInvocations() {
+            return bulkInvocations;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.MethodInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.deployment.CacheKeyFactoryGenerator;
+import io.quarkus.cache.runtime.CacheKeyBuilder;
+import io.quarkus.cache.runtime.CacheKeyFactory;
+import io.quarkus.gizmo.ClassOutput;
+
+/**
+ * Tests the cache keys built by the {@link CacheKeyFactory} implementations generated at build time, without starting an
+ * application.
+ */
+public class GeneratedCacheKeyFactoryTest {
+
+    private static final Map<String, CacheKeyFactory> FACTORIES = new HashMap<>();
+
+    @BeforeAll
+    public static void generateFactories() throws Exception {
+        Indexer indexer = new Indexer();
+        try (InputStream in = KeyMethods.class.getClassLoader()
+                .getResourceAsStream(KeyMethods.class.getName().replace('.', '/') + ".class")) {
+            indexer.index(in);
+        }
+        ClassInfo clazz = indexer.complete().getClassByName(DotName.createSimple(KeyMethods.class.getName()));
+
+        TestClassLoader classLoader = new TestClassLoader(GeneratedCacheKeyFactoryTest.class.getClassLoader());
+        Map<String, String> factoryClasses = new HashMap<>();
+        Set<Integer> compositeKeySizes = new TreeSet<>();
+        for (MethodInfo method : clazz.methods()) {
+            if (!method.parameters().isEmpty()) {
+                factoryClasses.put(method.name(),
+                        CacheKeyFactoryGenerator.generateFactory(method, classLoader, compositeKeySizes));
+            }
+        }
+        for (Integer size : compositeKeySizes) {
+            CacheKeyFactoryGenerator.generateCompositeKey(size, classLoader);
+        }
+        for (Map.Entry<String, String> entry : factoryClasses.entrySet()) {
+            FACTORIES.put(entry.getKey(),
+                    (CacheKeyFactory) classLoader.loadClass(entry.getValue()).getDeclaredConstructor().newInstance());
+        }
+    }
+
+    @Test
+    public void testNullKey() {
+        NullPointerException e = assertThrows(NullPointerException.class, () -> {
+            create("simple", (Object) null);
+        });
+        assertEquals(CacheKeyBuilder.NULL_KEYS_NOT_SUPPORTED_MSG, e.getMessage());
+    }
+
+    @Test
+    public void testDefaultKey() {
+        // Methods without parameters have no generated factory, they use the default key of the cache.
+        assertEquals(CacheKeyBuilder.buildDefault("foo"), CacheKeyBuilder.buildDefault("foo"));
+        assertNotEquals(CacheKeyBuilder.buildDefault("foo"), CacheKeyBuilder.buildDefault("bar"));
+    }
+
+    @Test
+    public void testSimpleKey() {
+        String keyElement = "quarkus";
+
+        // A cache key with one element should be the element itself (same object reference).
+        Object simpleKey1 = create("simple", keyElement);
+        assertTrue(keyElement == simpleKey1);
+
+        // A cache key built from the only @CacheKey-annotated parameter should also be the element itself.
+        Object simpleKey2 = create("simpleWithCacheKey", new Object(), keyElement);
+        assertTrue(simpleKey1 == simpleKey2);
+
+        // Two cache keys built from different single elements should not be equal.
+        Object simpleKey3 = create("simple", Boolean.valueOf("true"));
+        assertNotEquals(simpleKey2, simpleKey3);
+    }
+
+    @Test
+    public void testCompositeKey() {
+        String keyElement1 = "quarkus";
+        long keyElement2 = 123L;
+        Object keyElement3 = new Object();
+
+        // Two cache keys built from the same elements and in the same order should be equal.
+        Object compositeKey1 = create("composite", keyElement1, keyElement2, keyElement3);
+        Object compositeKey2 = create("composite", keyElement1, keyElement2, keyElement3);
+        assertEquals(compositeKey1, compositeKey2);
+        assertEquals(compositeKey1.hashCode(), compositeKey2.hashCode());
+
+        // Two cache keys built by different methods from the same elements and in the same order should be equal.
+        Object compositeKey3 = create("compositeWithCacheKey", keyElement1, new Object(), keyElement2, keyElement3);
+        assertEquals(compositeKey2, compositeKey3);
+
+        // Two cache keys built from the same elements but not in the same order should not be equal.
+        Object compositeKey4 = create("composite", keyElement2, keyElement1, keyElement3);
+        assertNotEquals(compositeKey2, compositeKey4);
+
+        // Two cache keys built from a different number of elements should not be equal.
+        Object compositeKey5 = create("compositeOfSix", keyElement1, keyElement2, keyElement3, keyElement1, keyElement2,
+                keyElement3);
+        assertNotEquals(compositeKey2, compositeKey5);
+
+        // Two cache keys built from multiple elements should only be equal if all elements are equal pairwise.
+        Object compositeKey6 = create("composite", new AtomicInteger(456), keyElement2, keyElement3);
+        assertNotEquals(compositeKey2, compositeKey6);
+        Object compositeKey7 = create("composite", keyElement1, new Object(), keyElement3);
+        assertNotEquals(compositeKey2, compositeKey7);
+        Object compositeKey8 = create("composite", keyElement1, keyElement2, new BigDecimal(10));
+        assertNotEquals(compositeKey2, compositeKey8);
+    }
+
+    @Test
+    public void testCompositeKeyWithArrays() {
+        // Array elements are compared by content.
+        Object compositeKey1 = create("composite", new String[] { "foo", "bar" }, 1, new int[] { 1, 2 });
+        Object compositeKey2 = create("composite", new String[] { "foo", "bar" }, 1, new int[] { 1, 2 });
+        assertEquals(compositeKey1, compositeKey2);
+        assertEquals(compositeKey1.hashCode(), compositeKey2.hashCode());
+        Object compositeKey3 = create("composite", new String[] { "foo", "baz" }, 1, new int[] { 1, 2 });
+        assertNotEquals(compositeKey2, compositeKey3);
+    }
+
+    private static Object create(String method, Object... methodParameterValues) {
+        return FACTORIES.get(method).create(methodParameterValues);
+    }
+
+    static class KeyMethods {
+
+        public String simple(String keyElement) {
+            return null;
+        }
+
+        public String simpleWithCacheKey(Object notPartOfTheKey, @CacheKey String keyElement) {
+            return null;
+        }
+
+        public String composite(Object keyElement1, Object keyElement2, Object keyElement3) {
+            return null;
+        }
+
+        public void compositeWithCacheKey(@CacheKey Object keyElement1, Object notPartOfTheKey,
+                @CacheKey Object keyElement2, @CacheKey Object keyElement3) {
+        }
+
+        public String compositeOfSix(Object keyElement1, Object keyElement2, Object keyElement3, Object keyElement4,
+                Object keyElement5, Object keyElement6) {
+            return null;
+        }
+    }
+
+    static class TestClassLoader extends ClassLoader implements ClassOutput {
+
+        private final Map<String, byte[]> classes = new HashMap<>();
+
+        TestClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public void write(String name, byte[] data) {
+            classes.put(name.replace('/', '.'), data);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.get(name);
+            if (data == null) {
+                return super.findClass(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+    }
+}
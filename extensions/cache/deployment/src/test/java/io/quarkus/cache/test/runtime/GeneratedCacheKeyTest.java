@@ -0,0 +1,104 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the cache keys built by the factories generated at build time.<br>
+ * The {@link CacheKey @CacheKey}-annotated arguments are not the first arguments of the methods and are declared at different
+ * positions in the {@link CacheResult @CacheResult} and {@link CacheInvalidate @CacheInvalidate} methods.
+ */
+public class GeneratedCacheKeyTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testKeyElementsPositions() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        // Verified by: STEP 2.
+        String value1 = cachedService.cachedMethod(new Object(), "foo", 1);
+
+        // STEP 2
+        // Action: same call as STEP 1 with a different argument which is not part of the key.
+        // Expected effect: method not invoked and result coming from the cache.
+        // Verified by: same object reference between STEPS 1 and 2 results.
+        String value2 = cachedService.cachedMethod(new Object(), "foo", 1);
+        assertTrue(value1 == value2);
+
+        // STEP 3
+        // Action: @CacheInvalidate-annotated method call with the same key elements at other positions.
+        // Expected effect: cache entry removed.
+        // Verified by: STEP 4.
+        cachedService.invalidate("foo", new Object(), new Object(), 1);
+
+        // STEP 4
+        // Action: same call as STEP 2.
+        // Expected effect: method invoked because of STEP 3 and result cached.
+        // Verified by: different objects references between STEPS 2 and 4 results.
+        String value4 = cachedService.cachedMethod(new Object(), "foo", 1);
+        assertTrue(value2 != value4);
+    }
+
+    @Test
+    public void testArrayKeyElements() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call with an array key element.
+        // Expected effect: method invoked and result cached.
+        // Verified by: STEP 2.
+        String value1 = cachedService.cachedMethodWithArray(new String[] { "foo", "bar" }, 1);
+
+        // STEP 2
+        // Action: same call as STEP 1 with a different array instance with the same content.
+        // Expected effect: method not invoked and result coming from the cache.
+        // Verified by: same object reference between STEPS 1 and 2 results.
+        String value2 = cachedService.cachedMethodWithArray(new String[] { "foo", "bar" }, 1);
+        assertTrue(value1 == value2);
+
+        // STEP 3
+        // Action: same call as STEP 2 with a different array content.
+        // Expected effect: method invoked and result cached.
+        // Verified by: different objects references between STEPS 2 and 3 results.
+        String value3 = cachedService.cachedMethodWithArray(new String[] { "foo", "baz" }, 1);
+        assertTrue(value2 != value3);
+    }
+
+    @Dependent
+    static class CachedService {
+
+        private static final String CACHE_NAME = "test-cache";
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(Object notPartOfTheKey, @CacheKey String keyElement1, @CacheKey int keyElement2) {
+            return new String();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(@CacheKey String keyElement1, Object notPartOfTheKey1, Object notPartOfTheKey2,
+                @CacheKey int keyElement2) {
+        }
+
+        @CacheResult(cacheName = CACHE_NAME + "-array")
+        public String cachedMethodWithArray(String[] keyElement1, int keyElement2) {
+            return new String();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.cache.test.tiered;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheResultBulk;
+import io.quarkus.cache.runtime.tiered.RemoteCacheStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TieredCacheRemoteTimeoutTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClasses(CachedService.class, UnresponsiveRemoteCacheStore.class)
+                    .addAsResource(new StringAsset("quarkus.cache.type=tiered\nquarkus.cache.tiered.remote-timeout=0.2S"),
+                            "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testLookupTimeout() throws Exception {
+        // The remote store never responds, the cached method is invoked once the timeout is exceeded.
+        assertEquals("foo1", cachedService.cachedMethod("foo"));
+        assertEquals("bar2", cachedService.cachedAsyncMethod("bar").toCompletableFuture().get(5L, TimeUnit.SECONDS));
+        Map<String, String> values = cachedService.cachedBulkMethod(Arrays.asList("baz", "qux"));
+        assertEquals(2, values.size());
+        assertTrue(values.get("baz").startsWith("baz"));
+        // The values are still cached in the near cache.
+        assertEquals("foo1", cachedService.cachedMethod("foo"));
+        assertEquals(4, cachedService.getInvocations());
+    }
+
+    @Test
+    public void testInvalidationTimeout() {
+        assertThrows(CompletionException.class, () -> cachedService.invalidate("foo"));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return key + invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public CompletionStage<String> cachedAsyncMethod(String key) {
+            return CompletableFuture.completedFuture(key + invocations.incrementAndGet());
+        }
+
+        @CacheResultBulk(cacheName = CACHE_NAME)
+        public Map<String, String> cachedBulkMethod(List<String> keys) {
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, key + invocations.incrementAndGet());
+            }
+            return values;
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+
+    @ApplicationScoped
+    static class UnresponsiveRemoteCacheStore implements RemoteCacheStore {
+
+        @Override
+        public CompletionStage<Object> get(String cacheName, Object key) {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public CompletionStage<Void> put(String cacheName, Object key, Object value) {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public CompletionStage<Void> invalidate(String cacheName, Object key) {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public CompletionStage<Void> invalidateAll(String cacheName) {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public void addInvalidationListener(String cacheName, InvalidationListener listener) {
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package io.quarkus.cache.test.tiered;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.tiered.RemoteCacheStore;
+import io.quarkus.cache.runtime.tiered.TieredCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TieredCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClasses(CachedService.class, InMemoryRemoteCacheStore.class)
+                    .addAsResource(new StringAsset("quarkus.cache.type=tiered"), "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    InMemoryRemoteCacheStore remoteStore;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testRemoteStore() {
+        assertTrue(cacheRepository.getCache(CACHE_NAME) instanceof TieredCache);
+
+        // STEP 1
+        // Action: @CacheResult-annotated method call with a key already stored remotely by another node.
+        // Expected effect: method not invoked and result coming from the remote store.
+        // Verified by: same object reference as the remote value.
+        String remoteValue = new String("remote");
+        remoteStore.entries(CACHE_NAME).put("foo", remoteValue);
+        assertTrue(remoteValue == cachedService.cachedMethod("foo"));
+
+        // STEP 2
+        // Action: @CacheResult-annotated method call with a key missing from both levels.
+        // Expected effect: method invoked and result cached in both levels.
+        // Verified by: STEP 3 and remote store content.
+        String value2 = cachedService.cachedMethod("bar");
+        assertTrue(value2 == remoteStore.entries(CACHE_NAME).get("bar"));
+
+        // STEP 3
+        // Action: same call as STEP 2.
+        // Expected effect: method not invoked and result coming from the near cache.
+        // Verified by: same object reference between STEPS 2 and 3 results.
+        String value3 = cachedService.cachedMethod("bar");
+        assertTrue(value2 == value3);
+
+        // STEP 4
+        // Action: @CacheInvalidate-annotated method call.
+        // Expected effect: entry removed from both levels.
+        // Verified by: remote store content and STEP 5.
+        cachedService.invalidate("bar");
+        assertTrue(!remoteStore.entries(CACHE_NAME).containsKey("bar"));
+
+        // STEP 5
+        // Action: same call as STEP 3.
+        // Expected effect: method invoked because of STEP 4 and result cached.
+        // Verified by: different objects references between STEPS 3 and 5 results.
+        String value5 = cachedService.cachedMethod("bar");
+        assertTrue(value3 != value5);
+
+        // STEP 6
+        // Action: @CacheInvalidateAll-annotated method call.
+        // Expected effect: all entries removed from both levels.
+        // Verified by: remote store content.
+        cachedService.invalidateAll();
+        assertTrue(remoteStore.entries(CACHE_NAME).isEmpty());
+    }
+
+    @Test
+    public void testRemoteInvalidation() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached in both levels.
+        // Verified by: STEP 3.
+        String value1 = cachedService.cachedMethod("baz");
+
+        // STEP 2
+        // Action: another node invalidates the entry. The remote entry is replaced at the same time.
+        // Expected effect: entry removed from the near cache.
+        // Verified by: STEP 3.
+        String remoteValue = new String("remote");
+        remoteStore.entries(CACHE_NAME).put("baz", remoteValue);
+        remoteStore.sendInvalidation(CACHE_NAME, "baz");
+
+        // STEP 3
+        // Action: same call as STEP 1.
+        // Expected effect: method not invoked and result coming from the remote store.
+        // Verified by: same object reference as the remote value.
+        String value3 = cachedService.cachedMethod("baz");
+        assertTrue(value1 != value3);
+        assertTrue(remoteValue == value3);
+        assertEquals(1, remoteStore.listenersCount(CACHE_NAME));
+    }
+
+    @Dependent
+    static class CachedService {
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return new String();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        @CacheInvalidateAll(cacheName = CACHE_NAME)
+        public void invalidateAll() {
+        }
+    }
+
+    /**
+     * In-process stand-in for a remote store shared by the nodes of a cluster.
+     */
+    @ApplicationScoped
+    static class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+        private final Map<String, Map<Object, Object>> caches = new ConcurrentHashMap<>();
+        private final Map<String, List<InvalidationListener>> listeners = new ConcurrentHashMap<>();
+
+        @Override
+        public CompletionStage<Object> get(String cacheName, Object key) {
+            return CompletableFuture.completedFuture(entries(cacheName).get(key));
+        }
+
+        @Override
+        public CompletionStage<Void> put(String cacheName, Object key, Object value) {
+            entries(cacheName).put(key, value);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> invalidate(String cacheName, Object key) {
+            entries(cacheName).remove(key);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> invalidateAll(String cacheName) {
+            entries(cacheName).clear();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void addInvalidationListener(String cacheName, InvalidationListener listener) {
+            listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+        }
+
+        Map<Object, Object> entries(String cacheName) {
+            return caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+        }
+
+        void sendInvalidation(String cacheName, Object key) {
+            for (InvalidationListener listener : listeners.get(cacheName)) {
+                listener.onInvalidate(key);
+            }
+        }
+
+        int listenersCount(String cacheName) {
+            return listeners.get(cacheName).size();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+
+/**
+ * Bulk variant of {@link CacheResult} for methods loading several values at once. The annotated method must have a single
+ * parameter of type {@link java.util.Collection}, {@link java.util.List} or {@link java.util.Set} and return a
+ * {@link java.util.Map}. Each element of the collection argument is used as the cache key of the value associated with it in
+ * the returned map, which means the entries are shared with any {@link CacheResult}-annotated method of the same cache taking
+ * a single element as its argument.
+ * <p>
+ * When a method annotated with {@link CacheResultBulk} is invoked, the values of the elements already cached are retrieved from
+ * the cache and the annotated method is only invoked once, with a collection containing the missing elements only. The values
+ * it returns are stored in the cache and merged with the cached values. An element with no associated value in the returned
+ * map is not cached and is missing from the map returned to the caller. If all the elements are cached, the annotated method
+ * is not invoked at all.
+ * <p>
+ * Concurrent invocations loading the same missing elements share a single method invocation for these elements. This
+ * annotation cannot be combined with {@link CacheResult} on a single method.
+ * <p>
+ * The underlying caching provider can be chosen and configured in the Quarkus {@link application.properties} file.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheResultBulk {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
@@ -0,0 +1,76 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Base class of the caches used by the caching interceptors. Each value of the {@code quarkus.cache.type} configuration
+ * property is backed by an implementation of this class.
+ */
+public abstract class AbstractCache {
+
+    /**
+     * @return the cache name
+     */
+    public abstract String getName();
+
+    /**
+     * @return the unique key used by the methods without parameters
+     */
+    public abstract Object getDefaultKey();
+
+    /**
+     * @return {@code true} if the values produced by methods returning {@link CompletionStage} or {@code Uni} are cached
+     *         instead of the asynchronous types themselves
+     */
+    public abstract boolean isAsyncValues();
+
+    /**
+     * Retrieves the value associated with the given key. If the key is missing, the value loader is invoked and its result is
+     * stored in the cache.
+     *
+     * @param key cache key
+     * @param valueLoader value loader
+     * @param lockTimeout delay in milliseconds before the lock on cache miss is interrupted, {@code 0} means no timeout
+     * @return the cached value
+     * @throws Exception if the value loader fails
+     */
+    public abstract Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception;
+
+    /**
+     * Retrieves the value associated with the given key without blocking the calling thread. If the key is missing, the
+     * asynchronous value loader is invoked and the value it completes with is stored in the cache.
+     *
+     * @param key cache key
+     * @param valueLoader asynchronous value loader
+     * @return a new {@link CompletionStage} completed with the cached value
+     */
+    public abstract CompletionStage<Object> getAsync(Object key, Supplier<CompletionStage<Object>> valueLoader);
+
+    /**
+     * Retrieves the values associated with the given keys. The value loader is invoked once with all the missing keys and the
+     * entries it returns are stored in the cache. A missing key which is not part of the value loader result is not cached.
+     *
+     * @param keys cache keys
+     * @param valueLoader value loader of the missing keys
+     * @return the cached values, in the iteration order of the given keys
+     */
+    public abstract Map<Object, Object> getAll(Collection<?> keys, Function<Set<Object>, Map<?, ?>> valueLoader);
+
+    /**
+     * Removes the entry associated with the given key.
+     *
+     * @param key cache key
+     */
+    public abstract void invalidate(Object key);
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public abstract void invalidateAll();
+}
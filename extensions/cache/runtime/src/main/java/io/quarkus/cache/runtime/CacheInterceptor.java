@@ -2,7 +2,6 @@ package io.quarkus.cache.runtime;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -15,6 +14,18 @@ public abstract class CacheInterceptor {
 
     public static final int BASE_PRIORITY = Priority.PLATFORM_BEFORE;
 
+    // The cache key factories are generated at build time and only instantiated once.
+    private static final ClassValue<CacheKeyFactory> CACHE_KEY_FACTORIES = new ClassValue<CacheKeyFactory>() {
+        @Override
+        protected CacheKeyFactory computeValue(Class<?> type) {
+            try {
+                return (CacheKeyFactory) type.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to instantiate the cache key factory " + type.getName(), e);
+            }
+        }
+    };
+
     @Inject
     CacheRepository cacheRepository;
 
@@ -29,27 +40,24 @@ public abstract class CacheInterceptor {
         return bindings;
     }
 
+    @SuppressWarnings("unchecked")
     protected <T> T getInterceptorBinding(InvocationContext context, Class<T> bindingClass) {
-        return getInterceptorBindings(context, bindingClass).get(0);
+        for (Annotation binding : InterceptorBindings.getInterceptorBindings(context)) {
+            if (bindingClass.isInstance(binding)) {
+                return (T) binding;
+            }
+        }
+        throw new IllegalStateException("Interceptor binding not found: " + bindingClass.getName());
     }
 
-    protected Object buildCacheKey(String cacheName, short[] cacheKeyParameterPositions, Object[] methodParameterValues) {
-        // If the method doesn't have any parameter, then a unique default key is generated and used.
+    protected Object buildCacheKey(AbstractCache cache, Class<? extends CacheKeyFactory> cacheKeyFactory,
+            Object[] methodParameterValues) {
+        // If the method doesn't have any parameter, then the unique default key of the cache is used.
         if (methodParameterValues.length == 0) {
-            return CacheKeyBuilder.buildDefault(cacheName);
+            return cache.getDefaultKey();
         } else {
-            List<Object> keyElements = new ArrayList<>();
-            // If at least one of the method parameters is annotated with @CacheKey, then the key is composed of all
-            // @CacheKey-annotated parameters that were identified at build time.
-            if (cacheKeyParameterPositions.length > 0) {
-                for (int i = 0; i < cacheKeyParameterPositions.length; i++) {
-                    keyElements.add(methodParameterValues[i]);
-                }
-            } else {
-                // Otherwise, the key is composed of all of the method parameters.
-                keyElements.addAll(Arrays.asList(methodParameterValues));
-            }
-            return CacheKeyBuilder.build(keyElements);
+            // Otherwise, the key is built by the factory generated at build time for the method.
+            return CACHE_KEY_FACTORIES.get(cacheKeyFactory).create(methodParameterValues);
         }
     }
 }
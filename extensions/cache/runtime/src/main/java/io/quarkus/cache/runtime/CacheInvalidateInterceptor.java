@@ -7,8 +7,6 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @CacheInvalidateInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY + 1)
@@ -21,10 +19,13 @@ public class CacheInvalidateInterceptor extends CacheInterceptor {
         Object key = null;
         for (CacheInvalidateInterceptorBinding binding : getInterceptorBindings(context,
                 CacheInvalidateInterceptorBinding.class)) {
-            if (key == null) {
-                key = buildCacheKey(binding.cacheName(), binding.cacheKeyParameterPositions(), context.getParameters());
+            AbstractCache cache = cacheRepository.getCache(binding.cacheName());
+            if (context.getParameters().length == 0) {
+                // The default key is specific to each cache.
+                key = cache.getDefaultKey();
+            } else if (key == null) {
+                key = buildCacheKey(cache, binding.cacheKeyFactory(), context.getParameters());
             }
-            CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf("Invalidating entry with key [%s] from cache [%s]", key, cache.getName());
             }
@@ -21,7 +21,7 @@ public @interface CacheInvalidateInterceptorBinding {
     String cacheName() default "";
 
     @Nonbinding
-    short[] cacheKeyParameterPositions() default {};
+    Class<? extends CacheKeyFactory> cacheKeyFactory() default CacheKeyFactory.class;
 
     @Retention(RetentionPolicy.RUNTIME)
     @Target(ElementType.METHOD)
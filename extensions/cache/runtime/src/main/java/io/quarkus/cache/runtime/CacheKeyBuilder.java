@@ -1,7 +1,6 @@
 package io.quarkus.cache.runtime;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 
 public class CacheKeyBuilder {
@@ -21,22 +20,44 @@ public class CacheKeyBuilder {
     }
 
     /**
-     * Builds a cache key from a list of key elements. The list must be non-null and contain at least one key element.
-     * 
-     * @param keyElements key elements
-     * @return cache key
+     * Checks that a single element cache key is not {@code null}. This method is called from the generated
+     * {@link CacheKeyFactory} implementations.
+     *
+     * @param keyElement key element
+     * @return the key element
      */
-    public static Object build(List<Object> keyElements) {
-        if (keyElements == null || keyElements.isEmpty()) {
-            throw new IllegalArgumentException("At least one key element is required to build a cache key");
-        } else if (keyElements.size() == 1) {
-            if (keyElements.get(0) == null) {
-                throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
-            }
-            return keyElements.get(0);
+    public static Object requireNonNullKey(Object keyElement) {
+        if (keyElement == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return keyElement;
+    }
+
+    /**
+     * Combines a partial hash code with the hash code of a composite key element. Arrays are hashed from their content, as
+     * {@link Arrays#deepHashCode(Object[])} does. This method is called from the generated composite cache keys.
+     *
+     * @param hashCode partial hash code
+     * @param keyElement key element
+     * @return combined hash code
+     */
+    public static int combineHashCode(int hashCode, Object keyElement) {
+        int elementHashCode;
+        if (keyElement != null && keyElement.getClass().isArray()) {
+            elementHashCode = Arrays.deepHashCode(new Object[] { keyElement });
         } else {
-            return new CompositeCacheKey(keyElements);
+            elementHashCode = Objects.hashCode(keyElement);
         }
+        return 31 * hashCode + elementHashCode;
+    }
+
+    /**
+     * This method is called from the generated composite cache keys.
+     *
+     * @return {@code true} if both objects are instances of the same class
+     */
+    public static boolean isSameClass(Object key, Object other) {
+        return other != null && key.getClass() == other.getClass();
     }
 
     private static class DefaultCacheKey {
@@ -64,30 +85,4 @@ public class CacheKeyBuilder {
             return false;
         }
     }
-
-    private static class CompositeCacheKey {
-
-        private final Object[] keyElements;
-
-        public CompositeCacheKey(List<Object> keyElements) {
-            this.keyElements = keyElements.toArray(new Object[0]);
-        }
-
-        @Override
-        public int hashCode() {
-            return Arrays.deepHashCode(keyElements);
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (obj == this) {
-                return true;
-            }
-            if (CompositeCacheKey.class.isInstance(obj)) {
-                final CompositeCacheKey other = (CompositeCacheKey) obj;
-                return Arrays.deepEquals(keyElements, other.keyElements);
-            }
-            return false;
-        }
-    }
 }
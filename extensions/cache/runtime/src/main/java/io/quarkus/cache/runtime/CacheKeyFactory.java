@@ -0,0 +1,19 @@
+package io.quarkus.cache.runtime;
+
+/**
+ * Builds the cache key of a method annotated with {@link io.quarkus.cache.CacheResult CacheResult} or
+ * {@link io.quarkus.cache.CacheInvalidate CacheInvalidate}. An implementation is generated at build time for each of these
+ * methods with at least one parameter. The positions of the key elements among the method parameters are hard-coded into
+ * the generated implementation and keys made of several elements are instances of classes generated for each required number
+ * of elements, with a hash code computed once when the key is created.
+ */
+public interface CacheKeyFactory {
+
+    /**
+     * Builds a cache key from the method parameters values.
+     *
+     * @param methodParameterValues method parameters values
+     * @return cache key
+     */
+    Object create(Object[] methodParameterValues);
+}
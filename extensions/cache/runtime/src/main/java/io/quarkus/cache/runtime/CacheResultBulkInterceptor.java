@@ -0,0 +1,69 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+@CacheResultBulkInterceptorBinding
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class CacheResultBulkInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheResultBulkInterceptor.class);
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        CacheResultBulkInterceptorBinding binding = getInterceptorBinding(context, CacheResultBulkInterceptorBinding.class);
+        AbstractCache cache = cacheRepository.getCache(binding.cacheName());
+        // The build time validation guarantees that the method has a single collection parameter.
+        Collection<?> keys = (Collection<?>) context.getParameters()[0];
+        for (Object key : keys) {
+            CacheKeyBuilder.requireNonNullKey(key);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf("Loading entries with keys %s from cache [%s]", keys, cache.getName());
+        }
+        return cache.getAll(keys, new MissingKeysLoader(context, keys instanceof Set));
+    }
+
+    /**
+     * When refresh after write is enabled, the loader is kept by the cached entries and each of them is reloaded separately,
+     * possibly at the same time as another entry loaded by the same invocation. The invocation context is shared by these
+     * reloads, so setting the parameters and proceeding must not be interleaved.
+     */
+    private static class MissingKeysLoader implements Function<Set<Object>, Map<?, ?>> {
+
+        private final InvocationContext context;
+        private final boolean setParameter;
+
+        public MissingKeysLoader(InvocationContext context, boolean setParameter) {
+            this.context = context;
+            this.setParameter = setParameter;
+        }
+
+        @Override
+        public Map<?, ?> apply(Set<Object> missingKeys) {
+            // The method is invoked with the missing keys only, in a collection compatible with the declared parameter type.
+            Object[] parameters = new Object[] { setParameter ? missingKeys : new ArrayList<>(missingKeys) };
+            synchronized (context) {
+                context.setParameters(parameters);
+                try {
+                    return (Map<?, ?>) context.proceed();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.quarkus.cache.runtime;
 
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -7,8 +10,6 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @CacheResultInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY + 2)
@@ -19,11 +20,42 @@ public class CacheResultInterceptor extends CacheInterceptor {
     @AroundInvoke
     public Object intercept(InvocationContext context) throws Exception {
         CacheResultInterceptorBinding binding = getInterceptorBinding(context, CacheResultInterceptorBinding.class);
-        Object key = buildCacheKey(binding.cacheName(), binding.cacheKeyParameterPositions(), context.getParameters());
-        CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
+        AbstractCache cache = cacheRepository.getCache(binding.cacheName());
+        Object key = buildCacheKey(cache, binding.cacheKeyFactory(), context.getParameters());
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, cache.getName());
         }
+        if (cache.isAsyncValues()) {
+            switch (binding.returnType()) {
+                case COMPLETION_STAGE:
+                    return cache.getAsync(key, new CompletionStageSupplier(context));
+                case UNI:
+                    return UniCacheSupport.getAsync(cache, key, context);
+                default:
+                    break;
+            }
+        }
         return cache.get(key, () -> context.proceed(), binding.lockTimeout());
     }
+
+    private static class CompletionStageSupplier implements Supplier<CompletionStage<Object>> {
+
+        private final InvocationContext context;
+
+        public CompletionStageSupplier(InvocationContext context) {
+            this.context = context;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public CompletionStage<Object> get() {
+            try {
+                return (CompletionStage<Object>) context.proceed();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
 }
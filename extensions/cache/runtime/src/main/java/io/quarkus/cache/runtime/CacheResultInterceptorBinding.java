@@ -17,8 +17,20 @@ public @interface CacheResultInterceptorBinding {
     String cacheName() default "";
 
     @Nonbinding
-    short[] cacheKeyParameterPositions() default {};
+    Class<? extends CacheKeyFactory> cacheKeyFactory() default CacheKeyFactory.class;
 
     @Nonbinding
     long lockTimeout() default 0;
+
+    @Nonbinding
+    ReturnType returnType() default ReturnType.OTHER;
+
+    /**
+     * Kind of the cached method return type, computed at build time.
+     */
+    enum ReturnType {
+        COMPLETION_STAGE,
+        UNI,
+        OTHER
+    }
 }
@@ -0,0 +1,26 @@
+package io.quarkus.cache.runtime;
+
+import javax.interceptor.InvocationContext;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Mutiny is an optional dependency of this extension. This class must only be loaded when a cached method returns a
+ * {@link Uni}, which means that Mutiny is available.
+ */
+class UniCacheSupport {
+
+    @SuppressWarnings("unchecked")
+    static Uni<Object> getAsync(AbstractCache cache, Object key, InvocationContext context) {
+        // The cache lookup is deferred until the returned Uni is subscribed to.
+        return Uni.createFrom().completionStage(() -> cache.getAsync(key, () -> {
+            try {
+                return ((Uni<Object>) context.proceed()).subscribeAsCompletionStage();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }));
+    }
+}
@@ -4,21 +4,52 @@ import static io.quarkus.cache.runtime.NullValueConverter.fromCacheValue;
 import static io.quarkus.cache.runtime.NullValueConverter.toCacheValue;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheKeyBuilder;
+
+public class CaffeineCache extends AbstractCache {
 
-public class CaffeineCache {
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
+
+    /**
+     * The entries are reloaded on the same executor Caffeine uses by default, with the request context activated.
+     */
+    private static final Executor REFRESH_EXECUTOR = command -> ForkJoinPool.commonPool()
+            .execute(() -> runWithRequestContext(command));
 
     private AsyncCache<Object, Object> cache;
 
     private String name;
 
+    private Object defaultKey;
+
     private Integer initialCapacity;
 
     private Long maximumSize;
@@ -27,8 +58,15 @@ public class CaffeineCache {
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private boolean asyncValues;
+
+    private boolean metricsEnabled;
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
         this.name = cacheInfo.name;
+        this.defaultKey = CacheKeyBuilder.buildDefault(cacheInfo.name);
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
 
         if (cacheInfo.initialCapacity != null) {
@@ -47,12 +85,23 @@ public class CaffeineCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        this.asyncValues = cacheInfo.asyncValues;
+        if (cacheInfo.metricsEnabled) {
+            this.metricsEnabled = true;
+            builder.recordStats();
+        }
+        if (cacheInfo.refreshAfterWrite != null) {
+            // Caffeine only refreshes the entries of a loading cache, but the values of this cache are loaded by the
+            // intercepted invocations. Each cached entry carries its own reloader instead, see refreshIfNeeded.
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+        }
         cache = builder.buildAsync();
     }
 
+    @Override
     public Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception {
         if (lockTimeout <= 0) {
-            return fromCacheValue(cache.synchronous().get(key, k -> new MappingSupplier(valueLoader).get()));
+            return fromEntry(key, cache.synchronous().get(key, k -> new MappingSupplier(valueLoader).get()));
         }
 
         // The lock timeout logic starts here.
@@ -72,12 +121,12 @@ public class CaffeineCache {
         if (isCurrentThreadComputation[0]) {
             // The value is missing and its computation was started from the current thread.
             // We'll wait for the result no matter how long it takes.
-            return fromCacheValue(future.get());
+            return fromEntry(key, future.get());
         } else {
             // The value is either already present in the cache or missing and its computation was started from another thread.
             // We want to retrieve it from the cache within the lock timeout delay.
             try {
-                return fromCacheValue(future.get(lockTimeout, TimeUnit.MILLISECONDS));
+                return fromEntry(key, future.get(lockTimeout, TimeUnit.MILLISECONDS));
             } catch (TimeoutException e) {
                 // Timeout triggered! We don't want to wait any longer for the value computation and we'll simply invoke the
                 // cached method and return its result without caching it.
@@ -87,18 +136,185 @@ public class CaffeineCache {
         }
     }
 
+    @Override
+    public CompletionStage<Object> getAsync(Object key, Supplier<CompletionStage<Object>> valueLoader) {
+        return cache.get(key, (k, executor) -> loadAsync(valueLoader)).thenApply(entry -> fromEntry(key, entry));
+    }
+
+    private CompletableFuture<Object> loadAsync(Supplier<CompletionStage<Object>> valueLoader) {
+        CompletionStage<Object> stage;
+        try {
+            stage = valueLoader.get();
+        } catch (RuntimeException e) {
+            CompletableFuture<Object> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return stage.thenApply(value -> toEntry(value, executor -> CompletableFuture
+                .supplyAsync(() -> loadAsync(valueLoader), executor).thenCompose(Function.identity())))
+                .toCompletableFuture();
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys, Function<Set<Object>, Map<?, ?>> valueLoader) {
+        Map<Object, Object> entries;
+        try {
+            // Unlike the single entries, the missing entries are loaded from the calling thread.
+            entries = cache.getAll(keys, (missingKeys, executor) -> {
+                try {
+                    return CompletableFuture.completedFuture(loadAll(missingKeys, valueLoader));
+                } catch (RuntimeException e) {
+                    CompletableFuture<Map<Object, Object>> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(e);
+                    return failed;
+                }
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        Map<Object, Object> result = new LinkedHashMap<>();
+        for (Object key : keys) {
+            Object entry = entries.get(key);
+            if (entry != null) {
+                result.put(key, fromEntry(key, entry));
+            }
+        }
+        return result;
+    }
+
+    private Map<Object, Object> loadAll(Iterable<?> missingKeys, Function<Set<Object>, Map<?, ?>> valueLoader) {
+        Set<Object> keys = new LinkedHashSet<>();
+        missingKeys.forEach(keys::add);
+        Map<?, ?> values = valueLoader.apply(keys);
+        Map<Object, Object> entries = new HashMap<>();
+        if (values != null) {
+            for (Map.Entry<?, ?> value : values.entrySet()) {
+                Object key = value.getKey();
+                entries.put(key, toEntry(value.getValue(),
+                        executor -> CompletableFuture.supplyAsync(() -> reload(key, valueLoader), executor)));
+            }
+        }
+        return entries;
+    }
+
+    private Object reload(Object key, Function<Set<Object>, Map<?, ?>> valueLoader) {
+        Set<Object> keys = new LinkedHashSet<>();
+        keys.add(key);
+        Map<?, ?> values = valueLoader.apply(keys);
+        if (values == null || !values.containsKey(key)) {
+            // The entry is removed if the reloaded value is null.
+            return null;
+        }
+        return toEntry(values.get(key), executor -> CompletableFuture.supplyAsync(() -> reload(key, valueLoader), executor));
+    }
+
+    private Object toEntry(Object value, Function<Executor, CompletableFuture<Object>> reloader) {
+        Object cacheValue = toCacheValue(value);
+        return refreshAfterWrite == null ? cacheValue : new RefreshableValue(cacheValue, reloader);
+    }
+
+    private Object fromEntry(Object key, Object entry) {
+        if (entry instanceof RefreshableValue) {
+            refreshIfNeeded(key, (RefreshableValue) entry);
+            return fromCacheValue(((RefreshableValue) entry).value);
+        }
+        return fromCacheValue(entry);
+    }
+
+    /**
+     * Reloads the given entry in the background if it is older than the refresh delay. The entry is only replaced if it is
+     * still cached once the reload completes, so that an invalidation which happened in the meantime is not reverted. As with
+     * Caffeine's own refreshes, a failed reload is logged and retried on the next read while the current value is kept.
+     */
+    private void refreshIfNeeded(Object key, RefreshableValue entry) {
+        if (!entry.startRefresh(refreshAfterWrite.toNanos())) {
+            return;
+        }
+        CompletableFuture<Object> reload;
+        try {
+            reload = entry.reloader.apply(REFRESH_EXECUTOR);
+        } catch (RuntimeException e) {
+            reload = new CompletableFuture<>();
+            reload.completeExceptionally(e);
+        }
+        reload.whenComplete((reloaded, failure) -> {
+            CompletableFuture<Object> current = cache.getIfPresent(key);
+            if (current == null || !current.isDone() || current.isCompletedExceptionally() || current.join() != entry) {
+                // The entry was invalidated or replaced while it was reloaded.
+                return;
+            }
+            if (failure != null) {
+                LOGGER.warnf(failure, "Exception thrown while refreshing the entry with key [%s] of cache [%s]", key, name);
+                entry.refreshing.set(false);
+            } else if (reloaded == null) {
+                cache.asMap().remove(key, current);
+            } else {
+                cache.asMap().replace(key, current, CompletableFuture.completedFuture(reloaded));
+            }
+        });
+    }
+
+    private static void runWithRequestContext(Runnable command) {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container != null ? container.requestContext() : null;
+        if (requestContext == null || requestContext.isActive()) {
+            command.run();
+            return;
+        }
+        requestContext.activate();
+        try {
+            command.run();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Override
     public void invalidate(Object key) {
         cache.synchronous().invalidate(key);
     }
 
+    @Override
     public void invalidateAll() {
         cache.synchronous().invalidateAll();
     }
 
+    @Override
     public String getName() {
         return name;
     }
 
+    @Override
+    public Object getDefaultKey() {
+        return defaultKey;
+    }
+
+    @Override
+    public boolean isAsyncValues() {
+        return asyncValues;
+    }
+
+    /**
+     * @return a snapshot of the cache statistics, which are only recorded if the metrics are enabled for this cache
+     */
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    /**
+     * @return the approximate number of entries in the cache
+     */
+    public long getEstimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
     // For testing purposes only.
     public Integer getInitialCapacity() {
         return initialCapacity;
@@ -119,7 +335,12 @@ public class CaffeineCache {
         return expireAfterAccess;
     }
 
-    private static class MappingSupplier implements Supplier<Object> {
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    private class MappingSupplier implements Supplier<Object> {
 
         private final Callable<?> valueLoader;
 
@@ -130,7 +351,8 @@ public class CaffeineCache {
         @Override
         public Object get() {
             try {
-                return toCacheValue(valueLoader.call());
+                return toEntry(valueLoader.call(),
+                        executor -> CompletableFuture.supplyAsync(new MappingSupplier(valueLoader), executor));
             } catch (RuntimeException e) {
                 throw e;
             } catch (Exception e) {
@@ -138,4 +360,29 @@ public class CaffeineCache {
             }
         }
     }
+
+    /**
+     * Cache entry used when refresh after write is enabled. The value loader of the invocation which computed the entry is
+     * kept alongside the value so that it can be reloaded in the background while the current value is still served. The
+     * build time validation guarantees that the loader belongs to an application scoped or singleton bean.
+     */
+    private static class RefreshableValue {
+
+        private final Object value;
+
+        private final Function<Executor, CompletableFuture<Object>> reloader;
+
+        private final long writeTime = System.nanoTime();
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        public RefreshableValue(Object value, Function<Executor, CompletableFuture<Object>> reloader) {
+            this.value = value;
+            this.reloader = reloader;
+        }
+
+        boolean startRefresh(long refreshAfterWriteNanos) {
+            return System.nanoTime() - writeTime >= refreshAfterWriteNanos && refreshing.compareAndSet(false, true);
+        }
+    }
 }
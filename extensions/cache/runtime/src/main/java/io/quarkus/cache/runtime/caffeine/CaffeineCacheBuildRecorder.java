@@ -7,6 +7,7 @@ import java.util.Set;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.CacheRepository;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -17,14 +18,15 @@ public class CaffeineCacheBuildRecorder {
 
     public void buildCaches(BeanContainer beanContainer, Set<CaffeineCacheInfo> cacheInfos) {
         // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
-        Map<String, CaffeineCache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+        Map<String, AbstractCache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
 
         for (CaffeineCacheInfo cacheInfo : cacheInfos) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf(
-                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
+                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [refreshAfterWrite=%s], [asyncValues=%s] and [metricsEnabled=%s]",
                         cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
-                        cacheInfo.expireAfterAccess);
+                        cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite, cacheInfo.asyncValues,
+                        cacheInfo.metricsEnabled);
             }
             CaffeineCache cache = new CaffeineCache(cacheInfo);
             caches.put(cacheInfo.name, cache);
@@ -15,6 +15,12 @@ public class CaffeineCacheInfo {
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public boolean asyncValues;
+
+    public boolean metricsEnabled;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
@@ -0,0 +1,91 @@
+package io.quarkus.cache.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Gauge;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.tiered.TieredCache;
+
+public class CacheGauge implements Gauge<Number> {
+
+    private String cacheName;
+    private volatile CaffeineCache cache;
+    private String metric;
+
+    public CacheGauge() {
+
+    }
+
+    /**
+     * @param cacheName Which cache should be queried for metric
+     * @param metricName Name of the Caffeine statistic that should be retrieved. This has nothing to do with the metric name
+     *        from MP Metrics point of view!
+     */
+    public CacheGauge(String cacheName, String metricName) {
+        this.cacheName = cacheName;
+        this.metric = metricName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    private CaffeineCache getCache() {
+        CaffeineCache cacheLocal = cache;
+        if (cacheLocal == null) {
+            synchronized (this) {
+                cacheLocal = cache;
+                if (cacheLocal == null) {
+                    AbstractCache abstractCache = Arc.container().instance(CacheRepository.class).get().getCache(cacheName);
+                    if (abstractCache instanceof TieredCache) {
+                        // Only the near cache statistics are available.
+                        cacheLocal = ((TieredCache) abstractCache).getNearCache();
+                    } else {
+                        cacheLocal = (CaffeineCache) abstractCache;
+                    }
+                    cache = cacheLocal;
+                }
+            }
+        }
+        return cacheLocal;
+    }
+
+    @Override
+    public Number getValue() {
+        CaffeineCache caffeineCache = getCache();
+        switch (metric) {
+            case "hitCount":
+                return caffeineCache.getStats().hitCount();
+            case "missCount":
+                return caffeineCache.getStats().missCount();
+            case "hitRate":
+                return caffeineCache.getStats().hitRate();
+            case "evictionCount":
+                return caffeineCache.getStats().evictionCount();
+            case "loadFailureCount":
+                return caffeineCache.getStats().loadFailureCount();
+            case "averageLoadPenalty":
+                return caffeineCache.getStats().averageLoadPenalty();
+            case "totalLoadTime":
+                return caffeineCache.getStats().totalLoadTime();
+            case "estimatedSize":
+                return caffeineCache.getEstimatedSize();
+            default:
+                throw new IllegalArgumentException("Unknown cache metric");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.cache.runtime.tiered;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Remote store shared by all the nodes of a cluster, used as the second level of the tiered caches. An implementation of this
+ * interface has to be provided as a CDI bean when {@code quarkus.cache.type} is set to {@code tiered}.
+ * <p>
+ * The keys and values passed to the store are the ones used by the first level Caffeine caches. The store is responsible
+ * for marshalling them. {@code null} values are never stored.
+ */
+public interface RemoteCacheStore {
+
+    /**
+     * Retrieves a value from the remote store.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @return a {@link CompletionStage} completed with the value or with {@code null} if the key is missing
+     */
+    CompletionStage<Object> get(String cacheName, Object key);
+
+    /**
+     * Stores a value in the remote store.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @param value non-null value
+     * @return a {@link CompletionStage} completed once the value is stored
+     */
+    CompletionStage<Void> put(String cacheName, Object key, Object value);
+
+    /**
+     * Removes an entry from the remote store and notifies the invalidation listeners of all the other nodes of the cluster.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @return a {@link CompletionStage} completed once the entry is removed
+     */
+    CompletionStage<Void> invalidate(String cacheName, Object key);
+
+    /**
+     * Removes all entries of a cache from the remote store and notifies the invalidation listeners of all the other nodes of
+     * the cluster.
+     *
+     * @param cacheName cache name
+     * @return a {@link CompletionStage} completed once the entries are removed
+     */
+    CompletionStage<Void> invalidateAll(String cacheName);
+
+    /**
+     * Registers the listener of the invalidation messages sent by the other nodes of the cluster for a cache. This method is
+     * called once per cache, before the first access to the remote store from that cache.
+     *
+     * @param cacheName cache name
+     * @param listener invalidation listener
+     */
+    void addInvalidationListener(String cacheName, InvalidationListener listener);
+
+    interface InvalidationListener {
+
+        /**
+         * Called when an entry was invalidated by another node.
+         *
+         * @param key cache key
+         */
+        void onInvalidate(Object key);
+
+        /**
+         * Called when all entries of the cache were invalidated by another node.
+         */
+        void onInvalidateAll();
+    }
+}
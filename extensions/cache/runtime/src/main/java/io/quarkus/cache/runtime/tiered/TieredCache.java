@@ -0,0 +1,279 @@
+package io.quarkus.cache.runtime.tiered;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+
+/**
+ * Two-level cache: a Caffeine near cache in front of a {@link RemoteCacheStore} shared by all the nodes of a cluster. On a near
+ * cache miss, the value is retrieved from the remote store and the cached method is only invoked if the remote store doesn't
+ * contain it either. The invalidations are propagated to the other nodes through the remote store.
+ * <p>
+ * Asynchronous types can't be stored remotely so the values produced by methods returning {@link CompletionStage} or
+ * {@code Uni} are always cached, whatever the {@code async-values} configuration of the cache is.
+ * <p>
+ * The remote store is given a limited time to respond. A lookup that fails or times out is treated as a remote miss, so the
+ * cached method is invoked instead, while an invalidation that fails or times out fails the invalidating invocation.
+ */
+public class TieredCache extends AbstractCache implements RemoteCacheStore.InvalidationListener {
+
+    private static final Logger LOGGER = Logger.getLogger(TieredCache.class);
+
+    // Completes the asynchronous remote lookups which exceed the timeout.
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = createTimeoutScheduler();
+
+    private final CaffeineCache nearCache;
+
+    private final long remoteTimeout;
+
+    // The remote store is resolved lazily because it can't be used at static init.
+    private volatile RemoteCacheStore remoteStore;
+
+    /**
+     * @param nearCache the first level cache
+     * @param remoteTimeout the maximum time to wait for the remote store, in milliseconds
+     */
+    public TieredCache(CaffeineCache nearCache, long remoteTimeout) {
+        this.nearCache = nearCache;
+        this.remoteTimeout = remoteTimeout;
+    }
+
+    @Override
+    public String getName() {
+        return nearCache.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return nearCache.getDefaultKey();
+    }
+
+    @Override
+    public boolean isAsyncValues() {
+        return true;
+    }
+
+    @Override
+    public Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception {
+        return nearCache.get(key, () -> loadThroughRemoteStore(key, valueLoader), lockTimeout);
+    }
+
+    private Object loadThroughRemoteStore(Object key, Callable<Object> valueLoader) throws Exception {
+        RemoteCacheStore store = getRemoteStore();
+        Object value = null;
+        try {
+            value = store.get(getName(), key).toCompletableFuture().get(remoteTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (Exception e) {
+            // The remote store being unavailable should not prevent the cached method from being invoked.
+            LOGGER.warnf(e, "Unable to retrieve entry with key [%s] from the remote store of cache [%s]", key, getName());
+        }
+        if (value == null) {
+            value = valueLoader.call();
+            if (value != null) {
+                publish(store, key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public CompletionStage<Object> getAsync(Object key, Supplier<CompletionStage<Object>> valueLoader) {
+        return nearCache.getAsync(key, () -> {
+            RemoteCacheStore store = getRemoteStore();
+            return withTimeout(store.get(getName(), key)).exceptionally(failure -> {
+                LOGGER.warnf(failure, "Unable to retrieve entry with key [%s] from the remote store of cache [%s]", key,
+                        getName());
+                return null;
+            }).thenCompose(value -> {
+                if (value != null) {
+                    return CompletableFuture.completedFuture(value);
+                }
+                return valueLoader.get().thenApply(loadedValue -> {
+                    if (loadedValue != null) {
+                        publish(store, key, loadedValue);
+                    }
+                    return loadedValue;
+                });
+            });
+        });
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys, Function<Set<Object>, Map<?, ?>> valueLoader) {
+        return nearCache.getAll(keys, missingKeys -> loadAllThroughRemoteStore(missingKeys, valueLoader));
+    }
+
+    private Map<?, ?> loadAllThroughRemoteStore(Set<Object> keys, Function<Set<Object>, Map<?, ?>> valueLoader) {
+        RemoteCacheStore store = getRemoteStore();
+        // The remote lookups are all started before waiting for the first one.
+        Map<Object, CompletableFuture<Object>> remoteValues = new HashMap<>();
+        for (Object key : keys) {
+            remoteValues.put(key, store.get(getName(), key).toCompletableFuture());
+        }
+        Map<Object, Object> values = new HashMap<>();
+        Set<Object> missingKeys = new LinkedHashSet<>();
+        // The timeout applies to all the lookups together.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remoteTimeout);
+        for (Object key : keys) {
+            Object value = null;
+            try {
+                value = remoteValues.get(key).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (Exception e) {
+                LOGGER.warnf(e, "Unable to retrieve entry with key [%s] from the remote store of cache [%s]", key, getName());
+            }
+            if (value == null) {
+                missingKeys.add(key);
+            } else {
+                values.put(key, value);
+            }
+        }
+        if (!missingKeys.isEmpty()) {
+            Map<?, ?> loadedValues = valueLoader.apply(missingKeys);
+            if (loadedValues != null) {
+                for (Map.Entry<?, ?> loadedValue : loadedValues.entrySet()) {
+                    if (loadedValue.getValue() != null) {
+                        publish(store, loadedValue.getKey(), loadedValue.getValue());
+                    }
+                    values.put(loadedValue.getKey(), loadedValue.getValue());
+                }
+            }
+        }
+        return values;
+    }
+
+    private void publish(RemoteCacheStore store, Object key, Object value) {
+        // The caller doesn't wait for the value to be stored remotely, it is already available from the near cache.
+        store.put(getName(), key, value).whenComplete((result, failure) -> {
+            if (failure != null) {
+                LOGGER.warnf(failure, "Unable to store entry with key [%s] into the remote store of cache [%s]", key,
+                        getName());
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        nearCache.invalidate(key);
+        awaitRemoteInvalidation(getRemoteStore().invalidate(getName(), key));
+    }
+
+    @Override
+    public void invalidateAll() {
+        nearCache.invalidateAll();
+        awaitRemoteInvalidation(getRemoteStore().invalidateAll(getName()));
+    }
+
+    private void awaitRemoteInvalidation(CompletionStage<Void> invalidation) {
+        try {
+            invalidation.toCompletableFuture().get(remoteTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new CompletionException(
+                    "The remote store of cache [" + getName() + "] did not complete the invalidation within "
+                            + remoteTimeout + " ms",
+                    e);
+        }
+    }
+
+    private CompletionStage<Object> withTimeout(CompletionStage<Object> remoteLookup) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        ScheduledFuture<?> timeout = TIMEOUT_SCHEDULER.schedule(() -> result.completeExceptionally(new TimeoutException(
+                "The remote store of cache [" + getName() + "] did not respond within " + remoteTimeout + " ms")),
+                remoteTimeout, TimeUnit.MILLISECONDS);
+        remoteLookup.whenComplete((value, failure) -> {
+            timeout.cancel(false);
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+
+    private static ScheduledExecutorService createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "quarkus-tiered-cache-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The lookups usually complete well before the timeout.
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    @Override
+    public void onInvalidate(Object key) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf("Invalidating entry with key [%s] from near cache [%s] after a remote invalidation", key, getName());
+        }
+        nearCache.invalidate(key);
+    }
+
+    @Override
+    public void onInvalidateAll() {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf("Invalidating all entries from near cache [%s] after a remote invalidation", getName());
+        }
+        nearCache.invalidateAll();
+    }
+
+    private RemoteCacheStore getRemoteStore() {
+        RemoteCacheStore store = remoteStore;
+        if (store == null) {
+            synchronized (this) {
+                store = remoteStore;
+                if (store == null) {
+                    InstanceHandle<RemoteCacheStore> handle = Arc.container().instance(RemoteCacheStore.class);
+                    if (!handle.isAvailable()) {
+                        throw new IllegalStateException(
+                                "A RemoteCacheStore bean is required by the tiered cache [" + getName() + "]");
+                    }
+                    store = handle.get();
+                    // Nothing can be stored in the near cache before the listener is registered.
+                    store.addInvalidationListener(getName(), this);
+                    remoteStore = store;
+                }
+            }
+        }
+        return store;
+    }
+
+    /**
+     * @return the first level cache, which holds the statistics of this cache
+     */
+    public CaffeineCache getNearCache() {
+        return nearCache;
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.cache.runtime.tiered;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class TieredCacheBuildRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(TieredCacheBuildRecorder.class);
+
+    public void buildCaches(BeanContainer beanContainer, Set<CaffeineCacheInfo> nearCacheInfos, long remoteTimeout) {
+        // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+        Map<String, AbstractCache> caches = new HashMap<>(nearCacheInfos.size() + 1, 1.0F);
+
+        for (CaffeineCacheInfo nearCacheInfo : nearCacheInfos) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debugf("Building tiered cache [%s]", nearCacheInfo.name);
+            }
+            caches.put(nearCacheInfo.name, new TieredCache(new CaffeineCache(nearCacheInfo), remoteTimeout));
+        }
+
+        beanContainer.instance(CacheRepository.class).setCaches(caches);
+    }
+}
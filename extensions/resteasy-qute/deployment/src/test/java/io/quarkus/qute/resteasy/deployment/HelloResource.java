@@ -14,6 +14,9 @@ public class HelloResource {
     @Inject
     Template hello;
 
+    @Inject
+    Template big;
+
     @GET
     public TemplateInstance get(@QueryParam("name") String name) {
         if (name == null) {
@@ -22,4 +25,10 @@ public class HelloResource {
         return hello.data("name", name);
     }
 
+    @GET
+    @Path("big")
+    public TemplateInstance big(@QueryParam("count") int count) {
+        return big.data("count", count);
+    }
+
 }
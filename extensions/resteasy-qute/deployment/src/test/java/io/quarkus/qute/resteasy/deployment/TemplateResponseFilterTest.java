@@ -17,7 +17,8 @@ public class TemplateResponseFilterTest {
     static final QuarkusUnitTest config = new QuarkusUnitTest()
             .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
                     .addClass(HelloResource.class)
-                    .addAsResource(new StringAsset("Hello {name}!"), "templates/hello.txt"));
+                    .addAsResource(new StringAsset("Hello {name}!"), "templates/hello.txt")
+                    .addAsResource(new StringAsset("{#for i in count}{i}:Čau|{/}"), "templates/big.txt"));
 
     @Test
     public void testFilter() {
@@ -25,4 +26,14 @@ public class TemplateResponseFilterTest {
         when().get("/hello?name=Joe").then().body(Matchers.is("Hello Joe!"));
     }
 
+    @Test
+    public void testStreaming() {
+        // The rendered template exceeds the size of a single response buffer
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 10000; i++) {
+            expected.append(i).append(":Čau|");
+        }
+        when().get("/hello/big?count=10000").then().statusCode(200).body(Matchers.is(expected.toString()));
+    }
+
 }
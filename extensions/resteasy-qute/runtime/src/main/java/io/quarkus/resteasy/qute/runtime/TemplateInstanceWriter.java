@@ -0,0 +1,69 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Streams the rendered template to the response. The chunks of the rendered template are encoded and written to the entity
+ * stream as the result tree is processed so that the rendered template as a whole is never held in memory.
+ *
+ * @see TemplateResponseFilter
+ */
+@Provider
+public class TemplateInstanceWriter implements MessageBodyWriter<TemplateInstance> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        Object timeoutAttr = instance.getAttribute(TemplateInstance.TIMEOUT);
+        long timeout = timeoutAttr != null ? Long.parseLong(timeoutAttr.toString()) : 10000;
+        try {
+            instance.writeTo(entityStream, getCharset(mediaType)).toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException | TimeoutException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    private static Charset getCharset(MediaType mediaType) {
+        if (mediaType != null) {
+            String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+            if (charset != null) {
+                return Charset.forName(charset);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+}
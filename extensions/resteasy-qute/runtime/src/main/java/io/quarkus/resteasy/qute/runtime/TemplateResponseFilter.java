@@ -19,6 +19,7 @@ import org.jboss.resteasy.core.interception.jaxrs.SuspendableContainerResponseCo
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.quarkus.qute.api.VariantTemplate;
+import io.vertx.core.Context;
 
 @Provider
 public class TemplateResponseFilter implements ContainerResponseFilter {
@@ -28,9 +29,6 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
             throws IOException {
         Object entity = responseContext.getEntity();
         if (entity instanceof TemplateInstance) {
-            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
-            ctx.suspend();
-
             MediaType mediaType;
             TemplateInstance rendering = (TemplateInstance) entity;
 
@@ -54,6 +52,17 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
                 mediaType = null;
             }
 
+            if (!Context.isOnEventLoopThread()) {
+                // The rendered template is streamed by the TemplateInstanceWriter
+                if (mediaType != null) {
+                    responseContext.setEntity(entity, null, mediaType);
+                }
+                return;
+            }
+
+            // Render the template asynchronously - the event loop must not be blocked
+            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
+            ctx.suspend();
             try {
                 rendering.renderAsync()
                         .whenComplete((r, t) -> {
@@ -3,18 +3,35 @@ package io.quarkus.resteasy.deployment;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Enumeration;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -24,10 +41,16 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.resteasy.common.deployment.ResteasyDotNames;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.runtime.Blocking;
+import io.quarkus.resteasy.runtime.NonBlocking;
+import io.quarkus.resteasy.runtime.ResteasyVertxConfig;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
@@ -36,7 +59,9 @@ import io.quarkus.vertx.http.deployment.RequireVirtualHttpBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.quarkus.vertx.http.runtime.StaticResource;
 import io.vertx.core.Handler;
+import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 
@@ -45,6 +70,12 @@ public class ResteasyStandaloneBuildStep {
     protected static final String META_INF_RESOURCES_SLASH = "META-INF/resources/";
     protected static final String META_INF_RESOURCES = "META-INF/resources";
 
+    private static final DotName BLOCKING = DotName.createSimple(Blocking.class.getName());
+    private static final DotName NON_BLOCKING = DotName.createSimple(NonBlocking.class.getName());
+    private static final List<DotName> HTTP_METHODS = Arrays.asList(ResteasyDotNames.GET, ResteasyDotNames.HEAD,
+            ResteasyDotNames.DELETE, ResteasyDotNames.OPTIONS, ResteasyDotNames.PATCH, ResteasyDotNames.POST,
+            ResteasyDotNames.PUT);
+
     public static final class ResteasyStandaloneBuildItem extends SimpleBuildItem {
 
         final String deploymentRootPath;
@@ -72,7 +103,7 @@ public class ResteasyStandaloneBuildStep {
             return;
         }
 
-        Set<String> knownPaths = getClasspathResources(applicationArchivesBuildItem);
+        Map<String, StaticResource> knownPaths = getClasspathResources(applicationArchivesBuildItem);
         String deploymentRootPath = null;
         // The context path + the resources path
         String rootPath = httpConfig.rootPath;
@@ -103,41 +134,19 @@ public class ResteasyStandaloneBuildStep {
     }
 
     /**
-     * Find all static file resources that are available from classpath.
+     * Find all static file resources that are available from classpath and compute their entity tags and content types.
      *
      * @param applicationArchivesBuildItem
-     * @return
+     * @return the resources mapped to request paths
      * @throws Exception
      */
-    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem) throws Exception {
-        Set<String> knownPaths = new HashSet<>();
+    private Map<String, StaticResource> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem)
+            throws Exception {
+        Map<String, StaticResource> knownPaths = new HashMap<>();
         for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
             Path resource = i.getChildPath(META_INF_RESOURCES);
             if (resource != null && Files.exists(resource)) {
-                try (Stream<Path> fileTreeElements = Files.walk(resource)) {
-                    fileTreeElements.forEach(new Consumer<Path>() {
-                        @Override
-                        public void accept(Path path) {
-                            // Skip META-INF/resources entry
-                            if (resource.equals(path)) {
-                                return;
-                            }
-                            Path rel = resource.relativize(path);
-                            if (!Files.isDirectory(path)) {
-                                String file = rel.toString();
-                                if (file.equals("index.html") || file.equals("index.htm")) {
-                                    knownPaths.add("/");
-                                }
-                                if (!file.startsWith("/")) {
-                                    file = "/" + file;
-                                }
-                                // Windows has a backslash
-                                file = file.replace('\\', '/');
-                                knownPaths.add(file);
-                            }
-                        }
-                    });
-                }
+                collectFiles(resource, knownPaths);
             }
         }
         Enumeration<URL> resources = getClass().getClassLoader().getResources(META_INF_RESOURCES);
@@ -145,19 +154,27 @@ public class ResteasyStandaloneBuildStep {
             URL url = resources.nextElement();
             if (url.getProtocol().equals("jar")) {
                 JarURLConnection jar = (JarURLConnection) url.openConnection();
-                Enumeration<JarEntry> entries = jar.getJarFile().entries();
+                JarFile jarFile = jar.getJarFile();
+                Enumeration<JarEntry> entries = jarFile.entries();
                 while (entries.hasMoreElements()) {
                     JarEntry entry = entries.nextElement();
-                    if (entry.getName().startsWith(META_INF_RESOURCES_SLASH)) {
+                    if (entry.getName().startsWith(META_INF_RESOURCES_SLASH) && !entry.isDirectory()) {
                         String sub = entry.getName().substring(META_INF_RESOURCES_SLASH.length());
                         if (!sub.isEmpty()) {
-                            if (sub.equals("index.html") || sub.equals("index.htm")) {
-                                knownPaths.add("/");
-                            }
                             if (!sub.startsWith("/")) {
                                 sub = "/" + sub;
                             }
-                            knownPaths.add(sub);
+                            long crc = entry.getCrc();
+                            long size = entry.getSize();
+                            if (crc == -1 || size == -1) {
+                                byte[] content;
+                                try (InputStream in = jarFile.getInputStream(entry)) {
+                                    content = IoUtil.readBytes(in);
+                                }
+                                crc = crc(content);
+                                size = content.length;
+                            }
+                            addResource(knownPaths, sub, size, crc, Math.max(entry.getTime(), 0));
                         }
                     }
                 }
@@ -165,36 +182,65 @@ public class ResteasyStandaloneBuildStep {
             if (url.getProtocol().equals("file")) {
                 Path resource = Paths.get(url.toURI());
                 if (resource != null && Files.exists(resource)) {
-                    try (Stream<Path> fileTreeElements = Files.walk(resource)) {
-                        fileTreeElements.forEach(new Consumer<Path>() {
-                            @Override
-                            public void accept(Path path) {
-                                // Skip META-INF/resources entry
-                                if (resource.equals(path)) {
-                                    return;
-                                }
-                                Path rel = resource.relativize(path);
-                                if (!Files.isDirectory(path)) {
-                                    String file = rel.toString();
-                                    if (file.equals("index.html") || file.equals("index.htm")) {
-                                        knownPaths.add("/");
-                                    }
-                                    if (!file.startsWith("/")) {
-                                        file = "/" + file;
-                                    }
-                                    // Windows has a backslash
-                                    file = file.replace('\\', '/');
-                                    knownPaths.add(file);
-                                }
-                            }
-                        });
-                    }
+                    collectFiles(resource, knownPaths);
                 }
             }
         }
         return knownPaths;
     }
 
+    private static void collectFiles(Path resource, Map<String, StaticResource> knownPaths) throws IOException {
+        try (Stream<Path> fileTreeElements = Files.walk(resource)) {
+            fileTreeElements.forEach(new Consumer<Path>() {
+                @Override
+                public void accept(Path path) {
+                    // Skip META-INF/resources entry
+                    if (resource.equals(path)) {
+                        return;
+                    }
+                    Path rel = resource.relativize(path);
+                    if (!Files.isDirectory(path)) {
+                        String file = rel.toString();
+                        if (!file.startsWith("/")) {
+                            file = "/" + file;
+                        }
+                        // Windows has a backslash
+                        file = file.replace('\\', '/');
+                        byte[] content;
+                        long lastModified;
+                        try {
+                            content = Files.readAllBytes(path);
+                            lastModified = Files.getLastModifiedTime(path).toMillis();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        addResource(knownPaths, file, content.length, crc(content), lastModified);
+                    }
+                }
+            });
+        }
+    }
+
+    private static void addResource(Map<String, StaticResource> knownPaths, String file, long size, long crc,
+            long lastModified) {
+        String contentType = MimeMapping.getMimeTypeForFilename(file);
+        if (contentType != null && contentType.startsWith("text")) {
+            contentType += ";charset=UTF-8";
+        }
+        StaticResource resource = new StaticResource(file, "\"" + Long.toHexString(size) + "-" + Long.toHexString(crc) + "\"",
+                contentType, size, lastModified);
+        knownPaths.putIfAbsent(file, resource);
+        if (file.equals("/index.html") || (file.equals("/index.htm") && !knownPaths.containsKey("/index.html"))) {
+            knownPaths.put("/", resource);
+        }
+    }
+
+    private static long crc(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void boot(ShutdownContextBuildItem shutdown,
@@ -207,19 +253,23 @@ public class ResteasyStandaloneBuildStep {
             ResteasyStandaloneBuildItem standalone,
             Optional<RequireVirtualHttpBuildItem> requireVirtual,
             ExecutorBuildItem executorBuildItem,
-            HttpConfiguration httpConfiguration) throws Exception {
+            HttpConfiguration httpConfiguration,
+            ResteasyVertxConfig resteasyVertxConfig,
+            CombinedIndexBuildItem combinedIndex) throws Exception {
 
         if (standalone == null) {
             return;
         }
         feature.produce(new FeatureBuildItem(FeatureBuildItem.RESTEASY));
 
+        Map<String, Boolean> resourceMethods = getResourceMethods(combinedIndex.getIndex());
+
         boolean isDefaultOrNullDeploymentPath = standalone.deploymentRootPath == null
                 || standalone.deploymentRootPath.equals("/");
         if (!isDefaultOrNullDeploymentPath) {
             // We need to register a special handler for non-default deployment path (specified as application path or resteasyConfig.path)
             Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue(),
-                    executorBuildItem.getExecutorProxy(), httpConfiguration);
+                    executorBuildItem.getExecutorProxy(), httpConfiguration, resteasyVertxConfig, resourceMethods);
             // Exact match for resources matched to the root path
             routes.produce(new RouteBuildItem(standalone.deploymentRootPath, handler, false));
             String matchPath = standalone.deploymentRootPath;
@@ -236,9 +286,82 @@ public class ResteasyStandaloneBuildStep {
         Consumer<Route> ut = recorder.start(vertx.getVertx(),
                 shutdown,
                 beanContainer.getValue(),
-                isVirtual, isDefaultOrNullDeploymentPath, executorBuildItem.getExecutorProxy(), httpConfiguration);
+                isVirtual, isDefaultOrNullDeploymentPath, executorBuildItem.getExecutorProxy(), httpConfiguration,
+                resteasyVertxConfig, resourceMethods);
 
         defaultRoutes.produce(new DefaultRouteBuildItem(ut));
     }
 
+    /**
+     * Resource methods are blocking unless annotated with {@link NonBlocking}, either directly or on the class. The return
+     * type is not taken into account as a method that returns {@code CompletionStage} may still block before it returns.
+     *
+     * @param index
+     * @return the ids of the resource methods mapped to {@code true} if the method may be dispatched on the IO thread
+     */
+    private Map<String, Boolean> getResourceMethods(IndexView index) {
+        Map<String, Boolean> resourceMethods = new TreeMap<>();
+        for (DotName httpMethod : HTTP_METHODS) {
+            for (AnnotationInstance annotation : index.getAnnotations(httpMethod)) {
+                if (annotation.target().kind() != Kind.METHOD) {
+                    continue;
+                }
+                MethodInfo method = annotation.target().asMethod();
+                ClassInfo declaringClass = method.declaringClass();
+                if (Modifier.isInterface(declaringClass.flags())) {
+                    // The resource method is matched to the implementation
+                    for (ClassInfo implementor : index.getAllKnownImplementors(declaringClass.name())) {
+                        MethodInfo implementation = implementor.method(method.name(),
+                                method.parameters().toArray(new Type[0]));
+                        if (implementation != null) {
+                            resourceMethods.put(getMethodId(implementation), isNonBlocking(implementation, method));
+                        }
+                    }
+                } else {
+                    resourceMethods.put(getMethodId(method), isNonBlocking(method, null));
+                }
+            }
+        }
+        return resourceMethods;
+    }
+
+    private boolean isNonBlocking(MethodInfo method, MethodInfo annotatedMethod) {
+        Boolean nonBlocking = getExplicitDispatch(method);
+        if (nonBlocking == null && annotatedMethod != null) {
+            nonBlocking = getExplicitDispatch(annotatedMethod);
+        }
+        return nonBlocking != null && nonBlocking;
+    }
+
+    private Boolean getExplicitDispatch(MethodInfo method) {
+        if (method.hasAnnotation(BLOCKING)) {
+            return false;
+        }
+        if (method.hasAnnotation(NON_BLOCKING)) {
+            return true;
+        }
+        ClassInfo clazz = method.declaringClass();
+        if (clazz.classAnnotation(BLOCKING) != null) {
+            return false;
+        }
+        if (clazz.classAnnotation(NON_BLOCKING) != null) {
+            return true;
+        }
+        return null;
+    }
+
+    private String getMethodId(MethodInfo method) {
+        // Must match VertxRequestHandler.getMethodId(Method)
+        StringBuilder id = new StringBuilder();
+        id.append(method.declaringClass().name().toString()).append('#').append(method.name()).append('(');
+        List<Type> parameters = method.parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                id.append(',');
+            }
+            id.append(parameters.get(i).name().toString());
+        }
+        return id.append(')').toString();
+    }
+
 }
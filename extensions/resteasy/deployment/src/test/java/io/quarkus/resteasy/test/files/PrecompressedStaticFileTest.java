@@ -0,0 +1,91 @@
+package io.quarkus.resteasy.test.files;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+/**
+ * Test that the precompressed variants of static files are served if the client accepts the encoding.
+ */
+public class PrecompressedStaticFileTest {
+
+    static final String CONTENT = "<h1>Hello compressed</h1>";
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(CONTENT), "META-INF/resources/index.html")
+                    .addAsResource(new ByteArrayAsset(gzip(CONTENT)), "META-INF/resources/index.html.gz"));
+
+    @Test
+    public void test() {
+        // The client decompresses the response transparently
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/index.html").then()
+                .statusCode(200)
+                .contentType(containsString("text/html"))
+                .body(equalTo(CONTENT));
+
+        RestAssured.given().config(RestAssured.config().decoderConfig(
+                DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip").get("/").then()
+                .statusCode(200)
+                .header("Content-Encoding", equalTo("gzip"))
+                .header("Vary", equalTo("accept-encoding"));
+
+        RestAssured.given().config(RestAssured.config().decoderConfig(
+                DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/index.html").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(CONTENT));
+
+        // Not acceptable
+        RestAssured.given().config(RestAssured.config().decoderConfig(
+                DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip;q=0, deflate").get("/index.html").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(CONTENT));
+
+        RestAssured.given().config(RestAssured.config().decoderConfig(
+                DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "x-gzip").get("/index.html").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(CONTENT));
+
+        RestAssured.given().config(RestAssured.config().decoderConfig(
+                DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "deflate, *;q=0.5").get("/index.html").then()
+                .statusCode(200)
+                .header("Content-Encoding", equalTo("gzip"));
+    }
+
+    static byte[] gzip(String value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+}
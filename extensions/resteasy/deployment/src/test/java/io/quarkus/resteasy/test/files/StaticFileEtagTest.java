@@ -0,0 +1,101 @@
+package io.quarkus.resteasy.test.files;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.io.File;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Test that static files are served with the entity tags computed at build time.
+ */
+public class StaticFileEtagTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new File("src/test/resources/lorem.txt"), "META-INF/resources/lorem.txt")
+                    .addAsResource(new File("src/test/resources/index.html"), "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset("quarkus.http.static-resources.max-age=1H\n"
+                            + "quarkus.http.static-resources.cache-size=1K"), "application.properties"));
+
+    @Test
+    public void test() {
+        String etag = RestAssured.get("/lorem.txt").then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .header("Cache-Control", equalTo("public, max-age=3600"))
+                .contentType(containsString("text/plain"))
+                .body(containsString("Lorem"))
+                .extract().header("ETag");
+
+        // Served from memory
+        RestAssured.get("/lorem.txt").then()
+                .statusCode(200)
+                .header("ETag", equalTo(etag))
+                .body(containsString("Lorem"));
+
+        RestAssured.given().header("If-None-Match", etag).get("/lorem.txt").then()
+                .statusCode(304)
+                .header("ETag", equalTo(etag));
+
+        RestAssured.given().header("If-None-Match", "\"foo\", W/" + etag).get("/lorem.txt").then()
+                .statusCode(304);
+
+        RestAssured.given().header("If-None-Match", "\"foo\"").get("/lorem.txt").then()
+                .statusCode(200)
+                .body(containsString("Lorem"));
+
+        RestAssured.head("/lorem.txt").then()
+                .statusCode(200)
+                .header("ETag", equalTo(etag));
+
+        RestAssured.given().header("If-None-Match", etag).head("/lorem.txt").then()
+                .statusCode(304)
+                .header("ETag", equalTo(etag));
+
+        String lastModified = RestAssured.get("/lorem.txt").then()
+                .statusCode(200)
+                .header("Last-Modified", notNullValue())
+                .extract().header("Last-Modified");
+
+        RestAssured.given().header("If-Modified-Since", lastModified).get("/lorem.txt").then()
+                .statusCode(304);
+
+        RestAssured.given().header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT").get("/lorem.txt").then()
+                .statusCode(200)
+                .body(containsString("Lorem"));
+
+        // If-Modified-Since is ignored if If-None-Match is present
+        RestAssured.given().header("If-Modified-Since", lastModified).header("If-None-Match", "\"foo\"")
+                .get("/lorem.txt").then()
+                .statusCode(200);
+
+        RestAssured.given().header("Range", "bytes=0-4").get("/lorem.txt").then()
+                .statusCode(206)
+                .header("Content-Range", startsWith("bytes 0-4/"))
+                .body(equalTo("Lorem"));
+
+        String indexEtag = RestAssured.get("/index.html").then()
+                .statusCode(200)
+                .contentType(containsString("text/html"))
+                .body(containsString("<h1>Hello</h1>"))
+                .extract().header("ETag");
+
+        RestAssured.get("/").then()
+                .statusCode(200)
+                .header("ETag", equalTo(indexEtag))
+                .body(containsString("<h1>Hello</h1>"));
+    }
+
+}
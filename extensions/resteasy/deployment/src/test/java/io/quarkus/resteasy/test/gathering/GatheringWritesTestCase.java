@@ -0,0 +1,96 @@
+package io.quarkus.resteasy.test.gathering;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class GatheringWritesTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(PayloadResource.class)
+                    .addAsResource(new StringAsset("quarkus.resteasy.vertx.gathering-writes=true\n"
+                            + "quarkus.resteasy.vertx.max-aggregated-size=64K"), "application.properties"));
+
+    @Test
+    public void testResponseWithinAggregatedSize() {
+        String expected = PayloadResource.payload(50 * 1024);
+        // The whole body is written at once so the length is known
+        RestAssured.get("/payload/" + 50 * 1024).then().statusCode(200)
+                .header("Content-Length", String.valueOf(expected.length()))
+                .header("Transfer-Encoding", nullValue())
+                .body(equalTo(expected));
+    }
+
+    @Test
+    public void testResponseLargerThanAggregatedSize() {
+        String expected = PayloadResource.payload(300 * 1024);
+        RestAssured.get("/payload/" + 300 * 1024).then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body(equalTo(expected));
+    }
+
+    @Test
+    public void testFlushedResponse() {
+        String expected = PayloadResource.payload(20 * 1024);
+        RestAssured.get("/payload/flushed/" + 20 * 1024).then().statusCode(200)
+                .body(equalTo(expected));
+    }
+
+    @Path("/payload")
+    public static class PayloadResource {
+
+        static String payload(int size) {
+            StringBuilder builder = new StringBuilder(size);
+            for (int i = 0; i < size; i++) {
+                builder.append((char) ('a' + i % 26));
+            }
+            return builder.toString();
+        }
+
+        @GET
+        @Path("{size}")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get(@PathParam("size") int size) {
+            return payload(size);
+        }
+
+        @GET
+        @Path("flushed/{size}")
+        @Produces(MediaType.TEXT_PLAIN)
+        public StreamingOutput flushed(@PathParam("size") int size) {
+            byte[] bytes = payload(size).getBytes(StandardCharsets.UTF_8);
+            return new StreamingOutput() {
+                @Override
+                public void write(OutputStream output) throws IOException {
+                    for (int i = 0; i < bytes.length; i += 1000) {
+                        output.write(bytes, i, Math.min(1000, bytes.length - i));
+                        output.flush();
+                    }
+                }
+            };
+        }
+
+    }
+
+}
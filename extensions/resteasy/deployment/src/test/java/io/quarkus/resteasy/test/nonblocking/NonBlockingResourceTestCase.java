@@ -0,0 +1,123 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.runtime.Blocking;
+import io.quarkus.resteasy.runtime.NonBlocking;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.core.Context;
+
+public class NonBlockingResourceTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ThreadResource.class, BlockingThreadResource.class));
+
+    @Test
+    public void testDispatch() {
+        RestAssured.get("/thread/async").then().statusCode(200).body(equalTo("worker"));
+        RestAssured.get("/thread/non-blocking").then().statusCode(200).body(equalTo("event-loop"));
+        RestAssured.get("/thread/non-blocking").then().statusCode(200).body(equalTo("event-loop"));
+        RestAssured.get("/thread/async").then().statusCode(200).body(equalTo("worker"));
+        RestAssured.get("/thread/blocking").then().statusCode(200).body(equalTo("worker"));
+        RestAssured.get("/thread/explicitly-blocking").then().statusCode(200).body(equalTo("worker"));
+        RestAssured.get("/blocking-thread/async").then().statusCode(200).body(equalTo("worker"));
+        RestAssured.get("/blocking-thread/non-blocking").then().statusCode(200).body(equalTo("event-loop"));
+    }
+
+    @Test
+    public void testMatchedRequest() {
+        // the path parameters and the media type chosen when the request is matched before it is dispatched are kept
+        RestAssured.get("/thread/non-blocking/foo").then().statusCode(200).contentType(MediaType.TEXT_PLAIN)
+                .body(equalTo("foo:event-loop"));
+        RestAssured.get("/thread/blocking/bar").then().statusCode(200).contentType(MediaType.TEXT_PLAIN)
+                .body(equalTo("bar:worker"));
+        RestAssured.get("/thread/missing").then().statusCode(404);
+    }
+
+    static String currentThread() {
+        return Context.isOnEventLoopThread() ? "event-loop" : "worker";
+    }
+
+    @Path("/thread")
+    public static class ThreadResource {
+
+        @GET
+        @Path("async")
+        public CompletionStage<String> async() {
+            return CompletableFuture.completedFuture(currentThread());
+        }
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking")
+        public String nonBlocking() {
+            return currentThread();
+        }
+
+        @GET
+        @Path("blocking")
+        public String blocking() {
+            return currentThread();
+        }
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking/{name}")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String nonBlocking(@PathParam("name") String name) {
+            return name + ":" + currentThread();
+        }
+
+        @GET
+        @Path("blocking/{name}")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String blocking(@PathParam("name") String name) {
+            return name + ":" + currentThread();
+        }
+
+        @Blocking
+        @GET
+        @Path("explicitly-blocking")
+        public CompletionStage<String> explicitlyBlocking() {
+            return CompletableFuture.completedFuture(currentThread());
+        }
+
+    }
+
+    @Blocking
+    @Path("/blocking-thread")
+    public static class BlockingThreadResource {
+
+        @GET
+        @Path("async")
+        public CompletionStage<String> async() {
+            return CompletableFuture.completedFuture(currentThread());
+        }
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking")
+        public String nonBlocking() {
+            return currentThread();
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package io.quarkus.resteasy.runtime;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Forces a JAX-RS resource method, or all resource methods of a resource class, to be executed on a worker thread even if
+ * it would be considered non-blocking otherwise, e.g. because its class is annotated with {@link NonBlocking}.
+ * <p>
+ * An annotation declared on a method takes precedence over an annotation declared on the class.
+ * 
+ * @see NonBlocking
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD })
+public @interface Blocking {
+
+}
@@ -0,0 +1,26 @@
+package io.quarkus.resteasy.runtime;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JAX-RS resource method, or all resource methods of a resource class, as safe to be executed on the IO thread.
+ * <p>
+ * Resource methods are executed on a worker thread unless annotated, regardless of their return type: a method that returns
+ * {@code CompletionStage} or {@code Uni} may still block before it returns. An annotated method must not block the IO
+ * thread, i.e. it must not perform any blocking IO or wait for a lock. Its response entity is also written on the IO
+ * thread, so it should be small.
+ * 
+ * @see Blocking
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD })
+public @interface NonBlocking {
+
+}
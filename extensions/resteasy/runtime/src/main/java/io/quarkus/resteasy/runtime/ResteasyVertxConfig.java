@@ -0,0 +1,28 @@
+package io.quarkus.resteasy.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Configuration of the RESTEasy standalone (Vert.x based) response writing.
+ */
+@ConfigRoot(name = "resteasy.vertx", phase = ConfigPhase.RUN_TIME)
+public class ResteasyVertxConfig {
+
+    /**
+     * If set to true, the response body is aggregated in pooled buffers and written with a single gathering write when the
+     * response is complete, instead of one blocking write per filled buffer. Explicit flushes of the output stream are
+     * deferred until the response is complete or the aggregated body reaches {@code max-aggregated-size}.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean gatheringWrites;
+
+    /**
+     * The maximum size of the aggregated response body. Larger responses are written in several chunks of this size.
+     */
+    @ConfigItem(defaultValue = "128K")
+    public MemorySize maxAggregatedSize;
+
+}
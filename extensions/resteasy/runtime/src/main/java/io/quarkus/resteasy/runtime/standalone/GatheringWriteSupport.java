@@ -0,0 +1,70 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Aggregates the response body in pooled buffers so that it is written with a single gathering write. The size of the first
+ * buffer of a response is predicted from the sizes of the recent responses, so that a typical response fits in one buffer.
+ */
+public class GatheringWriteSupport {
+
+    static final int MIN_BUFFER_SIZE = 1024;
+
+    private final BufferAllocator allocator;
+    private final int maxAggregatedSize;
+    private final int maxComponents;
+    // Exponential moving average of the response sizes - concurrent updates may be lost which is fine for an estimate
+    private volatile int averageSize;
+
+    public GatheringWriteSupport(BufferAllocator allocator, int maxAggregatedSize) {
+        this.allocator = allocator;
+        this.maxAggregatedSize = Math.max(maxAggregatedSize, MIN_BUFFER_SIZE);
+        this.maxComponents = Math.max(this.maxAggregatedSize / MIN_BUFFER_SIZE, 16) + 1;
+        this.averageSize = allocator.getBufferSize();
+    }
+
+    int getMaxAggregatedSize() {
+        return maxAggregatedSize;
+    }
+
+    /**
+     * 
+     * @return the first buffer of a response
+     */
+    ByteBuf allocateFirstBuffer() {
+        return allocator.allocateBuffer(nextBufferSize(averageSize));
+    }
+
+    /**
+     * 
+     * @param aggregatedSize
+     * @return a buffer that continues a response which did not fit in the buffers allocated so far
+     */
+    ByteBuf allocateNextBuffer(int aggregatedSize) {
+        if (aggregatedSize == 0) {
+            return allocateFirstBuffer();
+        }
+        // Grow geometrically so that large responses need few components
+        return allocator.allocateBuffer(nextBufferSize(Math.min(aggregatedSize, maxAggregatedSize - aggregatedSize)));
+    }
+
+    CompositeByteBuf allocateAggregate() {
+        return PooledByteBufAllocator.DEFAULT.compositeBuffer(maxComponents);
+    }
+
+    void recordResponseSize(long size) {
+        int current = averageSize;
+        int sample = (int) Math.min(size, maxAggregatedSize);
+        averageSize = current + (sample - current) / 8;
+    }
+
+    private int nextBufferSize(int expected) {
+        int size = Math.max(expected, MIN_BUFFER_SIZE);
+        // Round up to a power of two to match the pooled allocator size classes
+        size = Integer.highestOneBit(size - 1) << 1;
+        return Math.min(size, maxAggregatedSize);
+    }
+
+}
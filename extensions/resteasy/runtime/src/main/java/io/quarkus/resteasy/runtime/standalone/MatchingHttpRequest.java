@@ -0,0 +1,202 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.plugins.server.BaseHttpRequest;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
+import org.jboss.resteasy.spi.ResteasyAsynchronousResponse;
+import org.jboss.resteasy.spi.RunnableWithException;
+
+/**
+ * A request that is only used to match the resource method on the IO thread, before the request is dispatched. It does not
+ * provide the body and it cannot be suspended. The request that is dispatched shares its URI info and headers, and
+ * receives its attributes, so that the state recorded by the matching is kept.
+ */
+class MatchingHttpRequest extends BaseHttpRequest {
+
+    private final ResteasyHttpHeaders httpHeaders;
+    private String httpMethod;
+    private Map<String, Object> attributes;
+
+    MatchingHttpRequest(ResteasyUriInfo uri, ResteasyHttpHeaders httpHeaders, String httpMethod) {
+        super(uri);
+        this.httpHeaders = httpHeaders;
+        this.httpMethod = httpMethod;
+    }
+
+    @Override
+    public HttpHeaders getHttpHeaders() {
+        return httpHeaders;
+    }
+
+    ResteasyHttpHeaders getResteasyHttpHeaders() {
+        return httpHeaders;
+    }
+
+    void copyAttributesTo(HttpRequest request) {
+        if (attributes != null) {
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                request.setAttribute(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getMutableHeaders() {
+        return httpHeaders.getMutableHeaders();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        // the body is not needed to match a resource method
+        return new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override
+    public void setInputStream(InputStream stream) {
+        // ignored
+    }
+
+    @Override
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    @Override
+    public void setHttpMethod(String method) {
+        this.httpMethod = method;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) {
+        return attributes != null ? attributes.get(attribute) : null;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<>();
+        }
+        attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        if (attributes != null) {
+            attributes.remove(name);
+        }
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return attributes != null ? Collections.enumeration(attributes.keySet()) : Collections.emptyEnumeration();
+    }
+
+    @Override
+    public ResteasyAsynchronousContext getAsyncContext() {
+        return NotSuspendedContext.INSTANCE;
+    }
+
+    @Override
+    public void forward(String path) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean wasForwarded() {
+        return false;
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return null;
+    }
+
+    /**
+     * A request that is being matched is never suspended.
+     */
+    static final class NotSuspendedContext implements ResteasyAsynchronousContext {
+
+        static final NotSuspendedContext INSTANCE = new NotSuspendedContext();
+
+        @Override
+        public void initialRequestStarted() {
+        }
+
+        @Override
+        public void initialRequestEnded() {
+        }
+
+        @Override
+        public boolean isOnInitialRequest() {
+            return true;
+        }
+
+        @Override
+        public boolean isSuspended() {
+            return false;
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse getAsyncResponse() {
+            return null;
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse suspend() throws IllegalStateException {
+            throw new IllegalStateException("A request cannot be suspended while it is matched");
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse suspend(long millis) throws IllegalStateException {
+            return suspend();
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse suspend(long time, TimeUnit unit) throws IllegalStateException {
+            return suspend();
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public CompletionStage<Void> executeBlockingIo(RunnableWithException f, boolean hasInterceptors) {
+            CompletableFuture<Void> ret = new CompletableFuture<>();
+            try {
+                f.run();
+                ret.complete(null);
+            } catch (Exception e) {
+                ret.completeExceptionally(e);
+            }
+            return ret;
+        }
+
+        @Override
+        public CompletionStage<Void> executeAsyncIo(CompletionStage<Void> f) {
+            return f;
+        }
+
+    }
+
+}
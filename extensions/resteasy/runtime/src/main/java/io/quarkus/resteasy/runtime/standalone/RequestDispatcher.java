@@ -9,7 +9,9 @@ import org.jboss.resteasy.core.ThreadLocalResteasyProviderFactory;
 import org.jboss.resteasy.plugins.server.embedded.SecurityDomain;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
+import org.jboss.resteasy.spi.ResourceInvoker;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
@@ -55,6 +57,19 @@ public class RequestDispatcher {
             HttpServerRequest req,
             HttpServerResponse resp,
             HttpRequest vertxReq, HttpResponse vertxResp, boolean handleNotFound) throws IOException {
+        service(context, req, resp, vertxReq, vertxResp, handleNotFound, null);
+    }
+
+    /**
+     *
+     * @param invoker the invoker of the resource method the request was already matched to, or {@code null} if the request
+     *        is matched by the dispatcher
+     */
+    public void service(Context context,
+            HttpServerRequest req,
+            HttpServerResponse resp,
+            HttpRequest vertxReq, HttpResponse vertxResp, boolean handleNotFound, ResourceInvoker invoker)
+            throws IOException {
 
         ClassLoader old = Thread.currentThread().getContextClassLoader();
         try {
@@ -69,7 +84,9 @@ public class RequestDispatcher {
                 ResteasyContext.pushContext(HttpServerRequest.class, req);
                 ResteasyContext.pushContext(HttpServerResponse.class, resp);
                 ResteasyContext.pushContext(Vertx.class, context.owner());
-                if (handleNotFound) {
+                if (invoker != null) {
+                    invoke(vertxReq, vertxResp, invoker);
+                } else if (handleNotFound) {
                     dispatcher.invoke(vertxReq, vertxResp);
                 } else {
                     dispatcher.invokePropagateNotFound(vertxReq, vertxResp);
@@ -89,4 +106,17 @@ public class RequestDispatcher {
 
         }
     }
+
+    private void invoke(HttpRequest request, HttpResponse response, ResourceInvoker invoker) {
+        // SynchronousDispatcher#invoke(HttpRequest, HttpResponse) without the pre-matching phase and the matching, a request is
+        // only matched before it is dispatched if the pre-matching filters would not change it
+        RESTEasyTracingLogger.initTracingSupport(providerFactory, request);
+        RESTEasyTracingLogger.logStart(request);
+        try {
+            dispatcher.pushContextObjects(request, response);
+            dispatcher.invoke(request, response, invoker);
+        } finally {
+            dispatcher.clearContextData();
+        }
+    }
 }
@@ -2,20 +2,26 @@ package io.quarkus.resteasy.runtime.standalone;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.resteasy.runtime.ResteasyVertxConfig;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.quarkus.vertx.http.runtime.StaticResource;
+import io.quarkus.vertx.http.runtime.StaticResourcesHandler;
 import io.quarkus.vertx.http.runtime.ThreadLocalHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -29,6 +35,8 @@ import io.vertx.ext.web.handler.StaticHandler;
 @Recorder
 public class ResteasyStandaloneRecorder {
 
+    private static final Logger LOGGER = Logger.getLogger("io.quarkus.resteasy");
+
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
     /**
@@ -77,15 +85,15 @@ public class ResteasyStandaloneRecorder {
     }
 
     private static ResteasyDeployment deployment;
-    private static Set<String> knownPaths;
+    private static Map<String, StaticResource> staticResources;
     private static String contextPath;
 
-    public void staticInit(ResteasyDeployment dep, String path, Set<String> known) {
+    public void staticInit(ResteasyDeployment dep, String path, Map<String, StaticResource> resources) {
         if (dep != null) {
             deployment = dep;
             deployment.start();
         }
-        knownPaths = known;
+        staticResources = resources;
         contextPath = path;
     }
 
@@ -93,7 +101,8 @@ public class ResteasyStandaloneRecorder {
             ShutdownContext shutdown,
             BeanContainer beanContainer,
             boolean isVirtual, boolean isDefaultResourcesPath,
-            Executor executor, HttpConfiguration httpConfiguration) {
+            Executor executor, HttpConfiguration httpConfiguration, ResteasyVertxConfig resteasyVertxConfig,
+            Map<String, Boolean> resourceMethods) {
 
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -131,27 +140,16 @@ public class ResteasyStandaloneRecorder {
                 });
             }
         }
-        if (!knownPaths.isEmpty()) {
-            ThreadLocalHandler staticHandler = new ThreadLocalHandler(new Supplier<Handler<RoutingContext>>() {
-                @Override
-                public Handler<RoutingContext> get() {
-                    return StaticHandler.create(META_INF_RESOURCES)
-                            .setDefaultContentEncoding("UTF-8");
-                }
-            });
-            handlers.add(ctx -> {
-                String rel = ctx.mountPoint() == null ? ctx.normalisedPath()
-                        : ctx.normalisedPath().substring(ctx.mountPoint().length());
-                if (knownPaths.contains(rel)) {
-                    staticHandler.handle(ctx);
-                } else {
-                    ctx.next();
-                }
-            });
+        if (!staticResources.isEmpty()) {
+            handlers.add(new StaticResourcesHandler(META_INF_RESOURCES, staticResources, httpConfiguration));
         }
 
         if (deployment != null && isDefaultResourcesPath) {
-            handlers.add(vertxRequestHandler(vertx, beanContainer, executor, httpConfiguration));
+            handlers.add(vertxRequestHandler(vertx, beanContainer, executor, httpConfiguration, resteasyVertxConfig,
+                    resourceMethods));
+        }
+        if (deployment != null) {
+            logDispatch(resourceMethods);
         }
         return new Consumer<Route>() {
 
@@ -165,12 +163,43 @@ public class ResteasyStandaloneRecorder {
     }
 
     public Handler<RoutingContext> vertxRequestHandler(Supplier<Vertx> vertx,
-            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout) {
+            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout,
+            ResteasyVertxConfig resteasyVertxConfig, Map<String, Boolean> resourceMethods) {
         if (deployment != null) {
-            return new VertxRequestHandler(vertx.get(), beanContainer, deployment, contextPath, ALLOCATOR, executor,
-                    readTimeout.readTimeout.toMillis());
+            GatheringWriteSupport gathering = null;
+            if (resteasyVertxConfig.gatheringWrites) {
+                gathering = new GatheringWriteSupport(ALLOCATOR,
+                        (int) Math.min(resteasyVertxConfig.maxAggregatedSize.asLongValue(), Integer.MAX_VALUE));
+            }
+            return new VertxRequestHandler(vertx.get(), beanContainer, deployment, contextPath, ALLOCATOR, gathering,
+                    executor, readTimeout.readTimeout.toMillis(), getNonBlockingMethods(resourceMethods));
         }
         return null;
     }
 
+    private static Set<String> getNonBlockingMethods(Map<String, Boolean> resourceMethods) {
+        Set<String> nonBlockingMethods = new HashSet<>();
+        for (Map.Entry<String, Boolean> entry : resourceMethods.entrySet()) {
+            if (entry.getValue()) {
+                nonBlockingMethods.add(entry.getKey());
+            }
+        }
+        return nonBlockingMethods;
+    }
+
+    private static void logDispatch(Map<String, Boolean> resourceMethods) {
+        int nonBlocking = 0;
+        for (Map.Entry<String, Boolean> entry : resourceMethods.entrySet()) {
+            if (entry.getValue()) {
+                nonBlocking++;
+                LOGGER.debugf("Resource method %s is dispatched on the IO thread", entry.getKey());
+            } else {
+                LOGGER.debugf("Resource method %s is dispatched on a worker thread", entry.getKey());
+            }
+        }
+        if (nonBlocking > 0) {
+            LOGGER.infof("%s of %s resource methods are dispatched on the IO thread", nonBlocking, resourceMethods.size());
+        }
+    }
+
 }
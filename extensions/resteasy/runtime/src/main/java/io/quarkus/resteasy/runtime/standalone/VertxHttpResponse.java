@@ -35,9 +35,14 @@ public class VertxHttpResponse implements HttpResponse {
 
     public VertxHttpResponse(HttpServerRequest request, ResteasyProviderFactory providerFactory,
             final HttpMethod method, BufferAllocator allocator, VertxOutput output) {
+        this(request, providerFactory, method, allocator, null, output);
+    }
+
+    public VertxHttpResponse(HttpServerRequest request, ResteasyProviderFactory providerFactory,
+            final HttpMethod method, BufferAllocator allocator, GatheringWriteSupport gathering, VertxOutput output) {
         outputHeaders = new MultivaluedMapImpl<String, Object>();
         this.method = method;
-        os = (method == null || !method.equals(HttpMethod.HEAD)) ? new VertxOutputStream(this, allocator)
+        os = (method == null || !method.equals(HttpMethod.HEAD)) ? new VertxOutputStream(this, allocator, gathering)
                 : null;
         this.request = request;
         this.response = request.response();
@@ -9,12 +9,16 @@ import javax.ws.rs.core.HttpHeaders;
 import org.jboss.resteasy.spi.AsyncOutputStream;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 
 public class VertxOutputStream extends AsyncOutputStream {
 
     private final VertxHttpResponse response;
     private final BufferAllocator allocator;
+    private final GatheringWriteSupport gathering;
     private ByteBuf pooledBuffer;
+    // The filled buffers not written yet if gathering writes are enabled
+    private CompositeByteBuf aggregate;
     private long written;
     private final long contentLength;
 
@@ -25,7 +29,17 @@ public class VertxOutputStream extends AsyncOutputStream {
      *
      */
     public VertxOutputStream(VertxHttpResponse response, BufferAllocator allocator) {
+        this(response, allocator, null);
+    }
+
+    /**
+     * Construct a new instance. No write timeout is configured.
+     *
+     * @param gathering if not {@code null} the response body is aggregated and written with a single gathering write
+     */
+    public VertxOutputStream(VertxHttpResponse response, BufferAllocator allocator, GatheringWriteSupport gathering) {
         this.allocator = allocator;
+        this.gathering = gathering;
         this.response = response;
         Object length = response.getOutputHeaders().getFirst(HttpHeaders.CONTENT_LENGTH);
         this.contentLength = length == null ? -1 : Long.parseLong(length.toString());
@@ -61,7 +75,7 @@ public class VertxOutputStream extends AsyncOutputStream {
         ByteBuf buffer = pooledBuffer;
         try {
             if (buffer == null) {
-                pooledBuffer = buffer = allocator.allocateBuffer();
+                pooledBuffer = buffer = gathering != null ? gathering.allocateFirstBuffer() : allocator.allocateBuffer();
             }
             while (rem > 0) {
                 int toWrite = Math.min(rem, buffer.writableBytes());
@@ -69,20 +83,77 @@ public class VertxOutputStream extends AsyncOutputStream {
                 rem -= toWrite;
                 idx += toWrite;
                 if (!buffer.isWritable()) {
-                    ByteBuf tmpBuf = buffer;
-                    this.pooledBuffer = buffer = allocator.allocateBuffer();
-                    response.writeBlocking(tmpBuf, false);
+                    if (gathering != null) {
+                        ByteBuf chunk = aggregate(buffer);
+                        this.pooledBuffer = buffer = gathering.allocateNextBuffer(aggregatedSize());
+                        if (chunk != null) {
+                            response.writeBlocking(chunk, false);
+                        }
+                    } else {
+                        ByteBuf tmpBuf = buffer;
+                        this.pooledBuffer = buffer = allocator.allocateBuffer();
+                        response.writeBlocking(tmpBuf, false);
+                    }
                 }
             }
         } catch (Exception e) {
             if (buffer != null && buffer.refCnt() > 0) {
                 buffer.release();
             }
+            releaseAggregate();
             throw new IOException(e);
         }
         updateWritten(len);
     }
 
+    /**
+     * Adds the filled buffer to the aggregated body.
+     *
+     * @return the aggregated body if it reached the maximum size and must be written, {@code null} otherwise
+     */
+    private ByteBuf aggregate(ByteBuf filled) {
+        if (aggregate == null) {
+            aggregate = gathering.allocateAggregate();
+        }
+        aggregate.addComponent(true, filled);
+        if (aggregate.readableBytes() < gathering.getMaxAggregatedSize()) {
+            return null;
+        }
+        ByteBuf chunk = aggregate;
+        aggregate = null;
+        return chunk;
+    }
+
+    private int aggregatedSize() {
+        return aggregate != null ? aggregate.readableBytes() : 0;
+    }
+
+    /**
+     * 
+     * @return the aggregated body followed by the current buffer, or {@code null} if there is nothing to write
+     */
+    private ByteBuf takeBuffered() {
+        ByteBuf buffered = pooledBuffer;
+        pooledBuffer = null;
+        if (aggregate != null) {
+            if (buffered != null) {
+                aggregate.addComponent(true, buffered);
+            }
+            buffered = aggregate;
+            aggregate = null;
+        }
+        return buffered;
+    }
+
+    private void releaseAggregate() {
+        if (aggregate != null) {
+            if (aggregate.refCnt() > 0) {
+                aggregate.release();
+            }
+            aggregate = null;
+        }
+    }
+
     void updateWritten(final long len) throws IOException {
         this.written += len;
         if (contentLength != -1 && this.written >= contentLength) {
@@ -98,6 +169,10 @@ public class VertxOutputStream extends AsyncOutputStream {
         if (closed) {
             throw new IOException("Stream is closed");
         }
+        if (gathering != null) {
+            // Deferred until the response is complete or the aggregated body reaches the maximum size
+            return;
+        }
         try {
             if (pooledBuffer != null) {
                 response.writeBlocking(pooledBuffer, false);
@@ -119,7 +194,10 @@ public class VertxOutputStream extends AsyncOutputStream {
         if (closed)
             return;
         try {
-            response.writeBlocking(pooledBuffer, true);
+            if (gathering != null) {
+                gathering.recordResponseSize(written);
+            }
+            response.writeBlocking(takeBuffered(), true);
         } catch (Exception e) {
             throw new IOException(e);
         } finally {
@@ -130,6 +208,10 @@ public class VertxOutputStream extends AsyncOutputStream {
 
     @Override
     public CompletionStage<Void> asyncFlush() {
+        if (gathering != null && !closed) {
+            // Deferred until the response is complete or the aggregated body reaches the maximum size
+            return CompletableFuture.completedFuture(null);
+        }
         return asyncFlush(false);
     }
 
@@ -139,9 +221,11 @@ public class VertxOutputStream extends AsyncOutputStream {
             ret.completeExceptionally(new IOException("Stream is closed"));
             return ret;
         }
-        if (pooledBuffer != null) {
-            ByteBuf sentBuffer = pooledBuffer;
-            pooledBuffer = null;
+        if (isLast && gathering != null) {
+            gathering.recordResponseSize(written);
+        }
+        if (pooledBuffer != null || aggregate != null) {
+            ByteBuf sentBuffer = takeBuffered();
             CompletionStage<Void> ret = response.writeNonBlocking(sentBuffer, isLast);
             return ret.whenComplete((v, t) -> {
                 if (t != null)
@@ -167,7 +251,7 @@ public class VertxOutputStream extends AsyncOutputStream {
         ByteBuf buffer = pooledBuffer;
         CompletionStage<Void> ret = CompletableFuture.completedFuture(null);
         if (buffer == null) {
-            pooledBuffer = buffer = allocator.allocateBuffer();
+            pooledBuffer = buffer = gathering != null ? gathering.allocateFirstBuffer() : allocator.allocateBuffer();
         }
         while (rem > 0) {
             int toWrite = Math.min(rem, buffer.writableBytes());
@@ -175,8 +259,17 @@ public class VertxOutputStream extends AsyncOutputStream {
             rem -= toWrite;
             idx += toWrite;
             if (!buffer.isWritable()) {
-                ByteBuf tmpBuf = buffer;
-                this.pooledBuffer = buffer = allocator.allocateBuffer();
+                ByteBuf tmpBuf;
+                if (gathering != null) {
+                    tmpBuf = aggregate(buffer);
+                    this.pooledBuffer = buffer = gathering.allocateNextBuffer(aggregatedSize());
+                    if (tmpBuf == null) {
+                        continue;
+                    }
+                } else {
+                    tmpBuf = buffer;
+                    this.pooledBuffer = buffer = allocator.allocateBuffer();
+                }
                 ret = ret.thenCompose(v -> response.writeNonBlocking(tmpBuf, false)
                         .whenComplete((v2, t) -> {
                             if (t != null)
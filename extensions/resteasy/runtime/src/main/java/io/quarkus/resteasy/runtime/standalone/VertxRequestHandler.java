@@ -3,18 +3,28 @@ package io.quarkus.resteasy.runtime.standalone;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.CDI;
+import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.core.SecurityContext;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.core.AcceptHeaderByFileSuffixFilter;
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.core.ResourceMethodRegistry;
 import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.core.SynchronousDispatcher;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.Failure;
+import org.jboss.resteasy.spi.ResourceInvoker;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
 import io.quarkus.arc.ManagedContext;
@@ -26,6 +36,7 @@ import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -40,25 +51,67 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final RequestDispatcher dispatcher;
     protected final String rootPath;
     protected final BufferAllocator allocator;
+    protected final GatheringWriteSupport gathering;
     protected final BeanContainer beanContainer;
     protected final CurrentIdentityAssociation association;
     protected final CurrentVertxRequest currentVertxRequest;
     protected final Executor executor;
     protected final long readTimeout;
+    // The invokers of the resource methods that may be dispatched on the IO thread
+    protected final Set<ResourceInvoker> nonBlockingInvokers;
+    // The built-in pre-matching filter that rewrites the path and the Accept header of requests with a file suffix
+    protected final boolean fileSuffixFilter;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
             BufferAllocator allocator, Executor executor, long readTimeout) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, null, executor, readTimeout);
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator, GatheringWriteSupport gathering, Executor executor, long readTimeout) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, gathering, executor, readTimeout,
+                Collections.emptySet());
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator, GatheringWriteSupport gathering, Executor executor, long readTimeout,
+            Set<String> nonBlockingMethods) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
                 deployment.getProviderFactory(), null, Thread.currentThread().getContextClassLoader());
         this.rootPath = rootPath;
         this.allocator = allocator;
+        this.gathering = gathering;
         this.executor = executor;
         this.readTimeout = readTimeout;
+        boolean suffixFilter = false;
+        boolean otherPreMatchFilters = false;
+        for (ContainerRequestFilter filter : deployment.getProviderFactory().getContainerRequestFilterRegistry()
+                .preMatch()) {
+            if (filter instanceof AcceptHeaderByFileSuffixFilter) {
+                suffixFilter = true;
+            } else {
+                otherPreMatchFilters = true;
+            }
+        }
+        if (!nonBlockingMethods.isEmpty() && otherPreMatchFilters) {
+            // A pre-matching filter may change the matched resource method
+            log.debug("Pre-matching request filters registered - all requests are dispatched on a worker thread");
+            this.nonBlockingInvokers = Collections.emptySet();
+        } else {
+            this.nonBlockingInvokers = getNonBlockingInvokers(this.dispatcher.getDispatcher(), nonBlockingMethods);
+        }
+        this.fileSuffixFilter = suffixFilter;
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
         currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
@@ -80,11 +133,37 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             return;
         }
 
+        MatchingHttpRequest matchingRequest = null;
+        ResourceInvoker invoker = null;
+        if (canMatch(request)) {
+            HttpServerRequest httpRequest = request.request();
+            try {
+                matchingRequest = new MatchingHttpRequest(VertxUtil.extractUriInfo(httpRequest, rootPath),
+                        VertxUtil.extractHttpHeaders(httpRequest), httpRequest.rawMethod());
+                invoker = dispatcher.getDispatcher().getRegistry().getResourceInvoker(matchingRequest);
+            } catch (RuntimeException e) {
+                invoker = null;
+            }
+            if (invoker == null) {
+                // Not found, not allowed, etc. - the request is matched again and the failure is handled on a worker thread
+                matchingRequest = null;
+            } else if (nonBlockingInvokers.contains(invoker)) {
+                try {
+                    dispatch(request, is, new VertxBlockingOutput(request.request()), matchingRequest, invoker);
+                } catch (Throwable e) {
+                    request.fail(e);
+                }
+                return;
+            }
+        }
+
+        MatchingHttpRequest matchedRequest = matchingRequest;
+        ResourceInvoker matchedInvoker = invoker;
         executor.execute(new Runnable() {
             @Override
             public void run() {
                 try {
-                    dispatch(request, is, new VertxBlockingOutput(request.request()));
+                    dispatch(request, is, new VertxBlockingOutput(request.request()), matchedRequest, matchedInvoker);
                 } catch (Throwable e) {
                     request.fail(e);
                 }
@@ -92,7 +171,81 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         });
     }
 
-    private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output) {
+    /**
+     * 
+     * @param routingContext
+     * @return {@code true} if the request can be matched on the IO thread, before it is dispatched
+     */
+    private boolean canMatch(RoutingContext routingContext) {
+        if (nonBlockingInvokers.isEmpty()) {
+            return false;
+        }
+        HttpServerRequest request = routingContext.request();
+        if (routingContext.getBody() == null && hasBody(request)) {
+            // Reading the body would block the IO thread
+            return false;
+        }
+        // The file suffix filter changes the request before it is matched
+        return !fileSuffixFilter || !hasFileSuffix(request.path());
+    }
+
+    private static Set<ResourceInvoker> getNonBlockingInvokers(SynchronousDispatcher dispatcher,
+            Set<String> nonBlockingMethods) {
+        if (nonBlockingMethods.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<ResourceInvoker> nonBlockingInvokers = new HashSet<>();
+        for (List<ResourceInvoker> invokers : ((ResourceMethodRegistry) dispatcher.getRegistry()).getBounded().values()) {
+            for (ResourceInvoker invoker : invokers) {
+                if (invoker instanceof ResourceMethodInvoker
+                        && nonBlockingMethods.contains(getMethodId(((ResourceMethodInvoker) invoker).getMethod()))) {
+                    nonBlockingInvokers.add(invoker);
+                }
+            }
+        }
+        return nonBlockingInvokers;
+    }
+
+    private static boolean hasFileSuffix(String path) {
+        return path != null && path.indexOf('.', path.lastIndexOf('/') + 1) != -1;
+    }
+
+    private static boolean hasBody(HttpServerRequest request) {
+        String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            return !"0".equals(contentLength);
+        }
+        return request.getHeader(HttpHeaders.TRANSFER_ENCODING) != null;
+    }
+
+    /**
+     * 
+     * @param method
+     * @return the id of the resource method, e.g. {@code org.acme.Hello#greet(java.lang.String,int)}
+     */
+    public static String getMethodId(Method method) {
+        StringBuilder id = new StringBuilder();
+        id.append(method.getDeclaringClass().getName()).append('#').append(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                id.append(',');
+            }
+            id.append(parameterTypes[i].getName());
+        }
+        return id.append(')').toString();
+    }
+
+    /**
+     * 
+     * @param routingContext
+     * @param is
+     * @param output
+     * @param matchedRequest the request used to match the resource method, or {@code null} if the request was not matched yet
+     * @param invoker the invoker of the matched resource method, or {@code null} if the request was not matched yet
+     */
+    private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output,
+            MatchingHttpRequest matchedRequest, ResourceInvoker invoker) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
         QuarkusHttpUser user = (QuarkusHttpUser) routingContext.user();
@@ -103,11 +256,19 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         try {
             Context ctx = vertx.getOrCreateContext();
             HttpServerRequest request = routingContext.request();
-            ResteasyUriInfo uriInfo = VertxUtil.extractUriInfo(request, rootPath);
-            ResteasyHttpHeaders headers = VertxUtil.extractHttpHeaders(request);
+            ResteasyUriInfo uriInfo;
+            ResteasyHttpHeaders headers;
+            if (matchedRequest != null) {
+                // Keep the path parameters and the attributes recorded by the matching
+                uriInfo = matchedRequest.getUri();
+                headers = matchedRequest.getResteasyHttpHeaders();
+            } else {
+                uriInfo = VertxUtil.extractUriInfo(request, rootPath);
+                headers = VertxUtil.extractHttpHeaders(request);
+            }
             HttpServerResponse response = request.response();
             VertxHttpResponse vertxResponse = new VertxHttpResponse(request, dispatcher.getProviderFactory(),
-                    request.method(), allocator, output);
+                    request.method(), allocator, gathering, output);
 
             // using a supplier to make the remote Address resolution lazy: often it's not needed and it's not very cheap to create.
             LazyHostSupplier hostSupplier = new LazyHostSupplier(request);
@@ -116,10 +277,13 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
                     hostSupplier,
                     dispatcher.getDispatcher(), vertxResponse, requestContext);
             vertxRequest.setInputStream(is);
+            if (matchedRequest != null) {
+                matchedRequest.copyAttributesTo(vertxRequest);
+            }
             try {
                 ResteasyContext.pushContext(SecurityContext.class, new QuarkusResteasySecurityContext(request));
                 ResteasyContext.pushContext(RoutingContext.class, routingContext);
-                dispatcher.service(ctx, request, response, vertxRequest, vertxResponse, true);
+                dispatcher.service(ctx, request, response, vertxRequest, vertxResponse, true, invoker);
             } catch (Failure e1) {
                 vertxResponse.setStatus(e1.getErrorCode());
                 if (e1.isLoggable()) {
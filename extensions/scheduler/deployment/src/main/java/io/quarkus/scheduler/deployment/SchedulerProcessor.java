@@ -7,9 +7,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import javax.inject.Singleton;
 
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
@@ -34,6 +42,7 @@ import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.CustomScopeAnnotationsBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem.BeanClassAnnotationExclusion;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem.BeanTypeExclusion;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.AnnotationStore;
@@ -55,6 +64,8 @@ import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.util.HashUtil;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.MethodCreator;
@@ -62,12 +73,15 @@ import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.runtime.NonBlockingScheduledInvoker;
 import io.quarkus.scheduler.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SchedulerSupport;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.scheduler.runtime.metrics.ScheduledMethodGauge;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 
 /**
  * @author Martin Kouba
@@ -82,8 +96,20 @@ public class SchedulerProcessor {
     static final Type SCHEDULED_EXECUTION_TYPE = Type.create(DotName.createSimple(ScheduledExecution.class.getName()),
             Kind.CLASS);
 
+    static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
+    // Mutiny is not a dependency of the scheduler
+    static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+    // Vert.x is an optional dependency of the scheduler
+    static final DotName VERTX = DotName.createSimple("io.vertx.core.Vertx");
+
     static final String INVOKER_SUFFIX = "_ScheduledInvoker";
 
+    private static final MethodDescriptor SUBSCRIBE_AS_COMPLETION_STAGE = MethodDescriptor.ofMethod(UNI.toString(),
+            "subscribeAsCompletionStage", CompletableFuture.class);
+    private static final MethodDescriptor DESTROY_ON_COMPLETION = MethodDescriptor.ofMethod(
+            NonBlockingScheduledInvoker.class, "destroyOnCompletion", CompletionStage.class, CompletionStage.class,
+            InstanceHandle.class);
+
     @BuildStep
     AdditionalBeanBuildItem beans(Capabilities capabilities) {
         AdditionalBeanBuildItem.Builder builder = AdditionalBeanBuildItem.builder().addBeanClass(SchedulerSupport.class);
@@ -167,9 +193,10 @@ public class SchedulerProcessor {
                             method, bean)));
                     return;
                 }
-                if (!method.returnType().kind().equals(Type.Kind.VOID)) {
+                if (!method.returnType().kind().equals(Type.Kind.VOID) && !isNonBlocking(method)) {
                     validationContext.addDeploymentProblem(new IllegalStateException(
-                            String.format("Scheduled business method must return void [method: %s, bean: %s]",
+                            String.format(
+                                    "Scheduled business method must return void, CompletionStage or Uni [method: %s, bean: %s]",
                                     method, bean)));
                     return;
                 }
@@ -197,10 +224,16 @@ public class SchedulerProcessor {
     }
 
     @BuildStep
-    public List<UnremovableBeanBuildItem> unremovableBeans() {
+    public List<UnremovableBeanBuildItem> unremovableBeans(Capabilities capabilities) {
         // Beans annotated with @Scheduled should never be removed
-        return Arrays.asList(new UnremovableBeanBuildItem(new BeanClassAnnotationExclusion(SCHEDULED_NAME)),
-                new UnremovableBeanBuildItem(new BeanClassAnnotationExclusion(SCHEDULES_NAME)));
+        List<UnremovableBeanBuildItem> unremovableBeans = new ArrayList<>();
+        unremovableBeans.add(new UnremovableBeanBuildItem(new BeanClassAnnotationExclusion(SCHEDULED_NAME)));
+        unremovableBeans.add(new UnremovableBeanBuildItem(new BeanClassAnnotationExclusion(SCHEDULES_NAME)));
+        if (capabilities.isCapabilityPresent(Capabilities.VERTX_CORE)) {
+            // Vertx is looked up programmatically by the non-blocking invokers
+            unremovableBeans.add(new UnremovableBeanBuildItem(new BeanTypeExclusion(VERTX)));
+        }
+        return unremovableBeans;
     }
 
     @BuildStep
@@ -210,15 +243,18 @@ public class SchedulerProcessor {
             BuildProducer<GeneratedClassBuildItem> generatedClass, BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
             BuildProducer<FeatureBuildItem> feature,
             BuildProducer<ServiceStartBuildItem> serviceStart,
-            AnnotationProxyBuildItem annotationProxy, ExecutorBuildItem executor) {
+            AnnotationProxyBuildItem annotationProxy, ExecutorBuildItem executor, Capabilities capabilities) {
 
         feature.produce(new FeatureBuildItem(FeatureBuildItem.SCHEDULER));
         List<ScheduledMethodMetadata> scheduledMethods = new ArrayList<>();
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
+        // Without Vert.x the methods returning CompletionStage or Uni are invoked like the other methods
+        boolean nonBlockingSupported = capabilities.isCapabilityPresent(Capabilities.VERTX_CORE);
 
         for (ScheduledBusinessMethodItem businessMethod : scheduledBusinessMethods) {
             ScheduledMethodMetadata scheduledMethod = new ScheduledMethodMetadata();
-            String invokerClass = generateInvoker(businessMethod.getBean(), businessMethod.getMethod(), classOutput);
+            String invokerClass = generateInvoker(businessMethod.getBean(), businessMethod.getMethod(), classOutput,
+                    nonBlockingSupported);
             reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, invokerClass));
             scheduledMethod.setInvokerClassName(invokerClass);
             List<Scheduled> schedules = new ArrayList<>();
@@ -226,8 +262,7 @@ public class SchedulerProcessor {
                 schedules.add(annotationProxy.builder(scheduled, Scheduled.class).build(classOutput));
             }
             scheduledMethod.setSchedules(schedules);
-            scheduledMethod.setMethodDescription(
-                    businessMethod.getMethod().declaringClass() + "#" + businessMethod.getMethod().name());
+            scheduledMethod.setMethodDescription(getMethodDescription(businessMethod.getMethod()));
             scheduledMethods.add(scheduledMethod);
         }
         recorder.initialize(config, scheduledMethods, executor.getExecutorProxy(), beanContainer.getValue());
@@ -235,7 +270,88 @@ public class SchedulerProcessor {
         serviceStart.produce(new ServiceStartBuildItem(FeatureBuildItem.SCHEDULER));
     }
 
-    private String generateInvoker(BeanInfo bean, MethodInfo method, ClassOutput classOutput) {
+    @BuildStep
+    void registerMetrics(SchedulerConfig config, Capabilities capabilities, BeanArchiveIndexBuildItem beanArchives,
+            BuildProducer<MetricBuildItem> metrics) {
+        if (capabilities.isCapabilityPresent(Capabilities.QUARTZ)) {
+            // The statistics are only recorded by the simple scheduler
+            return;
+        }
+        Metadata executionsMetadata = Metadata.builder()
+                .withName("scheduler.executions")
+                .withDescription("Number of completed executions of the scheduled method.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata skippedExecutionsMetadata = Metadata.builder()
+                .withName("scheduler.skipped.executions")
+                .withDescription(
+                        "Number of executions skipped because a previous execution was still in progress or the executor was saturated.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata lastRunTimeMetadata = Metadata.builder()
+                .withName("scheduler.run.time.last")
+                .withDescription("Run time of the last completed execution of the scheduled method.")
+                .withUnit(MetricUnits.MILLISECONDS)
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata maxRunTimeMetadata = Metadata.builder()
+                .withName("scheduler.run.time.max")
+                .withDescription("Maximum run time of the scheduled method.")
+                .withUnit(MetricUnits.MILLISECONDS)
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata totalRunTimeMetadata = Metadata.builder()
+                .withName("scheduler.run.time.total")
+                .withDescription("Total run time of the completed executions of the scheduled method.")
+                .withUnit(MetricUnits.MILLISECONDS)
+                .withType(MetricType.GAUGE)
+                .build();
+        // The bean discovery is not finished yet so the metrics are registered per declaring method
+        // A method inherited by several beans is reported once
+        Set<String> methodDescriptions = new TreeSet<>();
+        for (DotName annotationName : Arrays.asList(SCHEDULED_NAME, SCHEDULES_NAME)) {
+            for (AnnotationInstance annotation : beanArchives.getIndex().getAnnotations(annotationName)) {
+                if (annotation.target().kind() == org.jboss.jandex.AnnotationTarget.Kind.METHOD) {
+                    methodDescriptions.add(getMethodDescription(annotation.target().asMethod()));
+                }
+            }
+        }
+        for (String methodDescription : methodDescriptions) {
+            Tag tag = new Tag("method", methodDescription);
+            metrics.produce(new MetricBuildItem(executionsMetadata,
+                    new ScheduledMethodGauge(methodDescription, "executions"),
+                    config.metricsEnabled,
+                    "scheduler",
+                    tag));
+            metrics.produce(new MetricBuildItem(skippedExecutionsMetadata,
+                    new ScheduledMethodGauge(methodDescription, "skippedExecutions"),
+                    config.metricsEnabled,
+                    "scheduler",
+                    tag));
+            metrics.produce(new MetricBuildItem(lastRunTimeMetadata,
+                    new ScheduledMethodGauge(methodDescription, "lastRunTime"),
+                    config.metricsEnabled,
+                    "scheduler",
+                    tag));
+            metrics.produce(new MetricBuildItem(maxRunTimeMetadata,
+                    new ScheduledMethodGauge(methodDescription, "maxRunTime"),
+                    config.metricsEnabled,
+                    "scheduler",
+                    tag));
+            metrics.produce(new MetricBuildItem(totalRunTimeMetadata,
+                    new ScheduledMethodGauge(methodDescription, "totalRunTime"),
+                    config.metricsEnabled,
+                    "scheduler",
+                    tag));
+        }
+    }
+
+    private String getMethodDescription(MethodInfo method) {
+        return method.declaringClass() + "#" + method.name();
+    }
+
+    private String generateInvoker(BeanInfo bean, MethodInfo method, ClassOutput classOutput,
+            boolean nonBlockingSupported) {
 
         String baseName;
         if (bean.getImplClazz().enclosingClass() != null) {
@@ -253,6 +369,11 @@ public class SchedulerProcessor {
         String generatedName = targetPackage.replace('.', '/') + "/" + baseName + INVOKER_SUFFIX + "_" + method.name() + "_"
                 + HashUtil.sha1(sigBuilder.toString());
 
+        if (isNonBlocking(method) && nonBlockingSupported) {
+            generateNonBlockingInvoker(bean, method, generatedName, classOutput);
+            return generatedName.replace('/', '.');
+        }
+
         ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(ScheduledInvoker.class)
                 .build();
@@ -262,26 +383,34 @@ public class SchedulerProcessor {
         // InjectableBean<Foo: bean = Arc.container().bean("1");
         // InstanceHandle<Foo> handle = Arc.container().instance(bean);
         // handle.get().ping();
-        ResultHandle containerHandle = invoke
-                .invokeStaticMethod(MethodDescriptor.ofMethod(Arc.class, "container", ArcContainer.class));
-        ResultHandle beanHandle = invoke.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(ArcContainer.class, "bean", InjectableBean.class, String.class),
-                containerHandle, invoke.load(bean.getIdentifier()));
-        ResultHandle instanceHandle = invoke.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(ArcContainer.class, "instance", InstanceHandle.class, InjectableBean.class),
-                containerHandle, beanHandle);
+        ResultHandle instanceHandle = getInstanceHandle(bean, invoke);
         ResultHandle beanInstanceHandle = invoke
                 .invokeInterfaceMethod(MethodDescriptor.ofMethod(InstanceHandle.class, "get", Object.class), instanceHandle);
+        String returnType = method.returnType().name().toString();
+        ResultHandle resultHandle;
         if (method.parameters().isEmpty()) {
-            invoke.invokeVirtualMethod(
-                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class),
+            resultHandle = invoke.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), returnType),
                     beanInstanceHandle);
         } else {
-            invoke.invokeVirtualMethod(
-                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class,
+            resultHandle = invoke.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), returnType,
                             ScheduledExecution.class),
                     beanInstanceHandle, invoke.getMethodParam(0));
         }
+        if (isNonBlocking(method)) {
+            // Block until the returned stage completes: stage.toCompletableFuture().join()
+            BytecodeCreator notNull = invoke.ifNull(resultHandle).falseBranch();
+            ResultHandle stageHandle = resultHandle;
+            if (method.returnType().name().equals(UNI)) {
+                stageHandle = notNull.invokeInterfaceMethod(SUBSCRIBE_AS_COMPLETION_STAGE, resultHandle);
+            }
+            ResultHandle futureHandle = notNull.invokeInterfaceMethod(
+                    MethodDescriptor.ofMethod(CompletionStage.class, "toCompletableFuture", CompletableFuture.class),
+                    stageHandle);
+            notNull.invokeVirtualMethod(MethodDescriptor.ofMethod(CompletableFuture.class, "join", Object.class),
+                    futureHandle);
+        }
         // handle.destroy() - destroy dependent instance afterwards
         if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
             invoke.invokeInterfaceMethod(MethodDescriptor.ofMethod(InstanceHandle.class, "destroy", void.class),
@@ -293,6 +422,61 @@ public class SchedulerProcessor {
         return generatedName.replace('/', '.');
     }
 
+    private void generateNonBlockingInvoker(BeanInfo bean, MethodInfo method, String generatedName,
+            ClassOutput classOutput) {
+        ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .superClass(NonBlockingScheduledInvoker.class)
+                .build();
+
+        // The descriptor is: CompletionStage invokeBeanAsync(ScheduledExecution execution)
+        MethodCreator invoke = invokerCreator.getMethodCreator("invokeBeanAsync", CompletionStage.class,
+                ScheduledExecution.class);
+        ResultHandle instanceHandle = getInstanceHandle(bean, invoke);
+        ResultHandle beanInstanceHandle = invoke
+                .invokeInterfaceMethod(MethodDescriptor.ofMethod(InstanceHandle.class, "get", Object.class), instanceHandle);
+        String returnType = method.returnType().name().toString();
+        ResultHandle resultHandle;
+        if (method.parameters().isEmpty()) {
+            resultHandle = invoke.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), returnType),
+                    beanInstanceHandle);
+        } else {
+            resultHandle = invoke.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), returnType,
+                            ScheduledExecution.class),
+                    beanInstanceHandle, invoke.getMethodParam(0));
+        }
+        if (method.returnType().name().equals(UNI)) {
+            // uni.subscribeAsCompletionStage()
+            BranchResult isNull = invoke.ifNull(resultHandle);
+            isNull.trueBranch().returnValue(isNull.trueBranch().loadNull());
+            resultHandle = invoke.invokeInterfaceMethod(SUBSCRIBE_AS_COMPLETION_STAGE, resultHandle);
+        }
+        // Destroy dependent instance once the execution completes
+        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            resultHandle = invoke.invokeVirtualMethod(DESTROY_ON_COMPLETION, invoke.getThis(), resultHandle, instanceHandle);
+        }
+        invoke.returnValue(resultHandle);
+
+        invokerCreator.close();
+    }
+
+    private ResultHandle getInstanceHandle(BeanInfo bean, MethodCreator invoke) {
+        ResultHandle containerHandle = invoke
+                .invokeStaticMethod(MethodDescriptor.ofMethod(Arc.class, "container", ArcContainer.class));
+        ResultHandle beanHandle = invoke.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(ArcContainer.class, "bean", InjectableBean.class, String.class),
+                containerHandle, invoke.load(bean.getIdentifier()));
+        return invoke.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(ArcContainer.class, "instance", InstanceHandle.class, InjectableBean.class),
+                containerHandle, beanHandle);
+    }
+
+    private static boolean isNonBlocking(MethodInfo method) {
+        DotName returnType = method.returnType().name();
+        return returnType.equals(COMPLETION_STAGE) || returnType.equals(UNI);
+    }
+
     private Throwable validateScheduled(CronParser parser, AnnotationInstance schedule) {
         AnnotationValue cronValue = schedule.value("cron");
         if (cronValue != null && !cronValue.asString().trim().isEmpty()) {
@@ -316,11 +500,15 @@ public class SchedulerProcessor {
                 if (Character.isDigit(every.charAt(0))) {
                     every = "PT" + every;
                 }
+                Duration duration;
                 try {
-                    Duration.parse(every);
+                    duration = Duration.parse(every);
                 } catch (Exception e) {
                     return new IllegalStateException("Invalid every() expression on: " + schedule, e);
                 }
+                if (duration.toMillis() <= 0) {
+                    return new IllegalStateException("The every() expression must be at least one millisecond on: " + schedule);
+                }
             } else {
                 return new IllegalStateException("@Scheduled must declare either cron() or every(): " + schedule);
             }
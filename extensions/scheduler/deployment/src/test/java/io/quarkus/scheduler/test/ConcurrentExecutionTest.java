@@ -0,0 +1,88 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConcurrentExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.metrics.enabled=true"), "application.properties"));
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testConcurrentExecution() throws InterruptedException {
+        assertTrue(Jobs.SKIP_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.QUEUE_LATCH.await(5, TimeUnit.SECONDS));
+        // The executions never overlap
+        assertEquals(1, Jobs.SKIP_MAX_CONCURRENT.get());
+        assertEquals(1, Jobs.QUEUE_MAX_CONCURRENT.get());
+        assertTrue(getGauge("scheduler.skipped.executions", "skipped").getValue() > 0);
+        assertTrue(getGauge("scheduler.run.time.max", "skipped").getValue() >= 300);
+        assertTrue(getGauge("scheduler.executions", "queued").getValue() >= 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Gauge<Long> getGauge(String name, String method) {
+        return registry.getGauges().get(new MetricID(name, new Tag("method", Jobs.class.getName() + "#" + method)));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch SKIP_LATCH = new CountDownLatch(2);
+        static final CountDownLatch QUEUE_LATCH = new CountDownLatch(2);
+
+        static final AtomicInteger SKIP_RUNNING = new AtomicInteger();
+        static final AtomicInteger SKIP_MAX_CONCURRENT = new AtomicInteger();
+        static final AtomicInteger QUEUE_RUNNING = new AtomicInteger();
+        static final AtomicInteger QUEUE_MAX_CONCURRENT = new AtomicInteger();
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void skipped() throws InterruptedException {
+            run(SKIP_RUNNING, SKIP_MAX_CONCURRENT);
+            SKIP_LATCH.countDown();
+        }
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.QUEUE, maxThreads = 2)
+        void queued() throws InterruptedException {
+            run(QUEUE_RUNNING, QUEUE_MAX_CONCURRENT);
+            QUEUE_LATCH.countDown();
+        }
+
+        private void run(AtomicInteger running, AtomicInteger maxConcurrent) throws InterruptedException {
+            int current = running.incrementAndGet();
+            maxConcurrent.accumulateAndGet(current, Math::max);
+            // Overrun the interval
+            Thread.sleep(300);
+            running.decrementAndGet();
+        }
+
+    }
+
+}
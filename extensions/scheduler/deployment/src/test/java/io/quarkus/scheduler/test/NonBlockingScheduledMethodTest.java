@@ -0,0 +1,87 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class NonBlockingScheduledMethodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Inject
+    Jobs jobs;
+
+    @Test
+    public void testNonBlockingMethods() throws InterruptedException {
+        assertTrue(Jobs.COMPLETION_STAGE_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.UNI_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.ON_EVENT_LOOP.get(), "Non-blocking methods must be invoked on an event loop");
+        // The next execution is skipped until the returned stage completes
+        assertEquals(1, Jobs.MAX_CONCURRENCY.get());
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch COMPLETION_STAGE_LATCH = new CountDownLatch(3);
+        static final CountDownLatch UNI_LATCH = new CountDownLatch(3);
+        static final AtomicBoolean ON_EVENT_LOOP = new AtomicBoolean(true);
+        static final AtomicInteger MAX_CONCURRENCY = new AtomicInteger();
+
+        private final AtomicInteger running = new AtomicInteger();
+
+        @Inject
+        Vertx vertx;
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.SKIP)
+        CompletionStage<Void> completionStage() {
+            checkEventLoop();
+            int current = running.incrementAndGet();
+            MAX_CONCURRENCY.accumulateAndGet(current, Math::max);
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            // Complete the execution later without blocking the event loop
+            vertx.setTimer(300, id -> {
+                running.decrementAndGet();
+                COMPLETION_STAGE_LATCH.countDown();
+                result.complete(null);
+            });
+            return result;
+        }
+
+        @Scheduled(every = "0.1s")
+        Uni<String> uni() {
+            checkEventLoop();
+            return Uni.createFrom().item("ok").onItem().invoke(item -> UNI_LATCH.countDown());
+        }
+
+        private void checkEventLoop() {
+            if (!Context.isOnEventLoopThread()) {
+                ON_EVENT_LOOP.set(false);
+            }
+        }
+
+    }
+
+}
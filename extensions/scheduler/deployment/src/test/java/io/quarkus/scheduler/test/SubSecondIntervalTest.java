@@ -0,0 +1,49 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SubSecondIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // 10 executions would take at least 10 seconds with a one second resolution
+        assertTrue(Jobs.LATCH.await(3, TimeUnit.SECONDS));
+        ScheduledExecution execution = Jobs.lastExecution;
+        assertNotNull(execution.getTrigger().getNextFireTime());
+        assertFalse(execution.getScheduledFireTime().isAfter(execution.getFireTime()));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(10);
+
+        static volatile ScheduledExecution lastExecution;
+
+        @Scheduled(every = "0.1s")
+        void everyHundredMillis(ScheduledExecution execution) {
+            lastExecution = execution;
+            LATCH.countDown();
+        }
+
+    }
+
+}
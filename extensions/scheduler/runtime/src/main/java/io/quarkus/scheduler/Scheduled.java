@@ -81,6 +81,52 @@ public @interface Scheduled {
      */
     TimeUnit delayUnit() default TimeUnit.MINUTES;
 
+    /**
+     * Specifies what happens if the trigger fires while a previous execution of the same business method is still in
+     * progress.
+     * <p>
+     * Note that this attribute is only taken into account by the default scheduler implementation.
+     *
+     * @return the concurrent execution policy
+     * @see ConcurrentExecution
+     */
+    ConcurrentExecution concurrentExecution() default ConcurrentExecution.PROCEED;
+
+    /**
+     * If set to a positive value, the business method is executed by a dedicated executor with the given maximum number of
+     * threads instead of the shared worker pool, so that a slow job cannot take over the worker pool. The dedicated executor
+     * accepts at most the same number of waiting executions, any other execution is skipped. If several schedules of the same
+     * business method declare this attribute, the highest value is used.
+     * <p>
+     * Note that this attribute is only taken into account by the default scheduler implementation.
+     *
+     * @return the maximum number of threads of the dedicated executor
+     */
+    int maxThreads() default 0;
+
+    /**
+     * Represents the behavior of a trigger firing while a previous execution of the same business method is in progress.
+     */
+    enum ConcurrentExecution {
+
+        /**
+         * The business method is executed whether a previous execution is in progress or not.
+         */
+        PROCEED,
+
+        /**
+         * The execution is skipped if a previous execution is in progress.
+         */
+        SKIP,
+
+        /**
+         * The execution is postponed until the previous execution completes. At most one execution is postponed, any other
+         * execution is skipped.
+         */
+        QUEUE
+
+    }
+
     @Retention(RUNTIME)
     @Target(METHOD)
     @interface Schedules {
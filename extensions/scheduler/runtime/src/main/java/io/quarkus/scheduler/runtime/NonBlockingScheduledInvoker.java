@@ -0,0 +1,117 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Invokes a scheduled business method that returns {@code CompletionStage} or {@code Uni}. The invocation does not block the
+ * caller thread - the execution is completed when the returned stage completes.
+ * <p>
+ * Vert.x is an optional dependency of the scheduler. The invokers extending this class are only generated if the
+ * {@code quarkus-vertx-core} extension is present, so this class must not be loaded otherwise.
+ */
+public abstract class NonBlockingScheduledInvoker implements ScheduledInvoker {
+
+    @Override
+    public boolean isBlocking() {
+        return false;
+    }
+
+    /**
+     * Invokes the business method and activates the request context if necessary. A request context activated by this
+     * method is destroyed when the returned stage completes.
+     * 
+     * @param execution
+     * @return the completion stage of the execution
+     */
+    public CompletionStage<?> invokeAsync(ScheduledExecution execution) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            return nonNull(invokeBeanAsync(execution));
+        }
+        CompletionStage<?> result;
+        requestContext.activate();
+        try {
+            result = nonNull(invokeBeanAsync(execution));
+        } catch (RuntimeException | Error e) {
+            requestContext.terminate();
+            throw e;
+        }
+        ContextState state = requestContext.getState();
+        requestContext.deactivate();
+        Context context = Vertx.currentContext();
+        return result.whenComplete((r, f) -> {
+            if (context != null) {
+                // Destroy the context on the thread that activated it
+                context.runOnContext(v -> terminate(requestContext, state));
+            } else {
+                terminate(requestContext, state);
+            }
+        });
+    }
+
+    /**
+     * Each method is bound to a single event loop so that its executions and completions are not spread across threads.
+     * 
+     * @return an executor that runs the invocations on an event loop
+     */
+    public Executor createExecutor() {
+        Context context = Arc.container().instance(Vertx.class).get().getOrCreateContext();
+        return new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                context.runOnContext(v -> command.run());
+            }
+        };
+    }
+
+    /**
+     * Blocks the caller thread until the execution completes, e.g. if invoked by a scheduler implementation that is not
+     * aware of non-blocking invokers.
+     */
+    @Override
+    public void invokeBean(ScheduledExecution execution) {
+        nonNull(invokeBeanAsync(execution)).toCompletableFuture().join();
+    }
+
+    /**
+     * 
+     * @param execution
+     * @return the completion stage returned by the business method
+     */
+    public abstract CompletionStage<?> invokeBeanAsync(ScheduledExecution execution);
+
+    /**
+     * Destroys the instance of a {@link javax.enterprise.context.Dependent} bean once the execution completes.
+     * 
+     * @param result
+     * @param handle
+     * @return the completion stage of the execution
+     */
+    protected CompletionStage<?> destroyOnCompletion(CompletionStage<?> result, InstanceHandle<?> handle) {
+        if (result == null) {
+            handle.destroy();
+            return null;
+        }
+        return result.whenComplete((r, f) -> handle.destroy());
+    }
+
+    private static CompletionStage<?> nonNull(CompletionStage<?> result) {
+        return result != null ? result : CompletableFuture.completedFuture(null);
+    }
+
+    private static void terminate(ManagedContext requestContext, ContextState state) {
+        requestContext.activate(state);
+        requestContext.terminate();
+    }
+
+}
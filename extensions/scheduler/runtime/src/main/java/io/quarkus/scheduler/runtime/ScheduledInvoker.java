@@ -8,4 +8,13 @@ import io.quarkus.scheduler.ScheduledExecution;
  */
 public interface ScheduledInvoker extends BeanInvoker<ScheduledExecution> {
 
+    /**
+     * 
+     * @return {@code true} if the invocation blocks the caller thread until the business method completes
+     * @see NonBlockingScheduledInvoker
+     */
+    default boolean isBlocking() {
+        return true;
+    }
+
 }
@@ -0,0 +1,231 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+
+/**
+ * Tracks the executions of a scheduled business method, applies the concurrent execution policies and records the execution
+ * statistics.
+ */
+public class ScheduledMethodState {
+
+    private static final Logger LOGGER = Logger.getLogger(ScheduledMethodState.class);
+
+    private final String methodDescription;
+    private final ScheduledInvoker invoker;
+    private final Executor executor;
+
+    // The number of executions submitted and not completed yet
+    private final AtomicInteger running;
+    // The execution postponed by the QUEUE policy
+    private final AtomicReference<ScheduledExecution> queued;
+    // The non-blocking executions in progress
+    private final Set<CompletableFuture<Void>> inFlight;
+
+    private final LongAdder executions;
+    private final LongAdder skippedExecutions;
+    // nanoseconds
+    private final AtomicLong lastRunTime;
+    private final AtomicLong maxRunTime;
+    private final LongAdder totalRunTime;
+
+    ScheduledMethodState(String methodDescription, ScheduledInvoker invoker, Executor executor) {
+        this.methodDescription = methodDescription;
+        this.invoker = invoker;
+        this.executor = executor;
+        this.running = new AtomicInteger();
+        this.queued = new AtomicReference<>();
+        this.inFlight = ConcurrentHashMap.newKeySet();
+        this.executions = new LongAdder();
+        this.skippedExecutions = new LongAdder();
+        this.lastRunTime = new AtomicLong();
+        this.maxRunTime = new AtomicLong();
+        this.totalRunTime = new LongAdder();
+    }
+
+    void execute(ScheduledExecution execution, ConcurrentExecution concurrentExecution) {
+        switch (concurrentExecution) {
+            case SKIP:
+                if (!running.compareAndSet(0, 1)) {
+                    skip(execution, "a previous execution is still in progress");
+                    return;
+                }
+                break;
+            case QUEUE:
+                if (!running.compareAndSet(0, 1)) {
+                    if (!queued.compareAndSet(null, execution)) {
+                        skip(execution, "an execution is already queued");
+                    } else if (running.compareAndSet(0, 1)) {
+                        // The previous execution completed in the meantime
+                        release();
+                    }
+                    return;
+                }
+                break;
+            default:
+                running.incrementAndGet();
+                break;
+        }
+        submit(execution);
+    }
+
+    private void submit(ScheduledExecution execution) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    invoke(execution);
+                }
+            });
+            LOGGER.debugf("Executing scheduled task for trigger %s", execution.getTrigger());
+        } catch (RejectedExecutionException e) {
+            LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", execution.getTrigger());
+            skippedExecutions.increment();
+            running.decrementAndGet();
+        }
+    }
+
+    private void invoke(ScheduledExecution execution) {
+        long start = System.nanoTime();
+        if (invoker.isBlocking()) {
+            try {
+                invoker.invoke(execution);
+            } catch (Throwable t) {
+                LOGGER.errorf(t, "Error occured while executing task for trigger %s", execution.getTrigger());
+            } finally {
+                completed(System.nanoTime() - start);
+                release();
+            }
+            return;
+        }
+        // The permit is released when the returned stage completes
+        CompletionStage<?> result;
+        try {
+            result = ((NonBlockingScheduledInvoker) invoker).invokeAsync(execution);
+        } catch (Throwable t) {
+            LOGGER.errorf(t, "Error occured while executing task for trigger %s", execution.getTrigger());
+            completed(System.nanoTime() - start);
+            release();
+            return;
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight.add(done);
+        result.whenComplete((r, f) -> {
+            if (f != null) {
+                LOGGER.errorf(f, "Error occured while executing task for trigger %s", execution.getTrigger());
+            }
+            completed(System.nanoTime() - start);
+            inFlight.remove(done);
+            done.complete(null);
+            release();
+        });
+    }
+
+    /**
+     * 
+     * @return a future completed when all non-blocking executions in progress complete
+     */
+    CompletableFuture<Void> inFlightExecutions() {
+        return CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Releases the permit of a completed execution, or hands it over to the queued execution if there is one.
+     */
+    private void release() {
+        for (;;) {
+            ScheduledExecution next = queued.getAndSet(null);
+            if (next != null) {
+                submit(next);
+                return;
+            }
+            running.decrementAndGet();
+            // An execution may have been queued after the check above
+            if (queued.get() == null || !running.compareAndSet(0, 1)) {
+                return;
+            }
+        }
+    }
+
+    private void skip(ScheduledExecution execution, String reason) {
+        LOGGER.debugf("Skipped execution of a scheduled task for trigger %s - %s", execution.getTrigger(), reason);
+        skippedExecutions.increment();
+    }
+
+    private void completed(long runTime) {
+        executions.increment();
+        lastRunTime.set(runTime);
+        totalRunTime.add(runTime);
+        long max;
+        do {
+            max = maxRunTime.get();
+        } while (runTime > max && !maxRunTime.compareAndSet(max, runTime));
+    }
+
+    public String getMethodDescription() {
+        return methodDescription;
+    }
+
+    /**
+     *
+     * @return the number of completed executions
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     *
+     * @return the number of executions skipped because of the concurrent execution policy or rejected by the executor
+     */
+    public long getSkippedExecutions() {
+        return skippedExecutions.sum();
+    }
+
+    /**
+     *
+     * @return the run time of the last completed execution in milliseconds
+     */
+    public long getLastRunTime() {
+        return TimeUnit.NANOSECONDS.toMillis(lastRunTime.get());
+    }
+
+    /**
+     *
+     * @return the longest run time in milliseconds
+     */
+    public long getMaxRunTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxRunTime.get());
+    }
+
+    /**
+     *
+     * @return the total run time of the completed executions in milliseconds
+     */
+    public long getTotalRunTime() {
+        return TimeUnit.NANOSECONDS.toMillis(totalRunTime.sum());
+    }
+
+    /**
+     *
+     * @return {@code true} if an execution is in progress
+     */
+    public boolean isRunning() {
+        return running.get() > 0;
+    }
+
+}
@@ -1,5 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
+import java.time.Duration;
+
 import com.cronutils.model.CronType;
 
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -18,4 +20,17 @@ public class SchedulerConfig {
     @ConfigItem(defaultValue = "quartz")
     public CronType cronType;
 
+    /**
+     * Whether the executions statistics of the scheduled business methods should be exposed as metrics if the
+     * {@code smallrye-metrics} extension is present.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "false")
+    public boolean metricsEnabled;
+
+    /**
+     * The maximum time to wait for the non-blocking executions in progress to complete when the application is stopped.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration shutdownTimeout;
+
 }
@@ -1,6 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -17,10 +18,12 @@ public class SchedulerSupport {
 
     private volatile ExecutorService executor;
     private volatile CronType cronType;
+    private volatile Duration shutdownTimeout;
     private volatile List<ScheduledMethodMetadata> scheduledMethods;
 
     void initialize(SchedulerConfig config, List<ScheduledMethodMetadata> scheduledMethods, ExecutorService executor) {
         this.cronType = config.cronType;
+        this.shutdownTimeout = config.shutdownTimeout;
         this.scheduledMethods = scheduledMethods;
         this.executor = executor;
     }
@@ -33,6 +36,10 @@ public class SchedulerSupport {
         return cronType;
     }
 
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
     public List<ScheduledMethodMetadata> getScheduledMethods() {
         return scheduledMethods;
     }
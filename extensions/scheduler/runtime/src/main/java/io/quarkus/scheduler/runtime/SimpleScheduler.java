@@ -2,16 +2,24 @@ package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.PreDestroy;
@@ -34,6 +42,7 @@ import com.cronutils.parser.CronParser;
 
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.Trigger;
@@ -44,22 +53,25 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
-
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
+    private final Map<String, List<ScheduledMethodState>> scheduledMethods;
+    private final List<ExecutorService> dedicatedExecutors;
     private final AtomicInteger triggerNameSequence;
     private final Config config;
+    private final Duration shutdownTimeout;
 
     public SimpleScheduler(SchedulerSupport support, Config config) {
         this.running = true;
         this.scheduledTasks = new ArrayList<>();
+        this.scheduledMethods = new HashMap<>();
+        this.dedicatedExecutors = new ArrayList<>();
         this.triggerNameSequence = new AtomicInteger();
         this.executor = support.getExecutor();
         this.config = config;
+        this.shutdownTimeout = support.getShutdownTimeout();
 
         if (support.getScheduledMethods().isEmpty()) {
             this.scheduledExecutor = null;
@@ -76,9 +88,25 @@ public class SimpleScheduler implements Scheduler {
 
             for (ScheduledMethodMetadata method : support.getScheduledMethods()) {
                 ScheduledInvoker invoker = support.createInvoker(method.getInvokerClassName());
+                int maxThreads = 0;
+                for (Scheduled scheduled : method.getSchedules()) {
+                    maxThreads = Math.max(maxThreads, scheduled.maxThreads());
+                }
+                Executor methodExecutor;
+                if (!invoker.isBlocking()) {
+                    // Non-blocking methods are invoked on an event loop and do not need a worker thread
+                    methodExecutor = ((NonBlockingScheduledInvoker) invoker).createExecutor();
+                } else if (maxThreads > 0) {
+                    methodExecutor = createDedicatedExecutor(method, maxThreads);
+                } else {
+                    methodExecutor = executor;
+                }
+                ScheduledMethodState state = new ScheduledMethodState(method.getMethodDescription(), invoker,
+                        methodExecutor);
+                scheduledMethods.computeIfAbsent(method.getMethodDescription(), k -> new ArrayList<>()).add(state);
                 for (Scheduled scheduled : method.getSchedules()) {
                     SimpleTrigger trigger = createTrigger(method.getInvokerClassName(), parser, scheduled);
-                    scheduledTasks.add(new ScheduledTask(trigger, invoker));
+                    scheduledTasks.add(new ScheduledTask(trigger, state, scheduled.concurrentExecution()));
                 }
             }
         }
@@ -89,12 +117,12 @@ public class SimpleScheduler implements Scheduler {
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        // Each task computes its next fire time and is scheduled on the executor, whose delay queue is ordered by fire time
+        // The scheduler thread only wakes up when a trigger is due
+        ZonedDateTime now = ZonedDateTime.now();
+        for (ScheduledTask task : scheduledTasks) {
+            task.scheduleNext(now);
+        }
     }
 
     @PreDestroy
@@ -103,38 +131,61 @@ public class SimpleScheduler implements Scheduler {
             if (scheduledExecutor != null) {
                 scheduledExecutor.shutdownNow();
             }
+            for (ExecutorService dedicatedExecutor : dedicatedExecutors) {
+                dedicatedExecutor.shutdownNow();
+            }
         } catch (Exception e) {
             LOGGER.warn("Unable to shutdown the scheduler executor", e);
         }
+        awaitInFlightExecutions();
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOGGER.trace("Skip all triggers - scheduler paused");
+    private void awaitInFlightExecutions() {
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        for (List<ScheduledMethodState> states : scheduledMethods.values()) {
+            for (ScheduledMethodState state : states) {
+                inFlight.add(state.inFlightExecutions());
+            }
         }
-        ZonedDateTime now = ZonedDateTime.now();
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0])).get(shutdownTimeout.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warnf("Non-blocking scheduled executions did not complete within %s", shutdownTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Failures are logged when an execution completes
+        }
+    }
 
-        for (ScheduledTask task : scheduledTasks) {
-            LOGGER.tracef("Evaluate trigger %s", task.trigger);
-            ZonedDateTime scheduledFireTime = task.trigger.evaluate(now);
-            if (scheduledFireTime != null) {
-                try {
-                    executor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                task.invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, task.trigger));
-                            } catch (Throwable t) {
-                                LOGGER.errorf(t, "Error occured while executing task for trigger %s", task.trigger);
-                            }
-                        }
-                    });
-                    LOGGER.debugf("Executing scheduled task for trigger %s", task.trigger);
-                } catch (RejectedExecutionException e) {
-                    LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", task.trigger);
-                }
-            }
+    /**
+     *
+     * @param methodDescription
+     * @return the states of the scheduled business method, one per bean declaring or inheriting the method
+     */
+    public List<ScheduledMethodState> getScheduledMethodStates(String methodDescription) {
+        return scheduledMethods.getOrDefault(methodDescription, Collections.emptyList());
+    }
+
+    void fire(ScheduledTask task) {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime scheduledFireTime = task.trigger.nextFireTime;
+        if (now.isBefore(scheduledFireTime)) {
+            // The executor woke up slightly early, e.g. because the system clock was adjusted
+            task.schedule(now, scheduledFireTime);
+            return;
         }
+        task.trigger.fired();
+        if (running) {
+            task.state.execute(new SimpleScheduledExecution(now, scheduledFireTime, task.trigger), task.concurrentExecution);
+        } else {
+            LOGGER.tracef("Skip trigger %s - scheduler paused", task.trigger);
+        }
+        task.scheduleNext(now);
     }
 
     @Override
@@ -147,6 +198,21 @@ public class SimpleScheduler implements Scheduler {
         running = true;
     }
 
+    private ExecutorService createDedicatedExecutor(ScheduledMethodMetadata method, int maxThreads) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        // The queue is bounded so that the executions of an overrunning method are skipped instead of piling up
+        ThreadPoolExecutor dedicatedExecutor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxThreads), r -> {
+                    Thread thread = new Thread(r,
+                            "scheduled-" + method.getMethodDescription() + "-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        dedicatedExecutor.allowCoreThreadTimeOut(true);
+        dedicatedExecutors.add(dedicatedExecutor);
+        return dedicatedExecutor;
+    }
+
     SimpleTrigger createTrigger(String invokerClass, CronParser parser, Scheduled scheduled) {
         String id = triggerNameSequence.getAndIncrement() + "_" + invokerClass;
         ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
@@ -181,20 +247,50 @@ public class SimpleScheduler implements Scheduler {
                 // This could only happen for config-based expressions
                 throw new IllegalStateException("Invalid every() expression on: " + scheduled, e);
             }
+            if (duration.toMillis() <= 0) {
+                throw new IllegalStateException("The every() expression must be at least one millisecond on: " + scheduled);
+            }
             return new IntervalTrigger(id, start, duration.toMillis());
         } else {
             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
         }
     }
 
-    static class ScheduledTask {
+    class ScheduledTask implements Runnable {
 
         final SimpleTrigger trigger;
-        final ScheduledInvoker invoker;
+        final ScheduledMethodState state;
+        final ConcurrentExecution concurrentExecution;
 
-        public ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker) {
+        public ScheduledTask(SimpleTrigger trigger, ScheduledMethodState state, ConcurrentExecution concurrentExecution) {
             this.trigger = trigger;
-            this.invoker = invoker;
+            this.state = state;
+            this.concurrentExecution = concurrentExecution;
+        }
+
+        @Override
+        public void run() {
+            fire(this);
+        }
+
+        void scheduleNext(ZonedDateTime now) {
+            ZonedDateTime nextFireTime = trigger.scheduleNext(now);
+            if (nextFireTime == null) {
+                LOGGER.debugf("Trigger %s will not fire again", trigger);
+                return;
+            }
+            schedule(now, nextFireTime);
+        }
+
+        void schedule(ZonedDateTime now, ZonedDateTime fireTime) {
+            LOGGER.tracef("Trigger %s scheduled to fire at %s", trigger, fireTime);
+            try {
+                scheduledExecutor.schedule(this, Math.max(0, ChronoUnit.MICROS.between(now, fireTime)),
+                        TimeUnit.MICROSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler is being shut down
+                LOGGER.tracef("Trigger %s not scheduled - scheduler stopped", trigger);
+            }
         }
 
     }
@@ -203,6 +299,9 @@ public class SimpleScheduler implements Scheduler {
 
         private final String id;
         protected final ZonedDateTime start;
+        // Only modified by the scheduler thread
+        protected volatile ZonedDateTime nextFireTime;
+        protected volatile ZonedDateTime previousFireTime;
 
         public SimpleTrigger(String id, ZonedDateTime start) {
             this.id = id;
@@ -212,20 +311,41 @@ public class SimpleScheduler implements Scheduler {
         /**
          * 
          * @param now
-         * @return the scheduled time if fired, {@code null} otherwise
+         * @return the next time the trigger should fire at, {@code null} if it will not fire again
          */
-        abstract ZonedDateTime evaluate(ZonedDateTime now);
+        abstract ZonedDateTime computeNextFireTime(ZonedDateTime now);
+
+        ZonedDateTime scheduleNext(ZonedDateTime now) {
+            nextFireTime = computeNextFireTime(now);
+            return nextFireTime;
+        }
+
+        void fired() {
+            previousFireTime = nextFireTime;
+        }
 
         public String getId() {
             return id;
         }
 
+        @Override
+        public Instant getNextFireTime() {
+            ZonedDateTime next = nextFireTime;
+            return next != null ? next.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            ZonedDateTime previous = previousFireTime;
+            return previous != null ? previous.toInstant() : null;
+        }
+
     }
 
     static class IntervalTrigger extends SimpleTrigger {
 
+        // milliseconds
         private final long interval;
-        private volatile ZonedDateTime lastFireTime;
 
         public IntervalTrigger(String id, ZonedDateTime start, long interval) {
             super(id, start);
@@ -233,31 +353,18 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            if (lastFireTime == null) {
+        ZonedDateTime computeNextFireTime(ZonedDateTime now) {
+            if (previousFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return now;
+                return now.isBefore(start) ? start : now;
             }
-            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
-                ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return scheduledFireTime;
+            ZonedDateTime next = previousFireTime.plus(Duration.ofMillis(interval));
+            long late = ChronoUnit.MILLIS.between(next, now);
+            if (late > 0) {
+                // Skip the executions missed while the scheduler thread was busy
+                next = next.plus(Duration.ofMillis((late / interval + 1) * interval));
             }
-            return null;
-        }
-
-        @Override
-        public Instant getNextFireTime() {
-            return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            return lastFireTime.toInstant();
+            return next;
         }
 
         @Override
@@ -271,9 +378,6 @@ public class SimpleScheduler implements Scheduler {
 
     static class CronTrigger extends SimpleTrigger {
 
-        // microseconds
-        private static final long DIFF_THRESHOLD = CHECK_PERIOD * 1000;
-
         private final Cron cron;
         private final ExecutionTime executionTime;
 
@@ -284,35 +388,9 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        public Instant getNextFireTime() {
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(ZonedDateTime.now());
-            return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            Optional<ZonedDateTime> prevFireTime = executionTime.lastExecution(ZonedDateTime.now());
-            return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
-        }
-
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            Optional<ZonedDateTime> lastFireTime = executionTime.lastExecution(now);
-            if (lastFireTime.isPresent()) {
-                ZonedDateTime trunc = lastFireTime.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isBefore(trunc)) {
-                    return null;
-                }
-                // Use microseconds precision to workaround incompatibility between jdk8 and jdk9+
-                long diff = ChronoUnit.MICROS.between(trunc, now);
-                if (diff <= DIFF_THRESHOLD) {
-                    LOGGER.debugf("%s fired, diff=%s μs", this, diff);
-                    return trunc;
-                }
-            }
-            return null;
+        ZonedDateTime computeNextFireTime(ZonedDateTime now) {
+            Optional<ZonedDateTime> next = executionTime.nextExecution(now.isBefore(start) ? start : now);
+            return next.isPresent() ? next.get() : null;
         }
 
         @Override
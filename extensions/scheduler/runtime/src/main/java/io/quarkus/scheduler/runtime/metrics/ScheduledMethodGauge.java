@@ -0,0 +1,90 @@
+package io.quarkus.scheduler.runtime.metrics;
+
+import java.util.List;
+
+import org.eclipse.microprofile.metrics.Gauge;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.runtime.ScheduledMethodState;
+import io.quarkus.scheduler.runtime.SimpleScheduler;
+
+public class ScheduledMethodGauge implements Gauge<Long> {
+
+    private String methodDescription;
+    private volatile List<ScheduledMethodState> states;
+    private String metric;
+
+    public ScheduledMethodGauge() {
+
+    }
+
+    /**
+     * @param methodDescription Which scheduled business method should be queried for metric
+     * @param metricName Name of the statistic that should be retrieved. This has nothing to do with the metric name from MP
+     *        Metrics point of view!
+     */
+    public ScheduledMethodGauge(String methodDescription, String metricName) {
+        this.methodDescription = methodDescription;
+        this.metric = metricName;
+    }
+
+    public String getMethodDescription() {
+        return methodDescription;
+    }
+
+    public void setMethodDescription(String methodDescription) {
+        this.methodDescription = methodDescription;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    private List<ScheduledMethodState> getStates() {
+        List<ScheduledMethodState> statesLocal = states;
+        if (statesLocal == null) {
+            synchronized (this) {
+                statesLocal = states;
+                if (statesLocal == null) {
+                    SimpleScheduler scheduler = (SimpleScheduler) Arc.container().instance(Scheduler.class).get();
+                    statesLocal = scheduler.getScheduledMethodStates(methodDescription);
+                    states = statesLocal;
+                }
+            }
+        }
+        return statesLocal;
+    }
+
+    @Override
+    public Long getValue() {
+        // A method inherited by several beans has one state per bean
+        long value = 0;
+        for (ScheduledMethodState state : getStates()) {
+            switch (metric) {
+                case "executions":
+                    value += state.getExecutions();
+                    break;
+                case "skippedExecutions":
+                    value += state.getSkippedExecutions();
+                    break;
+                case "lastRunTime":
+                    value = Math.max(value, state.getLastRunTime());
+                    break;
+                case "maxRunTime":
+                    value = Math.max(value, state.getMaxRunTime());
+                    break;
+                case "totalRunTime":
+                    value += state.getTotalRunTime();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown scheduled method metric");
+            }
+        }
+        return value;
+    }
+}
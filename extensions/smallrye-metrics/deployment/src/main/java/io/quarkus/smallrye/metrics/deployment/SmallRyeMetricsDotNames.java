@@ -69,4 +69,14 @@ public class SmallRyeMetricsDotNames {
             .createSimple("org.springframework.web.bind.annotation.RestController");
     public static final DotName JAXRS_PROVIDER = DotName.createSimple("javax.ws.rs.ext.Provider");
 
+    // these are needed for determining the resource methods of REST endpoints
+    public static final Set<DotName> JAXRS_HTTP_METHODS = new HashSet<>(Arrays.asList(
+            DotName.createSimple("javax.ws.rs.GET"),
+            DotName.createSimple("javax.ws.rs.POST"),
+            DotName.createSimple("javax.ws.rs.PUT"),
+            DotName.createSimple("javax.ws.rs.DELETE"),
+            DotName.createSimple("javax.ws.rs.HEAD"),
+            DotName.createSimple("javax.ws.rs.OPTIONS"),
+            DotName.createSimple("javax.ws.rs.PATCH")));
+
 }
@@ -16,6 +16,7 @@ import static io.quarkus.smallrye.metrics.deployment.SmallRyeMetricsDotNames.SIM
 import static io.quarkus.smallrye.metrics.deployment.SmallRyeMetricsDotNames.TIMER_INTERFACE;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -33,6 +34,7 @@ import org.eclipse.microprofile.metrics.MetricType;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ArrayType;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
@@ -58,6 +60,7 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
@@ -118,6 +121,14 @@ public class SmallRyeMetricsProcessor {
         @ConfigItem(name = "micrometer.compatibility", defaultValue = "false")
         public boolean micrometerCompatibility;
 
+        /**
+         * The bucket bounds, in milliseconds, of the response time histograms of the RESTful resource methods. For each
+         * bound a {@code REST.request.slo} counter with the number of requests completed within the bound is exposed.
+         * The histograms are disabled if the list is empty.
+         */
+        @ConfigItem(name = "jaxrs.slo-buckets", defaultValue = "5,10,25,50,100,250,500,1000,2500,5000,10000")
+        public List<Long> jaxrsSloBuckets;
+
     }
 
     SmallRyeMetricsConfig metrics;
@@ -450,6 +461,55 @@ public class SmallRyeMetricsProcessor {
         }
     }
 
+    /**
+     * Precompute the metric tags of the RESTful resource methods so that their metrics are registered at startup.
+     */
+    @BuildStep
+    @Record(STATIC_INIT)
+    void registerRestEndpoints(SmallRyeMetricsRecorder recorder, CombinedIndexBuildItem combinedIndex) {
+        IndexView index = combinedIndex.getIndex();
+        List<String> endpoints = new ArrayList<>();
+        for (AnnotationInstance path : index.getAnnotations(SmallRyeMetricsDotNames.JAXRS_PATH)) {
+            if (path.target().kind() != Kind.CLASS) {
+                continue;
+            }
+            ClassInfo clazz = path.target().asClass();
+            if (Modifier.isInterface(clazz.flags()) || Modifier.isAbstract(clazz.flags())) {
+                continue;
+            }
+            for (MethodInfo method : clazz.methods()) {
+                for (AnnotationInstance annotation : method.annotations()) {
+                    if (annotation.target().equals(method)
+                            && SmallRyeMetricsDotNames.JAXRS_HTTP_METHODS.contains(annotation.name())) {
+                        endpoints.add(clazz.name().toString() + "#" + methodTagValue(method));
+                        break;
+                    }
+                }
+            }
+        }
+        recorder.registerRestEndpoints(endpoints, new ArrayList<>(metrics.jaxrsSloBuckets));
+    }
+
+    /**
+     * The method name followed by the erased parameter types, array parameters are encoded as the component type followed by
+     * {@code []}.
+     */
+    static String methodTagValue(MethodInfo method) {
+        StringBuilder value = new StringBuilder(method.name());
+        for (Type param : method.parameters()) {
+            value.append('_');
+            if (param.kind() == Type.Kind.ARRAY) {
+                ArrayType array = param.asArrayType();
+                Type component = array.dimensions() > 1 ? ArrayType.create(array.component(), array.dimensions() - 1)
+                        : array.component();
+                value.append(component.name()).append("[]");
+            } else {
+                value.append(param.name());
+            }
+        }
+        return value.toString();
+    }
+
     /**
      * Register metrics required by other Quarkus extensions.
      */
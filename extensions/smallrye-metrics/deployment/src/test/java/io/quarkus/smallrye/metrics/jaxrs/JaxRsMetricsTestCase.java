@@ -4,8 +4,15 @@ import static io.restassured.RestAssured.when;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.SimpleTimer;
 import org.eclipse.microprofile.metrics.Tag;
@@ -44,6 +51,34 @@ public class JaxRsMetricsTestCase {
                 new Tag("method", "hello_java.lang.String"));
         assertEquals(1, metric.getCount());
         assertTrue(metric.getElapsedTime().toNanos() > 0);
+        Histogram histogram = metricRegistry.histogram("REST.request.histogram",
+                new Tag("class", METRIC_RESOURCE_CLASS_NAME),
+                new Tag("method", "hello_java.lang.String"));
+        assertEquals(1, histogram.getCount());
+        assertTrue(histogram.getSnapshot().getMax() > 0);
+        Counter slo = metricRegistry.counter("REST.request.slo",
+                new Tag("class", METRIC_RESOURCE_CLASS_NAME),
+                new Tag("method", "hello_java.lang.String"),
+                new Tag("le", "10000"));
+        assertEquals(1, slo.getCount());
+    }
+
+    @Test
+    public void testMetricsRegisteredAtStartup() {
+        Set<String> methods = new HashSet<>();
+        for (MetricID id : metricRegistry.getSimpleTimers().keySet()) {
+            if (id.getName().equals("REST.request")
+                    && id.getTags().get("class").equals(METRIC_RESOURCE_CLASS_NAME)) {
+                methods.add(id.getTags().get("method"));
+            }
+        }
+        assertEquals(new HashSet<>(Arrays.asList("hello_java.lang.String", "error", "exception", "list_java.util.List",
+                "array_javax.ws.rs.core.PathSegment[]", "varargs_javax.ws.rs.core.PathSegment[]", "async", "neverCalled")),
+                methods);
+        SimpleTimer metric = metricRegistry.simpleTimer("REST.request",
+                new Tag("class", METRIC_RESOURCE_CLASS_NAME),
+                new Tag("method", "neverCalled"));
+        assertEquals(0, metric.getCount());
     }
 
     @Test
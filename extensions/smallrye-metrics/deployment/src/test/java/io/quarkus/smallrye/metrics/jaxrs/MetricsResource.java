@@ -55,4 +55,10 @@ public class MetricsResource {
         return CompletableFuture.supplyAsync(() -> "Hello");
     }
 
+    @Path("/never-called")
+    @GET
+    public String neverCalled() {
+        return "never called";
+    }
+
 }
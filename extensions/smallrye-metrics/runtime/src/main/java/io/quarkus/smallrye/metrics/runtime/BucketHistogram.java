@@ -0,0 +1,214 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Snapshot;
+
+/**
+ * A lock-free histogram with fixed bucket boundaries. Recording a value does not allocate; the snapshot quantiles are
+ * interpolated from the bucket counts.
+ */
+public class BucketHistogram implements Histogram {
+
+    // Upper bounds (inclusive), sorted
+    private final long[] bounds;
+    // The last bucket holds the values greater than the last bound
+    private final LongAdder[] buckets;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong min;
+    private final AtomicLong max;
+
+    public BucketHistogram(long[] bounds) {
+        this.bounds = bounds.clone();
+        Arrays.sort(this.bounds);
+        this.buckets = new LongAdder[this.bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.min = new AtomicLong(Long.MAX_VALUE);
+        this.max = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    @Override
+    public void update(int value) {
+        update((long) value);
+    }
+
+    @Override
+    public void update(long value) {
+        int idx = Arrays.binarySearch(bounds, value);
+        buckets[idx < 0 ? -idx - 1 : idx].increment();
+        count.increment();
+        sum.add(value);
+        long current;
+        while (value < (current = min.get()) && !min.compareAndSet(current, value)) {
+            // Retry
+        }
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // Retry
+        }
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     *
+     * @param index
+     * @return the number of values less than or equal to the bound at the given index
+     */
+    public long getCumulativeCount(int index) {
+        long result = 0;
+        for (int i = 0; i <= index; i++) {
+            result += buckets[i].sum();
+        }
+        return result;
+    }
+
+    /**
+     *
+     * @return the bucket bounds
+     */
+    public long[] getBounds() {
+        return bounds.clone();
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        long currentMin = min.get();
+        long currentMax = max.get();
+        if (total == 0 || currentMin > currentMax) {
+            // No value recorded yet or the first update is in progress
+            return new BucketSnapshot(bounds, new long[buckets.length], 0, 0, 0, 0);
+        }
+        return new BucketSnapshot(bounds, counts, total, sum.sum(), currentMin, currentMax);
+    }
+
+    static class BucketSnapshot extends Snapshot {
+
+        private final long[] bounds;
+        private final long[] counts;
+        private final long total;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        BucketSnapshot(long[] bounds, long[] counts, long total, long sum, long min, long max) {
+            this.bounds = bounds;
+            this.counts = counts;
+            this.total = total;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException(quantile + " is not in [0..1]");
+            }
+            if (total == 0) {
+                return 0.0;
+            }
+            double rank = quantile * total;
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    continue;
+                }
+                if (seen + counts[i] >= rank) {
+                    // Interpolate within the bucket, limited by the observed extremes
+                    double lower = Math.max(i == 0 ? min : bounds[i - 1], min);
+                    double upper = Math.min(i == bounds.length ? max : bounds[i], max);
+                    return lower + (upper - lower) * ((rank - seen) / counts[i]);
+                }
+                seen += counts[i];
+            }
+            return max;
+        }
+
+        /**
+         *
+         * @return the upper bounds of the non-empty buckets
+         */
+        @Override
+        public long[] getValues() {
+            long[] values = new long[counts.length];
+            int size = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    values[size++] = i == bounds.length ? max : bounds[i];
+                }
+            }
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(total, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return max;
+        }
+
+        @Override
+        public double getMean() {
+            return total == 0 ? 0.0 : (double) sum / total;
+        }
+
+        @Override
+        public long getMin() {
+            return min;
+        }
+
+        @Override
+        public double getStdDev() {
+            if (total < 2) {
+                return 0.0;
+            }
+            // Estimated from the bucket midpoints
+            double mean = getMean();
+            double variance = 0.0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    double lower = Math.max(i == 0 ? min : bounds[i - 1], min);
+                    double upper = Math.min(i == bounds.length ? max : bounds[i], max);
+                    double diff = (lower + upper) / 2 - mean;
+                    variance += diff * diff * counts[i];
+                }
+            }
+            return Math.sqrt(variance / (total - 1));
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                for (int i = 0; i < counts.length; i++) {
+                    out.printf("%s %d%n", i == bounds.length ? "+Inf" : Long.toString(bounds[i]), counts[i]);
+                }
+            }
+        }
+
+    }
+
+}
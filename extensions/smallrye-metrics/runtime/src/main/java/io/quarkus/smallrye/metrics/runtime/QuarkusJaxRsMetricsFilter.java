@@ -17,85 +17,59 @@
 
 package io.quarkus.smallrye.metrics.runtime;
 
-import java.lang.reflect.Method;
-import java.time.Duration;
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
-import javax.enterprise.inject.spi.CDI;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ResourceInfo;
 import javax.ws.rs.core.Context;
 
-import org.eclipse.microprofile.metrics.Metadata;
-import org.eclipse.microprofile.metrics.MetricID;
-import org.eclipse.microprofile.metrics.MetricRegistry;
-import org.eclipse.microprofile.metrics.MetricUnits;
-import org.eclipse.microprofile.metrics.Tag;
-
+import io.quarkus.arc.Arc;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
-import io.smallrye.metrics.MetricRegistries;
+import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 
 /**
  * A JAX-RS filter that computes the REST.request metrics from REST traffic over time.
  * This one depends on Vert.x to be able to hook into response even in cases when the request ended with an unmapped exception.
+ * The metric handles are resolved once per resource method, see {@link RestMetrics}.
  */
 public class QuarkusJaxRsMetricsFilter implements ContainerRequestFilter {
 
     @Context
     ResourceInfo resourceInfo;
 
+    // Client proxy of the request scoped bean
+    private volatile CurrentVertxRequest currentVertxRequest;
+
+    public QuarkusJaxRsMetricsFilter() {
+        RestMetrics.enable();
+    }
+
     @Override
     public void filter(final ContainerRequestContext requestContext) {
-        Long start = System.nanoTime();
-        final Class<?> resourceClass = resourceInfo.getResourceClass();
-        final Method resourceMethod = resourceInfo.getResourceMethod();
+        final long start = System.nanoTime();
+        final RestMetrics.Handle metrics = RestMetrics.get(resourceInfo.getResourceClass(),
+                resourceInfo.getResourceMethod());
         /*
          * The reason for using a Vert.x handler instead of ContainerResponseFilter is that
          * RESTEasy does not call the response filter for requests that ended up with an unmapped exception.
          * This way we can capture these responses as well and update the metrics accordingly.
          */
-        RoutingContext routingContext = CDI.current().select(CurrentVertxRequest.class).get().getCurrent();
-        routingContext.addBodyEndHandler(
-                event -> finishRequest(start, resourceClass, resourceMethod));
+        RoutingContext routingContext = getCurrentVertxRequest().getCurrent();
+        routingContext.addBodyEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                metrics.update(System.nanoTime() - start);
+            }
+        });
     }
 
-    private void finishRequest(Long start, Class<?> resourceClass, Method resourceMethod) {
-        long value = System.nanoTime() - start;
-        MetricID metricID = getMetricID(resourceClass, resourceMethod);
-
-        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.BASE);
-        if (!registry.getMetadata().containsKey(metricID.getName())) {
-            // if no metric with this name exists yet, register it
-            Metadata metadata = Metadata.builder()
-                    .withName(metricID.getName())
-                    .withDescription(
-                            "The number of invocations and total response time of this RESTful resource method since the start of the server.")
-                    .withUnit(MetricUnits.NANOSECONDS)
-                    .build();
-            registry.simpleTimer(metadata, metricID.getTagsAsArray());
+    private CurrentVertxRequest getCurrentVertxRequest() {
+        CurrentVertxRequest current = currentVertxRequest;
+        if (current == null) {
+            current = Arc.container().instance(CurrentVertxRequest.class).get();
+            currentVertxRequest = current;
         }
-        registry.simpleTimer(metricID.getName(), metricID.getTagsAsArray())
-                .update(Duration.ofNanos(value));
-    }
-
-    private MetricID getMetricID(Class<?> resourceClass, Method resourceMethod) {
-        Tag classTag = new Tag("class", resourceClass.getName());
-        String methodName = resourceMethod.getName();
-        String encodedParameterNames = Arrays.stream(resourceMethod.getParameterTypes())
-                .map(clazz -> {
-                    if (clazz.isArray()) {
-                        return clazz.getComponentType().getName() + "[]";
-                    } else {
-                        return clazz.getName();
-                    }
-                })
-                .collect(Collectors.joining("_"));
-        String methodTagValue = encodedParameterNames.isEmpty() ? methodName : methodName + "_" + encodedParameterNames;
-        Tag methodTag = new Tag("method", methodTagValue);
-        return new MetricID("REST.request", classTag, methodTag);
+        return current;
     }
 
 }
@@ -0,0 +1,274 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Holds the metrics of the RESTful resource methods. The metrics of the resource methods discovered at build time are
+ * registered eagerly, the handles are resolved once per resource method so that recording a request does not allocate.
+ *
+ * @see QuarkusJaxRsMetricsFilter
+ */
+public final class RestMetrics {
+
+    static final String REQUEST = "REST.request";
+    static final String REQUEST_HISTOGRAM = "REST.request.histogram";
+    static final String REQUEST_SLO = "REST.request.slo";
+
+    // The resource methods discovered at build time in the form "class name#method tag value"
+    private static volatile List<String> endpoints = Collections.emptyList();
+    // nanoseconds
+    private static volatile long[] sloBuckets = new long[0];
+
+    // Set when the JAX-RS filter is created, i.e. the REST metrics are enabled
+    private static volatile boolean enabled;
+
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Method, Handle>> HANDLES = new ConcurrentHashMap<>();
+
+    private RestMetrics() {
+    }
+
+    static void init(List<String> endpoints, List<Long> sloBucketsMillis) {
+        RestMetrics.endpoints = endpoints;
+        long[] buckets = new long[sloBucketsMillis.size()];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = TimeUnit.MILLISECONDS.toNanos(sloBucketsMillis.get(i));
+        }
+        RestMetrics.sloBuckets = buckets;
+        if (enabled) {
+            registerEndpoints();
+        }
+    }
+
+    static void reset() {
+        enabled = false;
+        endpoints = Collections.emptyList();
+        sloBuckets = new long[0];
+        HANDLES.clear();
+    }
+
+    static void enable() {
+        enabled = true;
+        registerEndpoints();
+    }
+
+    /**
+     * Registers the metrics of the resource methods discovered at build time.
+     */
+    private static void registerEndpoints() {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.BASE);
+        for (String endpoint : endpoints) {
+            int idx = endpoint.indexOf('#');
+            register(registry, endpoint.substring(0, idx), endpoint.substring(idx + 1));
+        }
+    }
+
+    static Handle get(Class<?> resourceClass, Method resourceMethod) {
+        ConcurrentMap<Method, Handle> methods = HANDLES.get(resourceClass);
+        if (methods == null) {
+            methods = HANDLES.computeIfAbsent(resourceClass, c -> new ConcurrentHashMap<>());
+        }
+        Handle handle = methods.get(resourceMethod);
+        if (handle == null) {
+            handle = methods.computeIfAbsent(resourceMethod, new Function<Method, Handle>() {
+                @Override
+                public Handle apply(Method method) {
+                    return register(MetricRegistries.get(MetricRegistry.Type.BASE), resourceClass.getName(),
+                            methodTagValue(method));
+                }
+            });
+        }
+        return handle;
+    }
+
+    static String methodTagValue(Method resourceMethod) {
+        StringBuilder value = new StringBuilder(resourceMethod.getName());
+        for (Class<?> paramType : resourceMethod.getParameterTypes()) {
+            value.append('_');
+            if (paramType.isArray()) {
+                value.append(paramType.getComponentType().getName()).append("[]");
+            } else {
+                value.append(paramType.getName());
+            }
+        }
+        return value.toString();
+    }
+
+    private static synchronized Handle register(MetricRegistry registry, String className, String methodTagValue) {
+        Tag[] tags = { new Tag("class", className), new Tag("method", methodTagValue) };
+        SimpleTimer timer = (SimpleTimer) getOrRegister(registry, Metadata.builder()
+                .withName(REQUEST)
+                .withDescription(
+                        "The number of invocations and total response time of this RESTful resource method since the start of the server.")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withType(MetricType.SIMPLE_TIMER)
+                .build(), new RequestTimer(), tags);
+        BucketHistogram histogram = null;
+        long[] buckets = sloBuckets;
+        if (buckets.length > 0) {
+            Metric existing = getOrRegister(registry, Metadata.builder()
+                    .withName(REQUEST_HISTOGRAM)
+                    .withDescription("The distribution of the response time of this RESTful resource method.")
+                    .withUnit(MetricUnits.NANOSECONDS)
+                    .withType(MetricType.HISTOGRAM)
+                    .build(), new BucketHistogram(buckets), tags);
+            if (existing instanceof BucketHistogram) {
+                histogram = (BucketHistogram) existing;
+                BucketHistogram h = histogram;
+                Metadata sloMetadata = Metadata.builder()
+                        .withName(REQUEST_SLO)
+                        .withDescription(
+                                "The number of invocations of this RESTful resource method that completed within the time given by the le tag, in milliseconds.")
+                        .withType(MetricType.COUNTER)
+                        .build();
+                for (int i = 0; i < buckets.length; i++) {
+                    int idx = i;
+                    getOrRegister(registry, sloMetadata, new LambdaCounter(new Callable<Long>() {
+                        @Override
+                        public Long call() {
+                            return h.getCumulativeCount(idx);
+                        }
+                    }), tags[0], tags[1], new Tag("le", Long.toString(TimeUnit.NANOSECONDS.toMillis(buckets[i]))));
+                }
+            }
+        }
+        return new Handle(timer, histogram);
+    }
+
+    private static Metric getOrRegister(MetricRegistry registry, Metadata metadata, Metric metric, Tag... tags) {
+        try {
+            return registry.register(metadata, metric, tags);
+        } catch (IllegalArgumentException e) {
+            // Already registered
+            switch (metadata.getTypeRaw()) {
+                case SIMPLE_TIMER:
+                    return registry.simpleTimer(metadata.getName(), tags);
+                case HISTOGRAM:
+                    return registry.histogram(metadata.getName(), tags);
+                default:
+                    return registry.counter(metadata.getName(), tags);
+            }
+        }
+    }
+
+    /**
+     * The metrics of a single resource method.
+     */
+    static final class Handle {
+
+        private final SimpleTimer timer;
+        private final BucketHistogram histogram;
+
+        Handle(SimpleTimer timer, BucketHistogram histogram) {
+            this.timer = timer;
+            this.histogram = histogram;
+        }
+
+        void update(long nanos) {
+            if (timer instanceof RequestTimer) {
+                ((RequestTimer) timer).update(nanos);
+            } else {
+                timer.update(Duration.ofNanos(nanos));
+            }
+            if (histogram != null) {
+                histogram.update(nanos);
+            }
+        }
+
+    }
+
+    /**
+     * A simple timer that can be updated without allocating a {@link Duration}.
+     */
+    static final class RequestTimer implements SimpleTimer {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder elapsedTime = new LongAdder();
+
+        void update(long nanos) {
+            if (nanos >= 0) {
+                count.increment();
+                elapsedTime.add(nanos);
+            }
+        }
+
+        @Override
+        public void update(Duration duration) {
+            update(duration.toNanos());
+        }
+
+        @Override
+        public <T> T time(Callable<T> event) throws Exception {
+            long start = System.nanoTime();
+            try {
+                return event.call();
+            } finally {
+                update(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void time(Runnable event) {
+            long start = System.nanoTime();
+            try {
+                event.run();
+            } finally {
+                update(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public Context time() {
+            long start = System.nanoTime();
+            return new Context() {
+
+                private boolean stopped;
+
+                @Override
+                public long stop() {
+                    long elapsed = System.nanoTime() - start;
+                    if (!stopped) {
+                        stopped = true;
+                        update(elapsed);
+                    }
+                    return elapsed;
+                }
+
+                @Override
+                public void close() {
+                    stop();
+                }
+            };
+        }
+
+        @Override
+        public Duration getElapsedTime() {
+            return Duration.ofNanos(elapsedTime.sum());
+        }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+
+    }
+
+}
@@ -153,6 +153,15 @@ public class SmallRyeMetricsRecorder {
         registry.register(metadata, reference, TagsUtils.parseTagsAsArray(tags));
     }
 
+    /**
+     *
+     * @param endpoints the resource methods in the form {@code class name#method tag value}
+     * @param sloBuckets the bucket bounds of the response time histograms in milliseconds
+     */
+    public void registerRestEndpoints(List<String> endpoints, List<Long> sloBuckets) {
+        RestMetrics.init(endpoints, sloBuckets);
+    }
+
     public void registerMetric(MetricRegistry.Type scope,
             MetadataHolder metadataHolder,
             TagHolder[] tagHolders,
@@ -219,7 +228,14 @@ public class SmallRyeMetricsRecorder {
     }
 
     public void dropRegistriesAtShutdown(ShutdownContext shutdownContext) {
-        shutdownContext.addShutdownTask(MetricRegistries::dropAll);
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                MetricRegistries.dropAll();
+                // the handles refer to the classes of this application and to the metrics of the dropped registries
+                RestMetrics.reset();
+            }
+        });
     }
 
     private void garbageCollectionMetrics(MetricRegistry registry) {
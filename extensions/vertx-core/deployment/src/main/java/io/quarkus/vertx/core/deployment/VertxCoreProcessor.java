@@ -7,10 +7,13 @@ import org.jboss.jandex.DotName;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.CurrentContextFactoryBuildItem;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.IOThreadDetectorBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
@@ -23,6 +26,7 @@ import io.quarkus.netty.deployment.EventLoopSupplierBuildItem;
 import io.quarkus.vertx.core.runtime.VertxCoreProducer;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.VertxLogDelegateFactory;
+import io.quarkus.vertx.core.runtime.config.VertxBuildTimeConfig;
 import io.quarkus.vertx.core.runtime.config.VertxConfiguration;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Vertx;
@@ -44,6 +48,11 @@ class VertxCoreProcessor {
                 .build();
     }
 
+    @BuildStep
+    CapabilityBuildItem capability() {
+        return new CapabilityBuildItem(Capabilities.VERTX_CORE);
+    }
+
     @BuildStep
     AdditionalBeanBuildItem registerBean() {
         return AdditionalBeanBuildItem.unremovableOf(VertxCoreProducer.class);
@@ -67,6 +76,15 @@ class VertxCoreProcessor {
         return new IOThreadDetectorBuildItem(recorder.detector());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void currentContextFactory(VertxCoreRecorder recorder, VertxBuildTimeConfig buildTimeConfig,
+            BuildProducer<CurrentContextFactoryBuildItem> currentContextFactory) {
+        if (buildTimeConfig.requestContextInVertxContext) {
+            currentContextFactory.produce(new CurrentContextFactoryBuildItem(recorder.currentContextFactory()));
+        }
+    }
+
     @BuildStep
     @Record(value = ExecutionTime.RUNTIME_INIT)
     CoreVertxBuildItem build(VertxCoreRecorder recorder, BeanContainerBuildItem beanContainer,
@@ -0,0 +1,98 @@
+package io.quarkus.vertx.core.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class RequestContextInVertxContextTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RequestBean.class)
+                    .addAsResource(new StringAsset("quarkus.vertx.request-context-in-vertx-context=true"),
+                            "application.properties"));
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    RequestBean bean;
+
+    @Test
+    public void testRequestContext() throws Exception {
+        ManagedContext requestContext = Arc.container().requestContext();
+        Context context = vertx.getOrCreateContext();
+        assertTrue(context.isEventLoopContext());
+
+        CompletableFuture<String> activated = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            requestContext.activate();
+            activated.complete(bean.getId());
+        });
+        String id = activated.get(5, TimeUnit.SECONDS);
+        assertNotNull(id);
+        // The state is stored on the Vert.x context and not on the calling thread
+        assertFalse(requestContext.isActive());
+
+        CompletableFuture<Boolean> worker = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            context.<Boolean> executeBlocking(f -> f.complete(requestContext.isActive()), r -> {
+                if (r.succeeded()) {
+                    worker.complete(r.result());
+                } else {
+                    worker.completeExceptionally(r.cause());
+                }
+            });
+        });
+        // A worker thread does not see the state
+        assertFalse(worker.get(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> terminated = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            String current = bean.getId();
+            requestContext.terminate();
+            terminated.complete(requestContext.isActive() ? null : current);
+        });
+        // The next task on the same context sees the same instance
+        assertEquals(id, terminated.get(5, TimeUnit.SECONDS));
+    }
+
+    @RequestScoped
+    static class RequestBean {
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
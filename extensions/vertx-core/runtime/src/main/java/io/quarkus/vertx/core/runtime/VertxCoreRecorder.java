@@ -19,6 +19,7 @@ import org.jboss.logging.Logger;
 import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.netty.channel.EventLoopGroup;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.IOThreadDetector;
 import io.quarkus.runtime.LaunchMode;
@@ -67,6 +68,10 @@ public class VertxCoreRecorder {
         return vertx;
     }
 
+    public CurrentContextFactory currentContextFactory() {
+        return new VertxCurrentContextFactory();
+    }
+
     public IOThreadDetector detector() {
         return new IOThreadDetector() {
             @Override
@@ -0,0 +1,79 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.lang.annotation.Annotation;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.impl.ThreadLocalCurrentContextFactory;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Stores the state of a context in the data of the current Vert.x event loop context. The event loop context is only
+ * used by a single thread, so no thread local needs to be set or removed when a continuation runs on the same event loop.
+ * A thread local is used on any other thread, e.g. a worker thread.
+ */
+public class VertxCurrentContextFactory implements CurrentContextFactory {
+
+    private static final String LOCAL_KEY_PREFIX = "io.quarkus.arc.currentContext.";
+
+    private final CurrentContextFactory fallback = new ThreadLocalCurrentContextFactory();
+
+    @Override
+    public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        return new VertxCurrentContext<>(LOCAL_KEY_PREFIX + scope.getName(), fallback.create(scope));
+    }
+
+    private static final class VertxCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        private final String key;
+        private final CurrentContext<T> fallback;
+
+        VertxCurrentContext(String key, CurrentContext<T> fallback) {
+            this.key = key;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public T get() {
+            Context context = eventLoopContext();
+            if (context != null) {
+                return context.get(key);
+            }
+            return fallback.get();
+        }
+
+        @Override
+        public void set(T state) {
+            Context context = eventLoopContext();
+            if (context != null) {
+                context.put(key, state);
+            } else {
+                fallback.set(state);
+            }
+        }
+
+        @Override
+        public void remove() {
+            Context context = eventLoopContext();
+            if (context != null) {
+                context.remove(key);
+            } else {
+                fallback.remove();
+            }
+        }
+
+        private static Context eventLoopContext() {
+            if (Context.isOnEventLoopThread()) {
+                Context context = Vertx.currentContext();
+                if (context != null && context.isEventLoopContext()) {
+                    return context;
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
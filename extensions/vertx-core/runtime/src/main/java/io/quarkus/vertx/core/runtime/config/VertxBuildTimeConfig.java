@@ -0,0 +1,17 @@
+package io.quarkus.vertx.core.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "vertx", phase = ConfigPhase.BUILD_TIME)
+public class VertxBuildTimeConfig {
+
+    /**
+     * If set to true then the state of the CDI request context is stored in the data of the Vert.x context when running
+     * on an event loop thread. A thread local is only used on worker threads.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean requestContextInVertxContext;
+
+}
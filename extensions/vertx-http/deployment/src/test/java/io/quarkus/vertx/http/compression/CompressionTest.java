@@ -0,0 +1,77 @@
+package io.quarkus.vertx.http.compression;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.specification.RequestSpecification;
+import io.vertx.ext.web.Router;
+
+public class CompressionTest {
+
+    static final String LONG_TEXT = new String(new char[2048]).replace('\0', 'a');
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BeanRegisteringRoutes.class)
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true\n" +
+                            "quarkus.http.compression.excluded-paths=/excluded\n"), "application.properties"));
+
+    @Test
+    public void testCompressed() {
+        gzip().get("/text").then().statusCode(200).header("Content-Encoding", equalTo("gzip"));
+        gzip().get("/chunked").then().statusCode(200).header("Content-Encoding", equalTo("gzip"));
+    }
+
+    @Test
+    public void testNotCompressed() {
+        // Below the minimum size
+        gzip().get("/small").then().statusCode(200).header("Content-Encoding", equalTo("identity"));
+        // Not in the list of media types
+        gzip().get("/binary").then().statusCode(200).header("Content-Encoding", equalTo("identity"));
+        // Excluded path
+        gzip().get("/excluded").then().statusCode(200).header("Content-Encoding", equalTo("identity"));
+        // Route opt-out
+        gzip().get("/identity").then().statusCode(200).header("Content-Encoding", equalTo("identity"));
+        // The client does not accept the encoding
+        given().config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/text").then().statusCode(200).header("Content-Encoding", nullValue())
+                .body(equalTo(LONG_TEXT));
+    }
+
+    private static RequestSpecification gzip() {
+        return given().config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip");
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoutes {
+
+        void register(@Observes Router router) {
+            router.route("/text").handler(rc -> rc.response().putHeader("Content-Type", "text/plain").end(LONG_TEXT));
+            router.route("/chunked").handler(rc -> rc.response().setChunked(true)
+                    .putHeader("Content-Type", "application/json").end("{\"foo\":\"" + LONG_TEXT + "\"}"));
+            router.route("/small").handler(rc -> rc.response().putHeader("Content-Type", "text/plain").end("ok"));
+            router.route("/binary").handler(
+                    rc -> rc.response().putHeader("Content-Type", "application/octet-stream").end(LONG_TEXT));
+            router.route("/excluded").handler(rc -> rc.response().putHeader("Content-Type", "text/plain").end(LONG_TEXT));
+            router.route("/identity").handler(rc -> rc.response().putHeader("Content-Type", "text/plain")
+                    .putHeader("Content-Encoding", "identity").end(LONG_TEXT));
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Response compression related settings
+ */
+@ConfigGroup
+public class CompressionConfig {
+
+    /**
+     * If enabled then the responses are compressed using the {@code gzip} or {@code deflate} encoding, depending on the
+     * {@code Accept-Encoding} header sent by the client.
+     * <p>
+     * A route can always opt out by setting the {@code Content-Encoding: identity} response header.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The compression level, from 1 (fastest) to 9 (best compression).
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+
+    /**
+     * Responses with a {@code Content-Length} smaller than this value are not compressed. Responses of unknown length,
+     * i.e. chunked responses, are always compressed.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize minSize;
+
+    /**
+     * The list of media types that are compressed. Responses without a {@code Content-Type} header are not compressed.
+     */
+    @ConfigItem(defaultValue = "text/html,text/plain,text/css,text/xml,text/javascript,application/javascript,application/json,application/xml")
+    public List<String> mimeTypes;
+
+    /**
+     * The list of path prefixes for which the responses are never compressed. ex: /downloads,/api/stream
+     */
+    @ConfigItem
+    public Optional<List<String>> excludedPaths;
+
+    /**
+     * If enabled then a static resource from {@code META-INF/resources} is served from its precompressed variant, i.e.
+     * {@code index.html.br} or {@code index.html.gz}, if such a variant exists and the client accepts the encoding. This
+     * option does not depend on {@code quarkus.http.compression.enabled}.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean precompressedResources;
+
+}
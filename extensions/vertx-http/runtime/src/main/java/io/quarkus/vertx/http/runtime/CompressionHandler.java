@@ -0,0 +1,86 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Applies the compression rules that cannot be expressed with {@link io.vertx.core.http.HttpServerOptions}, i.e. the minimum
+ * size, the media types and the excluded paths. The compression itself is performed by the server; a response is excluded
+ * by setting the {@code Content-Encoding: identity} header before the headers are written.
+ */
+public class CompressionHandler implements Handler<RoutingContext> {
+
+    private final long minSize;
+    private final Set<String> mimeTypes;
+    private final List<String> excludedPaths;
+
+    public CompressionHandler(CompressionConfig config) {
+        this.minSize = config.minSize.asLongValue();
+        Set<String> types = new HashSet<>();
+        for (String mimeType : config.mimeTypes) {
+            types.add(mimeType.trim().toLowerCase());
+        }
+        this.mimeTypes = types;
+        this.excludedPaths = config.excludedPaths.orElse(Collections.emptyList());
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        HttpServerResponse response = context.response();
+        if (isExcluded(context.normalisedPath())) {
+            response.putHeader(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+        } else {
+            context.addHeadersEndHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    MultiMap headers = response.headers();
+                    if (!headers.contains(HttpHeaderNames.CONTENT_ENCODING) && !isCompressible(headers)) {
+                        headers.set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+                    }
+                }
+            });
+        }
+        context.next();
+    }
+
+    private boolean isExcluded(String path) {
+        for (String excluded : excludedPaths) {
+            if (path.startsWith(excluded)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isCompressible(MultiMap headers) {
+        String contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength) < minSize) {
+                    return false;
+                }
+            } catch (NumberFormatException ignored) {
+                return false;
+            }
+        }
+        String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        int paramsIdx = contentType.indexOf(';');
+        if (paramsIdx != -1) {
+            contentType = contentType.substring(0, paramsIdx);
+        }
+        return mimeTypes.contains(contentType.trim().toLowerCase());
+    }
+
+}
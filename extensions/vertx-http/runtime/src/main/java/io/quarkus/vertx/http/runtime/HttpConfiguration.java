@@ -114,6 +114,16 @@ public class HttpConfiguration {
      */
     public ServerLimitsConfig limits;
 
+    /**
+     * Response compression configuration
+     */
+    public CompressionConfig compression;
+
+    /**
+     * Static resources configuration
+     */
+    public StaticResourcesConfig staticResources;
+
     /**
      * Http connection idle timeout
      */
@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http.runtime;
+
+/**
+ * A static resource indexed at build time.
+ *
+ * @see StaticResourcesHandler
+ */
+public class StaticResource {
+
+    private String path;
+    private String etag;
+    private String contentType;
+    private long size;
+    private long lastModified;
+
+    public StaticResource() {
+    }
+
+    public StaticResource(String path, String etag, String contentType, long size, long lastModified) {
+        this.path = path;
+        this.etag = etag;
+        this.contentType = contentType;
+        this.size = size;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     *
+     * @return the path of the resource relative to the static resources root, e.g. {@code /index.html}
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     *
+     * @return the quoted entity tag
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    /**
+     *
+     * @return the content type or {@code null} if unknown
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     *
+     * @return the size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    /**
+     *
+     * @return the last modified time in milliseconds since the epoch, or {@code 0} if unknown
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+
+}
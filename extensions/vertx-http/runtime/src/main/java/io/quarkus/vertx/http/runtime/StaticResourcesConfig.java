@@ -0,0 +1,34 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Static resources related settings
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * The maximum amount of memory used to keep the content of the static resources. The content is held in direct
+     * memory so that it can be sent without copying.
+     */
+    @ConfigItem(defaultValue = "10M")
+    public MemorySize cacheSize;
+
+    /**
+     * Resources larger than this value are never kept in memory and are always sent from the classpath.
+     */
+    @ConfigItem(defaultValue = "64K")
+    public MemorySize maxCachedFileSize;
+
+    /**
+     * The value of the {@code max-age} directive of the {@code Cache-Control} response header.
+     */
+    @ConfigItem(defaultValue = "24H")
+    public Duration maxAge;
+
+}
@@ -0,0 +1,273 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.StaticHandler;
+
+/**
+ * Serves the static resources indexed at build time. The entity tags and content types are precomputed so that a conditional
+ * request is answered without accessing the classpath. The content of small resources is kept in direct memory and sent
+ * without copying. Range requests are delegated to a {@link StaticHandler}.
+ */
+public class StaticResourcesHandler implements Handler<RoutingContext> {
+
+    private static final Logger LOGGER = Logger.getLogger(StaticResourcesHandler.class);
+
+    private static final CharSequence[] RESOURCE_HEADERS = { HttpHeaderNames.VARY, HttpHeaderNames.ETAG,
+            HttpHeaderNames.LAST_MODIFIED, HttpHeaderNames.CACHE_CONTROL, HttpHeaderNames.CONTENT_TYPE,
+            HttpHeaderNames.CONTENT_ENCODING };
+
+    private final String root;
+    private final Map<String, StaticResource> resources;
+    private final boolean precompressed;
+    private final String cacheControl;
+    private final long maxCachedFileSize;
+    private final AtomicLong remainingCacheSize;
+    private final ConcurrentMap<String, Buffer> contents;
+    private final Handler<RoutingContext> rangeHandler;
+
+    /**
+     *
+     * @param root the classpath root, e.g. {@code META-INF/resources}
+     * @param resources the resources mapped to request paths
+     * @param httpConfiguration
+     */
+    public StaticResourcesHandler(String root, Map<String, StaticResource> resources, HttpConfiguration httpConfiguration) {
+        this.root = root;
+        this.resources = resources;
+        this.precompressed = httpConfiguration.compression.precompressedResources;
+        this.cacheControl = "public, max-age=" + httpConfiguration.staticResources.maxAge.getSeconds();
+        this.maxCachedFileSize = httpConfiguration.staticResources.maxCachedFileSize.asLongValue();
+        this.remainingCacheSize = new AtomicLong(httpConfiguration.staticResources.cacheSize.asLongValue());
+        this.contents = new ConcurrentHashMap<>();
+        this.rangeHandler = new ThreadLocalHandler(new Supplier<Handler<RoutingContext>>() {
+            @Override
+            public Handler<RoutingContext> get() {
+                return StaticHandler.create(root).setDefaultContentEncoding("UTF-8");
+            }
+        });
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        String path = ctx.mountPoint() == null ? ctx.normalisedPath()
+                : ctx.normalisedPath().substring(ctx.mountPoint().length());
+        StaticResource resource = resources.get(path);
+        HttpServerRequest request = ctx.request();
+        if (resource == null || (request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD)) {
+            ctx.next();
+            return;
+        }
+        if (request.headers().contains(HttpHeaderNames.RANGE)) {
+            // partial content, e.g. media files
+            rangeHandler.handle(ctx);
+            return;
+        }
+        HttpServerResponse response = ctx.response();
+        String encoding = null;
+        if (precompressed) {
+            StaticResource br = resources.get(resource.getPath() + ".br");
+            StaticResource gz = resources.get(resource.getPath() + ".gz");
+            if (br != null || gz != null) {
+                response.putHeader(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+                String acceptEncoding = request.getHeader(HttpHeaderNames.ACCEPT_ENCODING);
+                if (acceptEncoding != null) {
+                    double brQuality = br != null ? quality(acceptEncoding, "br") : 0;
+                    double gzQuality = gz != null ? quality(acceptEncoding, "gzip") : 0;
+                    if (brQuality > 0 && brQuality >= gzQuality) {
+                        encoding = "br";
+                        resource = br;
+                    } else if (gzQuality > 0) {
+                        encoding = "gzip";
+                        resource = gz;
+                    }
+                }
+            }
+        }
+        response.putHeader(HttpHeaderNames.ETAG, resource.getEtag());
+        response.putHeader(HttpHeaderNames.CACHE_CONTROL, cacheControl);
+        if (resource.getLastModified() > 0) {
+            response.putHeader(HttpHeaderNames.LAST_MODIFIED, formatDate(resource.getLastModified()));
+        }
+        // the same for GET and HEAD
+        if (isNotModified(request, resource)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        if (encoding != null) {
+            // The content type of the original resource
+            StaticResource original = resources.get(path);
+            if (original.getContentType() != null) {
+                response.putHeader(HttpHeaderNames.CONTENT_TYPE, original.getContentType());
+            }
+            response.putHeader(HttpHeaderNames.CONTENT_ENCODING, encoding);
+        } else if (resource.getContentType() != null) {
+            response.putHeader(HttpHeaderNames.CONTENT_TYPE, resource.getContentType());
+        }
+        if (request.method() == HttpMethod.HEAD) {
+            response.putHeader(HttpHeaderNames.CONTENT_LENGTH, Long.toString(resource.getSize()));
+            response.end();
+            return;
+        }
+        Buffer content = getContent(resource);
+        if (content != null) {
+            response.end(content);
+        } else {
+            response.sendFile(root + resource.getPath(), new Handler<AsyncResult<Void>>() {
+                @Override
+                public void handle(AsyncResult<Void> result) {
+                    if (result.failed() && !response.headWritten()) {
+                        // The resource is not available anymore, e.g. it was deleted in the dev mode
+                        MultiMap headers = response.headers();
+                        for (CharSequence header : RESOURCE_HEADERS) {
+                            headers.remove(header);
+                        }
+                        ctx.next();
+                    }
+                }
+            });
+        }
+    }
+
+    private Buffer getContent(StaticResource resource) {
+        Buffer content = contents.get(resource.getPath());
+        if (content != null || resource.getSize() > maxCachedFileSize || !reserve(resource.getSize())) {
+            return content;
+        }
+        ByteBuf buffer = Unpooled.directBuffer((int) resource.getSize());
+        try (InputStream in = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream(root + resource.getPath())) {
+            if (in == null) {
+                buffer.release();
+                remainingCacheSize.addAndGet(resource.getSize());
+                return null;
+            }
+            while (buffer.isWritable() && buffer.writeBytes(in, buffer.writableBytes()) != -1) {
+                // Read until the buffer is full
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to read the static resource %s", resource.getPath());
+            buffer.release();
+            remainingCacheSize.addAndGet(resource.getSize());
+            return null;
+        }
+        content = Buffer.buffer(buffer);
+        Buffer existing = contents.putIfAbsent(resource.getPath(), content);
+        if (existing != null) {
+            // Loaded concurrently
+            buffer.release();
+            remainingCacheSize.addAndGet(resource.getSize());
+            return existing;
+        }
+        return content;
+    }
+
+    private boolean reserve(long size) {
+        long remaining;
+        do {
+            remaining = remainingCacheSize.get();
+            if (remaining < size) {
+                return false;
+            }
+        } while (!remainingCacheSize.compareAndSet(remaining, remaining - size));
+        return true;
+    }
+
+    private static boolean isNotModified(HttpServerRequest request, StaticResource resource) {
+        String ifNoneMatch = request.getHeader(HttpHeaderNames.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-Modified-Since is ignored if If-None-Match is present
+            return isNotModified(ifNoneMatch, resource.getEtag());
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaderNames.IF_MODIFIED_SINCE);
+        if (ifModifiedSince != null && resource.getLastModified() > 0) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+                return resource.getLastModified() / 1000 <= since;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String value : ifNoneMatch.split(",")) {
+            value = value.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param acceptEncoding the value of the Accept-Encoding header
+     * @param coding the content coding, e.g. {@code gzip}
+     * @return the quality value of the given content coding, {@code 0} if not acceptable
+     */
+    static double quality(String acceptEncoding, String coding) {
+        double wildcard = 0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] params = element.split(";");
+            String token = params[0].trim();
+            boolean matches = token.equalsIgnoreCase(coding);
+            if (!matches && !token.equals("*")) {
+                continue;
+            }
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (matches) {
+                return quality;
+            }
+            wildcard = quality;
+        }
+        return wildcard;
+    }
+
+    private static String formatDate(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+    }
+
+}
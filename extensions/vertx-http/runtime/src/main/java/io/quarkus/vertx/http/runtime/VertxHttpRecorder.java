@@ -226,6 +226,10 @@ public class VertxHttpRecorder {
             });
         }
 
+        if (httpConfiguration.compression.enabled) {
+            router.route().order(Integer.MIN_VALUE).handler(new CompressionHandler(httpConfiguration.compression));
+        }
+
         if (httpConfiguration.limits.maxBodySize.isPresent()) {
             long limit = httpConfiguration.limits.maxBodySize.get().asLongValue();
             Long limitObj = limit;
@@ -426,6 +430,7 @@ public class VertxHttpRecorder {
         }
         serverOptions.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         setIdleTimeout(httpConfiguration, serverOptions);
+        setCompression(httpConfiguration, serverOptions);
 
         if (certFile.isPresent() && keyFile.isPresent()) {
             createPemKeyCertOptions(certFile.get(), keyFile.get(), serverOptions);
@@ -580,6 +585,7 @@ public class VertxHttpRecorder {
         options.setHost(httpConfiguration.host);
         options.setPort(httpConfiguration.determinePort(launchMode));
         setIdleTimeout(httpConfiguration, options);
+        setCompression(httpConfiguration, options);
         options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         options.setWebsocketSubProtocols(websocketSubProtocols);
         options.setReusePort(httpConfiguration.soReusePort);
@@ -597,11 +603,19 @@ public class VertxHttpRecorder {
         HttpServerOptions options = new HttpServerOptions();
         options.setHost(httpConfiguration.domainSocket);
         setIdleTimeout(httpConfiguration, options);
+        setCompression(httpConfiguration, options);
         options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         options.setWebsocketSubProtocols(websocketSubProtocols);
         return options;
     }
 
+    private static void setCompression(HttpConfiguration httpConfiguration, HttpServerOptions options) {
+        if (httpConfiguration.compression.enabled) {
+            options.setCompressionSupported(true);
+            options.setCompressionLevel(httpConfiguration.compression.level);
+        }
+    }
+
     private static void setIdleTimeout(HttpConfiguration httpConfiguration, HttpServerOptions options) {
         int idleTimeout = (int) httpConfiguration.idleTimeout.toMillis();
         options.setIdleTimeout(idleTimeout);
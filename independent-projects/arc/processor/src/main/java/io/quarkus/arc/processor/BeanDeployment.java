@@ -314,6 +314,14 @@ public class BeanDeployment {
 
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
 
+        // Request scoped beans get a dense index so that the request context can store the instances in an array
+        int requestContextIndex = 0;
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                bean.setRequestContextIndex(requestContextIndex++);
+            }
+        }
+
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
@@ -229,6 +229,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -309,6 +312,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -404,6 +410,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -484,6 +493,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -1583,6 +1595,18 @@ public class BeanGenerator extends AbstractGenerator {
                 .returnValue(isDefaultBean.load(bean.isDefaultBean()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getRequestContextIndex.returnValue(getRequestContextIndex.load(bean.getRequestContextIndex()));
+    }
+
     protected void implementGetStereotypes(BeanInfo bean, ClassCreator beanCreator, FieldDescriptor stereotypesField) {
         MethodCreator getStereotypes = beanCreator.getMethodCreator("getStereotypes", Set.class).setModifiers(ACC_PUBLIC);
         getStereotypes.returnValue(getStereotypes.readInstanceField(stereotypesField, getStereotypes.getThis()));
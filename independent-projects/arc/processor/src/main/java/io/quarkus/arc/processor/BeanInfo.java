@@ -68,6 +68,8 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final boolean defaultBean;
 
+    private int requestContextIndex = -1;
+
     // Following fields are only used by synthetic beans
 
     private final boolean removable;
@@ -338,6 +340,19 @@ public class BeanInfo implements InjectionTargetInfo {
         return defaultBean;
     }
 
+    /**
+     * 
+     * @return the index used by the built-in request context, or {@code -1} if the bean is not
+     *         {@link javax.enterprise.context.RequestScoped}
+     */
+    public int getRequestContextIndex() {
+        return requestContextIndex;
+    }
+
+    void setRequestContextIndex(int requestContextIndex) {
+        this.requestContextIndex = requestContextIndex;
+    }
+
     Consumer<MethodCreator> getCreatorConsumer() {
         return creatorConsumer;
     }
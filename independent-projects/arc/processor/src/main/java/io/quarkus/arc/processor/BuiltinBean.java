@@ -11,6 +11,7 @@ import io.quarkus.arc.impl.InstanceProvider;
 import io.quarkus.arc.impl.InterceptedBeanMetadataProvider;
 import io.quarkus.arc.impl.ResourceProvider;
 import io.quarkus.arc.processor.InjectionPointInfo.InjectionPointKind;
+import io.quarkus.arc.processor.InjectionPointInfo.TypeAndQualifiers;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.FieldDescriptor;
@@ -18,13 +19,17 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
 
 /**
  *
@@ -56,11 +61,23 @@ enum BuiltinBean {
             default:
                 throw new IllegalStateException("Unsupported target info: " + ctx.targetInfo);
         }
-        ResultHandle instanceProvider = ctx.constructor.newInstance(
-                MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
-                        InjectableBean.class, Set.class, Member.class, int.class),
-                parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
-                ctx.constructor.load(ctx.injectionPoint.getPosition()));
+        BeanInfo resolvedBean = resolveInstanceBean(ctx.beanDeployment, ctx.injectionPoint);
+        ResultHandle instanceProvider;
+        if (resolvedBean != null) {
+            // The required type and qualifiers resolve to a single bean - skip the typesafe resolution at runtime
+            instanceProvider = ctx.constructor.newInstance(
+                    MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
+                            InjectableBean.class, Set.class, Member.class, int.class, String.class),
+                    parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
+                    ctx.constructor.load(ctx.injectionPoint.getPosition()),
+                    ctx.constructor.load(resolvedBean.getIdentifier()));
+        } else {
+            instanceProvider = ctx.constructor.newInstance(
+                    MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
+                            InjectableBean.class, Set.class, Member.class, int.class),
+                    parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
+                    ctx.constructor.load(ctx.injectionPoint.getPosition()));
+        }
         ResultHandle instanceProviderSupplier = ctx.constructor.newInstance(
                 MethodDescriptors.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, instanceProvider);
         ctx.constructor.writeInstanceField(
@@ -192,6 +209,9 @@ enum BuiltinBean {
     }, DotNames.EVENT_METADATA),
     ;
 
+    private static final Set<DotName> RUNTIME_BUILTIN_TYPES = new HashSet<>(
+            Arrays.asList(DotNames.OBJECT, DotNames.INSTANCE, DotNames.EVENT, DotNames.BEAN_MANAGER));
+
     private final DotName[] rawTypeDotNames;
 
     private final Generator generator;
@@ -242,6 +262,39 @@ enum BuiltinBean {
         return null;
     }
 
+    /**
+     * Attempts to resolve the required type and qualifiers of an {@code Instance<T>} injection point at build time.
+     *
+     * @param beanDeployment
+     * @param injectionPoint
+     * @return the resolved bean or {@code null} if the resolution must be performed at runtime
+     */
+    static BeanInfo resolveInstanceBean(BeanDeployment beanDeployment, InjectionPointInfo injectionPoint) {
+        Type type = injectionPoint.getRequiredType();
+        if (type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        Type requiredType = type.asParameterizedType().arguments().get(0);
+        if (requiredType.kind() != Type.Kind.CLASS && requiredType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        if (RUNTIME_BUILTIN_TYPES.contains(requiredType.name())) {
+            // Built-in beans are only registered at runtime
+            return null;
+        }
+        TypeAndQualifiers typeAndQualifiers = new TypeAndQualifiers(requiredType, injectionPoint.getRequiredQualifiers());
+        List<BeanInfo> resolved = new ArrayList<>();
+        for (BeanInfo bean : beanDeployment.getBeans()) {
+            if (Beans.matches(bean, typeAndQualifiers)) {
+                resolved.add(bean);
+            }
+        }
+        if (resolved.isEmpty()) {
+            return null;
+        }
+        return resolved.size() == 1 ? resolved.get(0) : Beans.resolveAmbiguity(resolved);
+    }
+
     public static class GeneratorContext {
 
         final ClassOutput classOutput;
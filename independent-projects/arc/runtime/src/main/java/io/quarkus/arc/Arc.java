@@ -15,9 +15,18 @@ public final class Arc {
     private static final AtomicBoolean INITIALIZED = new AtomicBoolean(false);
 
     public static ArcContainer initialize() {
+        return initialize(null);
+    }
+
+    /**
+     * 
+     * @param currentContextFactory the factory used to store the state of built-in contexts, may be {@code null}
+     * @return the container instance
+     */
+    public static ArcContainer initialize(CurrentContextFactory currentContextFactory) {
         if (INITIALIZED.compareAndSet(false, true)) {
             try {
-                ArcContainerImpl container = new ArcContainerImpl();
+                ArcContainerImpl container = new ArcContainerImpl(currentContextFactory);
                 INSTANCE.set(container);
                 container.init();
                 return container;
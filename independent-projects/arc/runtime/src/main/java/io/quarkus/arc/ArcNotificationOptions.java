@@ -0,0 +1,45 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.inject.spi.ObserverMethod;
+
+/**
+ * Custom notification options supported by the container.
+ *
+ * @see Event#fireAsync(Object, NotificationOptions)
+ */
+public final class ArcNotificationOptions {
+
+    /**
+     * If set to {@link Boolean#TRUE} the asynchronous observers are notified in parallel. Observers with the default priority
+     * ({@link ObserverMethod#DEFAULT_PRIORITY}) are notified concurrently, each in a separate task. Observers with an explicit
+     * priority are notified sequentially in a single task, in the order of their priority. All exceptions thrown by the
+     * observers are collected and added as suppressed exceptions to the {@link CompletionException} the resulting stage
+     * completes with.
+     */
+    public static final String PARALLEL = "io.quarkus.arc.parallel";
+
+    private ArcNotificationOptions() {
+    }
+
+    /**
+     *
+     * @return the options for parallel delivery using the default executor
+     */
+    public static NotificationOptions parallel() {
+        return NotificationOptions.builder().set(PARALLEL, Boolean.TRUE).build();
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the options for parallel delivery using the given executor
+     */
+    public static NotificationOptions parallel(Executor executor) {
+        return NotificationOptions.builder().setExecutor(executor).set(PARALLEL, Boolean.TRUE).build();
+    }
+
+}
@@ -0,0 +1,21 @@
+package io.quarkus.arc;
+
+import io.quarkus.arc.InjectableContext.ContextState;
+import java.lang.annotation.Annotation;
+
+/**
+ * This factory can be used to customize the way the state of a built-in context is stored. By default, the state of the
+ * request context is stored in a {@link ThreadLocal}.
+ *
+ * @see Arc#initialize(CurrentContextFactory)
+ */
+public interface CurrentContextFactory {
+
+    /**
+     *
+     * @param scope
+     * @return a new current context for the given scope
+     */
+    <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope);
+
+}
@@ -105,4 +105,13 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned at build time and it's used to store the contextual instance in the built-in request context.
+     * 
+     * @return the index of a {@link javax.enterprise.context.RequestScoped} bean, or {@code -1}
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
 }
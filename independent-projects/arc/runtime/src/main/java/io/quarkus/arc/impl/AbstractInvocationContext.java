@@ -77,7 +77,9 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
                         + ", type: " + parameterTypes[i] + "]");
             }
             if (params[i] != null) {
-                if (!params[i].getClass().equals(parameterTypes[i])) {
+                // A reference type parameter accepts any value of a subtype
+                if (parameterTypes[i].isPrimitive() ? !params[i].getClass().equals(parameterTypes[i])
+                        : !parameterTypes[i].isAssignableFrom(params[i].getClass())) {
                     throw new IllegalArgumentException("The parameter type [" + params[i].getClass()
                             + "] does not match the type for the target method [" + parameterTypes[i] + "]");
                 }
@@ -4,6 +4,7 @@ import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInterceptor;
@@ -17,6 +18,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,6 +42,7 @@ import javax.enterprise.context.Dependent;
 import javax.enterprise.context.Destroyed;
 import javax.enterprise.context.Initialized;
 import javax.enterprise.context.NormalScope;
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.event.Event;
 import javax.enterprise.inject.AmbiguousResolutionException;
 import javax.enterprise.inject.Any;
@@ -77,18 +80,25 @@ public class ArcContainerImpl implements ArcContainer {
     // List of "ambiguous" contexts that could share a scope
     private final List<InjectableContext> contexts;
     private final ManagedContext requestContext;
+    // True if there is no custom context for @RequestScoped
+    private final boolean builtInRequestContextOnly;
     private final InjectableContext applicationContext;
     private final InjectableContext singletonContext;
 
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final ComputingCache<EventResolvable, List<InjectableObserverMethod<?>>> resolvedObservers;
 
     private final List<ResourceReferenceProvider> resourceProviders;
 
     private volatile ExecutorService executorService;
 
     public ArcContainerImpl() {
+        this(null);
+    }
+
+    public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         id = "" + ID_GENERATOR.incrementAndGet();
         running = new AtomicBoolean(true);
         beans = new ArrayList<>();
@@ -98,9 +108,7 @@ public class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new ArrayList<>();
-        contexts.add(requestContext);
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -129,6 +137,14 @@ public class ArcContainerImpl implements ArcContainer {
                 transitiveInterceptorBindings.put(entry.getKey(), entry.getValue());
             }
         }
+        builtInRequestContextOnly = contexts.stream().noneMatch(c -> RequestScoped.class.equals(c.getScope()));
+        if (currentContextFactory == null) {
+            currentContextFactory = new ThreadLocalCurrentContextFactory();
+        }
+        requestContext = new RequestContext(currentContextFactory.create(RequestScoped.class),
+                getRequestContextSize(beans));
+        contexts.add(0, requestContext);
+
         // register built-in beans
         addBuiltInBeans();
 
@@ -137,12 +153,29 @@ public class ArcContainerImpl implements ArcContainer {
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        resolvedObservers = new ComputingCache<>(this::resolveObservers);
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
         }
     }
 
+    private static int getRequestContextSize(List<InjectableBean<?>> beans) {
+        BitSet indexes = new BitSet();
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index >= 0) {
+                if (indexes.get(index)) {
+                    // Indexes assigned by multiple components providers may conflict - store all instances in a map
+                    LOGGER.debugf("Duplicate request context index %s found for %s", index, bean);
+                    return 0;
+                }
+                indexes.set(index);
+            }
+        }
+        return indexes.length();
+    }
+
     private void addBuiltInBeans() {
         // BeanManager, Event<?>, Instance<?>
         beans.add(new BeanManagerBean());
@@ -170,6 +203,8 @@ public class ArcContainerImpl implements ArcContainer {
             return applicationContext;
         } else if (Singleton.class.equals(scopeType)) {
             return singletonContext;
+        } else if (builtInRequestContextOnly && RequestScoped.class.equals(scopeType)) {
+            return requestContext.isActive() ? requestContext : null;
         }
         List<InjectableContext> active = new ArrayList<>();
         for (InjectableContext context : contexts) {
@@ -342,6 +377,7 @@ public class ArcContainerImpl implements ArcContainer {
             contexts.clear();
             beans.clear();
             resolved.clear();
+            resolvedObservers.clear();
             observers.clear();
             running.set(false);
 
@@ -579,25 +615,41 @@ public class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * The result is cached so that the type assignability rules are only evaluated once for a given event type and set of
+     * qualifiers.
+     *
+     * @param eventType
+     * @param eventQualifiers
+     * @return the immutable list of resolved observers
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
-        Qualifiers.verify(eventQualifiers);
         if (observers.isEmpty()) {
+            Qualifiers.verify(eventQualifiers);
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
+        return (List) resolvedObservers.getValue(new EventResolvable(eventType, eventQualifiers));
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(EventResolvable resolvable) {
+        Qualifiers.verify(resolvable.qualifiers);
+        Set<Type> eventTypes = new HierarchyDiscovery(resolvable.eventType).getTypeClosure();
+        List<InjectableObserverMethod<?>> resolvedObservers = new ArrayList<>();
         for (InjectableObserverMethod<?> observer : observers) {
             if (EventTypeAssignabilityRules.matches(observer.getObservedType(), eventTypes)) {
                 if (observer.getObservedQualifiers().isEmpty()
-                        || Qualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+                        || Qualifiers.isSubset(observer.getObservedQualifiers(), resolvable.qualifiers)) {
+                    resolvedObservers.add(observer);
                 }
             }
         }
+        if (resolvedObservers.isEmpty()) {
+            return Collections.emptyList();
+        }
         // Observers with smaller priority values are called first
         Collections.sort(resolvedObservers, InjectableObserverMethod::compare);
-        return resolvedObservers;
+        return Collections.unmodifiableList(resolvedObservers);
     }
 
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
@@ -731,4 +783,35 @@ public class ArcContainerImpl implements ArcContainer {
         }
 
     }
+
+    private static final class EventResolvable {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        EventResolvable(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            // The set of qualifiers is also exposed by the EventMetadata
+            this.qualifiers = new HashSet<>(qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * eventType.hashCode() + qualifiers.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EventResolvable)) {
+                return false;
+            }
+            EventResolvable other = (EventResolvable) obj;
+            return eventType.equals(other.eventType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
 }
@@ -3,6 +3,7 @@ package io.quarkus.arc.impl;
 import static javax.transaction.Status.STATUS_COMMITTED;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
@@ -90,6 +91,10 @@ class EventImpl<T> implements Event<T> {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (Boolean.TRUE.equals(options.get(ArcNotificationOptions.PARALLEL))) {
+            return new AsyncEventDeliveryStage<>(notifier.notifyParallel(event, executor), executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -183,7 +188,7 @@ class EventImpl<T> implements Event<T> {
         return resolvedType;
     }
 
-    private void handleExceptions(ObserverExceptionHandler handler) {
+    private static void handleExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
         if (!handledExceptions.isEmpty()) {
             CompletionException exception = null;
@@ -272,6 +277,70 @@ class EventImpl<T> implements Event<T> {
             }
         }
 
+        /**
+         * Asynchronous observers with the default priority are notified concurrently, each in a separate task. Observers with
+         * an explicit priority are notified sequentially in a single task.
+         *
+         * @param event
+         * @param executor
+         * @return a future completed when all the observers are notified
+         */
+        @SuppressWarnings("rawtypes")
+        CompletableFuture<T> notifyParallel(T event, Executor executor) {
+            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+            ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(
+                    Collections.synchronizedList(new ArrayList<>()));
+            List<CompletableFuture<Void>> notifications = new ArrayList<>();
+            List<ObserverMethod<? super T>> ordered = null;
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (!observerMethod.isAsync()) {
+                    continue;
+                }
+                if (observerMethod.getPriority() == ObserverMethod.DEFAULT_PRIORITY) {
+                    List<ObserverMethod<? super T>> single = Collections.singletonList(observerMethod);
+                    notifications.add(CompletableFuture.runAsync(() -> notifyObservers(eventContext, exceptionHandler, single),
+                            executor));
+                } else {
+                    if (ordered == null) {
+                        ordered = new ArrayList<>();
+                    }
+                    ordered.add(observerMethod);
+                }
+            }
+            if (ordered != null) {
+                List<ObserverMethod<? super T>> sequence = ordered;
+                notifications.add(CompletableFuture.runAsync(() -> notifyObservers(eventContext, exceptionHandler, sequence),
+                        executor));
+            }
+            return CompletableFuture.allOf(notifications.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+                handleExceptions(exceptionHandler);
+                return event;
+            });
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private void notifyObservers(EventContext eventContext, ObserverExceptionHandler exceptionHandler,
+                List<ObserverMethod<? super T>> observers) {
+            ManagedContext requestContext = Arc.container().requestContext();
+            boolean activate = !requestContext.isActive();
+            if (activate) {
+                requestContext.activate();
+            }
+            try {
+                for (ObserverMethod<? super T> observerMethod : observers) {
+                    try {
+                        observerMethod.notify(eventContext);
+                    } catch (Throwable e) {
+                        exceptionHandler.handle(e);
+                    }
+                }
+            } finally {
+                if (activate) {
+                    requestContext.terminate();
+                }
+            }
+        }
+
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
                 Predicate<ObserverMethod<? super T>> predicate) {
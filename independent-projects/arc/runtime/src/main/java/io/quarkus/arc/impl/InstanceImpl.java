@@ -47,21 +47,32 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
-        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position);
+        this(targetBean, type, qualifiers, creationalContext, annotations, javaMember, position, null);
+    }
+
+    InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            Set<InjectableBean<?>> resolvedBeans) {
+        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position,
+                resolvedBeans);
     }
 
     InstanceImpl(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers) {
         this(parent.targetBean, parent.injectionPointType, requiredType, requiredQualifiers, parent.creationalContext,
-                parent.annotations, parent.javaMember, parent.position);
+                parent.annotations, parent.javaMember, parent.position, null);
     }
 
     InstanceImpl(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType, Set<Annotation> requiredQualifiers,
-            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            Set<InjectableBean<?>> resolvedBeans) {
         this.injectionPointType = injectionPointType;
         this.requiredType = requiredType;
         this.requiredQualifiers = requiredQualifiers != null ? requiredQualifiers : Collections.emptySet();
         this.creationalContext = creationalContext;
-        if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
+        if (resolvedBeans != null) {
+            // Resolved at build time
+            this.resolvedBeans = resolvedBeans;
+        } else if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
             // Do not prefetch the beans for Instance<Object> with no qualifiers
             this.resolvedBeans = null;
         } else {
@@ -5,6 +5,7 @@ import io.quarkus.arc.InjectableReferenceProvider;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.Set;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.Instance;
@@ -21,15 +22,25 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     private final Set<Annotation> annotations;
     private final Member javaMember;
     private final int position;
+    // Identifier of the bean resolved at build time, may be null
+    private final String resolvedBeanIdentifier;
+    // Initialized lazily - the set is immutable and so it can be safely shared
+    private Set<InjectableBean<?>> resolvedBeans;
 
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position) {
+        this(type, qualifiers, targetBean, annotations, javaMember, position, null);
+    }
+
+    public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
+            Member javaMember, int position, String resolvedBeanIdentifier) {
         this.requiredType = type;
         this.qualifiers = qualifiers;
         this.targetBean = targetBean;
         this.annotations = annotations;
         this.javaMember = javaMember;
         this.position = position;
+        this.resolvedBeanIdentifier = resolvedBeanIdentifier;
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -37,10 +48,22 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
         InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, qualifiers,
                 CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position);
+                annotations, javaMember, position, resolvedBeans());
         CreationalContextImpl.addDependencyToParent(InstanceBean.INSTANCE, instance,
                 (CreationalContext) creationalContext);
         return instance;
     }
 
+    private Set<InjectableBean<?>> resolvedBeans() {
+        if (resolvedBeanIdentifier == null) {
+            return null;
+        }
+        Set<InjectableBean<?>> beans = resolvedBeans;
+        if (beans == null) {
+            beans = Collections.singleton(ArcContainerImpl.instance().bean(resolvedBeanIdentifier));
+            resolvedBeans = beans;
+        }
+        return beans;
+    }
+
 }
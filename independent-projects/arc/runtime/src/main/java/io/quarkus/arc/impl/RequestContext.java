@@ -1,17 +1,20 @@
 package io.quarkus.arc.impl;
 
 import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.CurrentContext;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -32,13 +35,25 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    // The state is stored in a thread local by default
+    private final CurrentContext<RequestContextState> currentContext;
+
+    // The number of indexed request scoped beans
+    private final int size;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    /**
+     * 
+     * @param currentContext holds the state associated with the current thread
+     * @param size the number of request scoped beans with an index assigned at build time
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    public RequestContext(CurrentContext<RequestContextState> currentContext, int size) {
+        this.currentContext = currentContext;
+        this.size = size;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,7 +70,7 @@ class RequestContext implements ManagedContext {
         if (contextual == null) {
             throw new IllegalArgumentException("Contextual parameter must not be null");
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -82,7 +97,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -96,12 +111,12 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new RequestContextState(size));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid inital state: " + initialState);
             }
@@ -110,12 +125,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        return ctx;
     }
 
     @Override
@@ -125,7 +140,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx != null) {
             synchronized (ctx) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -134,13 +149,7 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                for (InstanceHandle<?> instance : ctx.values()) {
-                    try {
-                        instance.destroy();
-                    } catch (Exception e) {
-                        throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
-                    }
-                }
+                ctx.forEach(RequestContext::destroyInstance);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(destroyedNotifier);
@@ -152,6 +161,14 @@ class RequestContext implements ManagedContext {
         }
     }
 
+    private static void destroyInstance(InstanceHandle<?> instance) {
+        try {
+            instance.destroy();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
+        }
+    }
+
     private void fireIfNotEmpty(LazyValue<Notifier<Object>> value) {
         Notifier<Object> notifier = value.get();
         if (!notifier.isEmpty()) {
@@ -177,18 +194,103 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
+    /**
+     * The instances of request scoped beans with an index are stored in an array. A map is only created for other contextuals,
+     * e.g. custom beans registered by a portable extension.
+     */
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> instances;
+
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        RequestContextState(int size) {
+            this.instances = size > 0 ? new AtomicReferenceArray<>(size) : null;
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                return instances.get(index);
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                instances.set(index, instance);
+            } else {
+                others().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                return instances.getAndSet(index, null);
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        void forEach(Consumer<ContextInstanceHandle<?>> action) {
+            if (instances != null) {
+                for (int i = 0; i < instances.length(); i++) {
+                    ContextInstanceHandle<?> instance = instances.get(i);
+                    if (instance != null) {
+                        action.accept(instance);
+                    }
+                }
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                map.values().forEach(action);
+            }
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        void clear() {
+            if (instances != null) {
+                for (int i = 0; i < instances.length(); i++) {
+                    instances.set(i, null);
+                }
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                map.clear();
+            }
+        }
+
+        private int indexOf(Contextual<?> contextual) {
+            if (instances != null && contextual instanceof InjectableBean) {
+                int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+                if (index >= 0 && index < instances.length()) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map == null) {
+                synchronized (this) {
+                    map = others;
+                    if (map == null) {
+                        map = new ConcurrentHashMap<>();
+                        others = map;
+                    }
+                }
+            }
+            return map;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> contextualInstances = new HashMap<>();
+            forEach(instance -> contextualInstances.put(instance.getBean(), instance.get()));
+            return contextualInstances;
         }
 
     }
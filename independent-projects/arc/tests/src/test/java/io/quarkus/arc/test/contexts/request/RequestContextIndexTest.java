@@ -0,0 +1,100 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestContextIndexTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class,
+            Delta.class);
+
+    @Test
+    public void testIndexes() {
+        ArcContainer arc = Arc.container();
+        Set<Integer> indexes = new HashSet<>();
+        for (Class<?> beanClass : new Class<?>[] { Alpha.class, Bravo.class, Charlie.class }) {
+            int index = arc.instance(beanClass).getBean().getRequestContextIndex();
+            assertTrue(index >= 0 && index < 3, "Invalid index " + index + " of " + beanClass);
+            indexes.add(index);
+        }
+        assertEquals(3, indexes.size());
+        assertEquals(-1, arc.instance(Delta.class).getBean().getRequestContextIndex());
+    }
+
+    @Test
+    public void testInstances() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            String alphaId = arc.instance(Alpha.class).get().getId();
+            String bravoId = arc.instance(Bravo.class).get().getId();
+            assertNotEquals(alphaId, bravoId);
+            assertEquals(alphaId, arc.instance(Alpha.class).get().getId());
+            assertEquals(2, requestContext.getState().getContextualInstances().size());
+
+            // Destroy a single instance
+            InjectableBean<Alpha> alphaBean = arc.instance(Alpha.class).getBean();
+            requestContext.destroy(alphaBean);
+            assertEquals(1, requestContext.getState().getContextualInstances().size());
+            assertNotEquals(alphaId, arc.instance(Alpha.class).get().getId());
+            assertEquals(bravoId, arc.instance(Bravo.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+        assertFalse(requestContext.isActive());
+    }
+
+    static abstract class Identified {
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+    @RequestScoped
+    static class Alpha extends Identified {
+
+    }
+
+    @RequestScoped
+    static class Bravo extends Identified {
+
+    }
+
+    @RequestScoped
+    static class Charlie extends Identified {
+
+    }
+
+    @ApplicationScoped
+    static class Delta {
+
+    }
+
+}
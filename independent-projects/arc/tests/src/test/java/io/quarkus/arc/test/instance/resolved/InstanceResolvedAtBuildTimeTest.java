@@ -0,0 +1,148 @@
+package io.quarkus.arc.test.instance.resolved;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import javax.annotation.Priority;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Alternative;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.UnsatisfiedResolutionException;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class InstanceResolvedAtBuildTimeTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Consumer.class, Engine.class, Petrol.class,
+            PetrolEngine.class, DieselEngine.class, ElectricEngine.class, Tank.class);
+
+    @Test
+    public void testResolution() {
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+
+        // Ambiguity resolved - the alternative wins
+        assertFalse(consumer.engine.isUnsatisfied());
+        assertFalse(consumer.engine.isAmbiguous());
+        assertEquals("electric", consumer.engine.get().getType());
+        int count = 0;
+        for (Engine engine : consumer.engine) {
+            assertEquals("electric", engine.getType());
+            count++;
+        }
+        assertEquals(1, count);
+        assertEquals("electric", consumer.anyEngine.get().getType());
+
+        assertEquals("petrol", consumer.petrol.get().getType());
+        assertEquals(1, consumer.tank.get().getId());
+        // Dependent instances are still bound to the Instance
+        assertTrue(consumer.tank.get() != consumer.tank.get());
+
+        // Dynamic selection is resolved at runtime
+        assertEquals("petrol", consumer.anyEngine.select(new AnnotationLiteral<Petrol>() {
+        }).get().getType());
+        assertEquals("electric", consumer.engine.select(new AnnotationLiteral<Any>() {
+        }).get().getType());
+        assertTrue(consumer.petrol.select(DieselEngine.class).isUnsatisfied());
+
+        // Not resolved at build time
+        assertTrue(consumer.unsatisfied.isUnsatisfied());
+        assertThrows(UnsatisfiedResolutionException.class, () -> consumer.unsatisfied.get());
+        assertFalse(consumer.object.isUnsatisfied());
+    }
+
+    @Singleton
+    static class Consumer {
+
+        @Inject
+        Instance<Engine> engine;
+
+        @Petrol
+        @Inject
+        Instance<Engine> petrol;
+
+        @Any
+        @Inject
+        Instance<Engine> anyEngine;
+
+        @Inject
+        Instance<Tank> tank;
+
+        @Inject
+        Instance<Runnable> unsatisfied;
+
+        @Inject
+        Instance<Object> object;
+
+    }
+
+    interface Engine {
+
+        String getType();
+
+    }
+
+    @Qualifier
+    @Target({ TYPE, FIELD })
+    @Retention(RUNTIME)
+    @interface Petrol {
+    }
+
+    @Petrol
+    @ApplicationScoped
+    static class PetrolEngine implements Engine {
+
+        @Override
+        public String getType() {
+            return "petrol";
+        }
+
+    }
+
+    @Singleton
+    static class DieselEngine implements Engine {
+
+        @Override
+        public String getType() {
+            return "diesel";
+        }
+
+    }
+
+    @Priority(10)
+    @Alternative
+    @Singleton
+    static class ElectricEngine implements Engine {
+
+        @Override
+        public String getType() {
+            return "electric";
+        }
+
+    }
+
+    @Dependent
+    static class Tank {
+
+        int getId() {
+            return 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Priority;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ParallelAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Ping.class, PingProducer.class, PingObserver.class);
+
+    @Test
+    public void testParallelDelivery() throws InterruptedException {
+        PingProducer producer = Arc.container().instance(PingProducer.class).get();
+        PingObserver observer = Arc.container().instance(PingObserver.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BlockingQueue<Throwable> synchronizer = new LinkedBlockingQueue<>();
+            producer.event.fireAsync(new Ping(), ArcNotificationOptions.parallel(executor)).whenComplete((r, t) -> {
+                synchronizer.add(t != null ? t : new IllegalStateException("No failure"));
+            });
+            Throwable failure = synchronizer.poll(10, TimeUnit.SECONDS);
+            assertNotNull(failure);
+            assertTrue(failure instanceof CompletionException, failure.toString());
+            // Both failures are collected
+            assertEquals(2, failure.getSuppressed().length);
+
+            // The observers with the default priority were notified concurrently
+            assertEquals(3, observer.parallel.size());
+            for (Boolean parallel : observer.parallel) {
+                assertTrue(parallel);
+            }
+            // The observers with a priority were notified in order
+            assertEquals(2, observer.ordered.size());
+            assertEquals("first", observer.ordered.get(0));
+            assertEquals("second", observer.ordered.get(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static class Ping {
+
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        final CountDownLatch latch = new CountDownLatch(3);
+        final List<Boolean> parallel = new CopyOnWriteArrayList<>();
+        final List<String> ordered = new CopyOnWriteArrayList<>();
+
+        void observeAlpha(@ObservesAsync Ping ping) throws InterruptedException {
+            await();
+        }
+
+        void observeBravo(@ObservesAsync Ping ping) throws InterruptedException {
+            await();
+            throw new IllegalStateException("bravo");
+        }
+
+        void observeCharlie(@ObservesAsync Ping ping) throws InterruptedException {
+            await();
+            throw new IllegalStateException("charlie");
+        }
+
+        void observeFirst(@ObservesAsync @Priority(1) Ping ping) {
+            ordered.add("first");
+        }
+
+        void observeSecond(@ObservesAsync @Priority(2) Ping ping) {
+            ordered.add("second");
+        }
+
+        private void await() throws InterruptedException {
+            latch.countDown();
+            parallel.add(latch.await(5, TimeUnit.SECONDS));
+        }
+
+    }
+
+    @Dependent
+    static class PingProducer {
+
+        @Inject
+        Event<Ping> event;
+
+    }
+
+}
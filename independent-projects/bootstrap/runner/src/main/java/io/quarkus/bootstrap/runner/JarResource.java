@@ -0,0 +1,161 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * A jar file of the application. The file is opened lazily, i.e. a jar that does not provide any class or resource that
+ * is used at runtime is never opened.
+ */
+final class JarResource implements Closeable {
+
+    private static final Manifest NO_MANIFEST = new Manifest();
+
+    private final Path jarPath;
+    private volatile JarFile jarFile;
+    private volatile URL url;
+    private volatile Manifest manifest;
+    private volatile ProtectionDomain protectionDomain;
+
+    JarResource(Path jarPath) {
+        this.jarPath = jarPath;
+    }
+
+    /**
+     *
+     * @param name
+     * @return the content of the resource, or {@code null} if this jar does not contain the resource
+     */
+    byte[] getResourceData(String name) {
+        JarFile file = jarFile();
+        ZipEntry entry = file.getEntry(name);
+        if (entry == null || entry.isDirectory()) {
+            return null;
+        }
+        try (InputStream in = file.getInputStream(entry)) {
+            return read(in, entry.getSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + name + " from " + jarPath, e);
+        }
+    }
+
+    /**
+     *
+     * @param name
+     * @return the URL of the resource, or {@code null} if this jar does not contain the resource
+     */
+    URL getResourceURL(String name) {
+        ZipEntry entry = jarFile().getEntry(name);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return new URL("jar:" + getUrl().toExternalForm() + "!/" + name);
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    Manifest getManifest() {
+        Manifest result = manifest;
+        if (result == null) {
+            try {
+                result = jarFile().getManifest();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the manifest of " + jarPath, e);
+            }
+            manifest = result = result == null ? NO_MANIFEST : result;
+        }
+        return result == NO_MANIFEST ? null : result;
+    }
+
+    ProtectionDomain getProtectionDomain(ClassLoader classLoader) {
+        ProtectionDomain result = protectionDomain;
+        if (result == null) {
+            synchronized (this) {
+                result = protectionDomain;
+                if (result == null) {
+                    result = protectionDomain = new ProtectionDomain(new CodeSource(getUrl(), (Certificate[]) null), null,
+                            classLoader, null);
+                }
+            }
+        }
+        return result;
+    }
+
+    private URL getUrl() {
+        URL result = url;
+        if (result == null) {
+            try {
+                url = result = jarPath.toUri().toURL();
+            } catch (MalformedURLException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return result;
+    }
+
+    private JarFile jarFile() {
+        JarFile result = jarFile;
+        if (result == null) {
+            synchronized (this) {
+                result = jarFile;
+                if (result == null) {
+                    try {
+                        jarFile = result = new JarFile(jarPath.toFile());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to open " + jarPath, e);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (jarFile != null) {
+            jarFile.close();
+            jarFile = null;
+        }
+    }
+
+    private static byte[] read(InputStream in, long size) throws IOException {
+        if (size >= 0 && size < Integer.MAX_VALUE) {
+            byte[] data = new byte[(int) size];
+            int offset = 0;
+            int r;
+            while (offset < data.length && (r = in.read(data, offset, data.length - offset)) > 0) {
+                offset += r;
+            }
+            if (offset == data.length) {
+                return data;
+            }
+            throw new IOException("Unexpected end of stream, read " + offset + " of " + size + " bytes");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int r;
+        while ((r = in.read(buffer)) > 0) {
+            out.write(buffer, 0, r);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        return "JarResource{" + jarPath + "}";
+    }
+}
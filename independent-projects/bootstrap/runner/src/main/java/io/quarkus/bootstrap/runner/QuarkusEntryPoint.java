@@ -0,0 +1,37 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The main class of the fast-jar package type.
+ *
+ * The application class loader is created from the index written at build time, see {@link SerializedApplication}, and
+ * the main class of the application is invoked with it as the TCCL.
+ */
+public class QuarkusEntryPoint {
+
+    public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
+
+    public static void main(String... args) throws Throwable {
+        // the runner jar is located in <application root>/lib/boot
+        Path runnerJar = Paths.get(QuarkusEntryPoint.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path applicationRoot = runnerJar.getParent().getParent().getParent();
+        SerializedApplication app;
+        try (InputStream in = new BufferedInputStream(
+                Files.newInputStream(applicationRoot.resolve(QUARKUS_APPLICATION_DAT)))) {
+            app = SerializedApplication.read(in, applicationRoot);
+        }
+        Thread.currentThread().setContextClassLoader(app.getRunnerClassLoader());
+        Class<?> mainClass = app.getRunnerClassLoader().loadClass(app.getMainClass());
+        try {
+            mainClass.getMethod("main", String[].class).invoke(null, (Object) args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
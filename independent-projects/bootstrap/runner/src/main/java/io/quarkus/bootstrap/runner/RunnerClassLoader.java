@@ -0,0 +1,201 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+
+/**
+ * The ClassLoader used by the fast-jar production applications.
+ *
+ * The jars that provide a resource are looked up in an index that is computed at build time, keyed by the directory of the
+ * resource. No jar is scanned at startup and a jar is only opened once a resource in one of its directories is requested.
+ * Classes and resources that are not in the index are loaded from the parent. The classes of the platform packages, e.g.
+ * {@code javax.*}, are loaded from the parent first so that a copy in the application libraries does not shadow them.
+ */
+public final class RunnerClassLoader extends ClassLoader implements Closeable {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    // The packages that are always delegated to the parent first
+    private static final String[] PARENT_FIRST_PREFIXES = { "java.", "javax.", "jdk.", "sun.", "com.sun.", "org.ietf.jgss.",
+            "org.omg.", "org.w3c.dom.", "org.xml.sax." };
+
+    private final Map<String, JarResource[]> resourceDirectoryMap;
+    private final Set<JarResource> jars;
+
+    RunnerClassLoader(ClassLoader parent, Map<String, JarResource[]> resourceDirectoryMap, Set<JarResource> jars) {
+        super(parent);
+        this.resourceDirectoryMap = resourceDirectoryMap;
+        this.jars = jars;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        String resourceName = name.replace('.', '/') + ".class";
+        JarResource[] resources = resourceDirectoryMap.get(getDirNameFromResourceName(resourceName));
+        if (resources == null) {
+            return getParent().loadClass(name);
+        }
+        if (isParentFirst(name)) {
+            try {
+                return getParent().loadClass(name);
+            } catch (ClassNotFoundException e) {
+                // e.g. a javax API that is not part of the JDK
+            }
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            for (JarResource resource : resources) {
+                byte[] data = resource.getResourceData(resourceName);
+                if (data != null) {
+                    definePackage(name, resource);
+                    Class<?> result = defineClass(name, data, 0, data.length, resource.getProtectionDomain(this));
+                    if (resolve) {
+                        resolveClass(result);
+                    }
+                    return result;
+                }
+            }
+        }
+        return getParent().loadClass(name);
+    }
+
+    @Override
+    public URL getResource(String name) {
+        String resourceName = sanitizeName(name);
+        JarResource[] resources = resourceDirectoryMap.get(getDirNameFromResourceName(resourceName));
+        if (resources != null) {
+            for (JarResource resource : resources) {
+                URL url = resource.getResourceURL(resourceName);
+                if (url != null) {
+                    return url;
+                }
+            }
+        }
+        return getParent().getResource(name);
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+        String resourceName = sanitizeName(name);
+        List<URL> urls = new ArrayList<>();
+        JarResource[] resources = resourceDirectoryMap.get(getDirNameFromResourceName(resourceName));
+        if (resources != null) {
+            for (JarResource resource : resources) {
+                URL url = resource.getResourceURL(resourceName);
+                if (url != null) {
+                    urls.add(url);
+                }
+            }
+        }
+        Enumeration<URL> parentResources = getParent().getResources(name);
+        while (parentResources.hasMoreElements()) {
+            urls.add(parentResources.nextElement());
+        }
+        return Collections.enumeration(urls);
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String name) {
+        String resourceName = sanitizeName(name);
+        JarResource[] resources = resourceDirectoryMap.get(getDirNameFromResourceName(resourceName));
+        if (resources != null) {
+            for (JarResource resource : resources) {
+                byte[] data = resource.getResourceData(resourceName);
+                if (data != null) {
+                    return new ByteArrayInputStream(data);
+                }
+            }
+        }
+        return getParent().getResourceAsStream(name);
+    }
+
+    static boolean isParentFirst(String className) {
+        for (String prefix : PARENT_FIRST_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void definePackage(String name, JarResource resource) {
+        final String pkgName = getPackageNameFromClassName(name);
+        if ((pkgName != null) && getPackage(pkgName) == null) {
+            synchronized (getClassLoadingLock(pkgName)) {
+                if (getPackage(pkgName) == null) {
+                    Manifest mf = resource.getManifest();
+                    if (mf != null) {
+                        Attributes ma = mf.getMainAttributes();
+                        definePackage(pkgName, ma.getValue(Attributes.Name.SPECIFICATION_TITLE),
+                                ma.getValue(Attributes.Name.SPECIFICATION_VERSION),
+                                ma.getValue(Attributes.Name.SPECIFICATION_VENDOR),
+                                ma.getValue(Attributes.Name.IMPLEMENTATION_TITLE),
+                                ma.getValue(Attributes.Name.IMPLEMENTATION_VERSION),
+                                ma.getValue(Attributes.Name.IMPLEMENTATION_VENDOR), null);
+                        return;
+                    }
+                    definePackage(pkgName, null, null, null, null, null, null, null);
+                }
+            }
+        }
+    }
+
+    private static String getPackageNameFromClassName(String className) {
+        final int index = className.lastIndexOf('.');
+        if (index == -1) {
+            // the default package
+            return null;
+        }
+        return className.substring(0, index);
+    }
+
+    private static String sanitizeName(String name) {
+        if (name.startsWith("/")) {
+            return name.substring(1);
+        }
+        return name;
+    }
+
+    static String getDirNameFromResourceName(String resourceName) {
+        final int index = resourceName.lastIndexOf('/');
+        if (index == -1) {
+            // a resource in the root directory
+            return "";
+        }
+        return resourceName.substring(0, index);
+    }
+
+    @Override
+    public void close() {
+        //note that this is a 'soft' close
+        //the jars are closed, however they are reopened if the class loader is used again
+        for (JarResource jar : jars) {
+            try {
+                jar.close();
+            } catch (IOException ignored) {
+                //ignore
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RunnerClassLoader";
+    }
+}
@@ -0,0 +1,133 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * The build-time index of a fast-jar application. It holds the main class, the jars of the application in class path order
+ * and, for every directory, the indexes of the jars that contain a resource in that directory.
+ */
+public final class SerializedApplication {
+
+    private static final int MAGIC = 0XF0315432;
+    private static final int VERSION = 1;
+
+    private final RunnerClassLoader runnerClassLoader;
+    private final String mainClass;
+
+    private SerializedApplication(RunnerClassLoader runnerClassLoader, String mainClass) {
+        this.runnerClassLoader = runnerClassLoader;
+        this.mainClass = mainClass;
+    }
+
+    public RunnerClassLoader getRunnerClassLoader() {
+        return runnerClassLoader;
+    }
+
+    public String getMainClass() {
+        return mainClass;
+    }
+
+    /**
+     * Writes the index of the given jars.
+     *
+     * @param outputStream the stream to write to, it is not closed
+     * @param mainClass the main class of the application
+     * @param applicationRoot the directory the jar paths are relative to
+     * @param classPath the jars, in class path order
+     * @throws IOException
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath)
+            throws IOException {
+        Map<String, List<Integer>> directories = new LinkedHashMap<>();
+        DataOutputStream data = new DataOutputStream(outputStream);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeUTF(mainClass);
+        data.writeInt(classPath.size());
+        for (int i = 0; i < classPath.size(); i++) {
+            Path jar = classPath.get(i);
+            data.writeUTF(applicationRoot.relativize(jar).toString().replace('\\', '/'));
+            for (String dir : collectDirectories(jar)) {
+                directories.computeIfAbsent(dir, d -> new ArrayList<>()).add(i);
+            }
+        }
+        data.writeInt(directories.size());
+        for (Map.Entry<String, List<Integer>> entry : directories.entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeShort(entry.getValue().size());
+            for (Integer jar : entry.getValue()) {
+                data.writeShort(jar);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads the index and creates the class loader of the application. No jar is opened.
+     *
+     * @param inputStream the stream to read from, it is not closed
+     * @param applicationRoot the directory the jar paths are relative to
+     * @return the application
+     * @throws IOException
+     */
+    public static SerializedApplication read(InputStream inputStream, Path applicationRoot) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a serialized application");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version + " of the serialized application");
+        }
+        String mainClass = in.readUTF();
+        JarResource[] jars = new JarResource[in.readInt()];
+        for (int i = 0; i < jars.length; i++) {
+            jars[i] = new JarResource(applicationRoot.resolve(in.readUTF()));
+        }
+        int directoryCount = in.readInt();
+        Map<String, JarResource[]> resourceDirectoryMap = new HashMap<>((int) (directoryCount / 0.75f) + 1);
+        for (int i = 0; i < directoryCount; i++) {
+            String dir = in.readUTF();
+            JarResource[] providers = new JarResource[in.readUnsignedShort()];
+            for (int j = 0; j < providers.length; j++) {
+                providers[j] = jars[in.readUnsignedShort()];
+            }
+            resourceDirectoryMap.put(dir, providers);
+        }
+        Set<JarResource> allJars = new LinkedHashSet<>();
+        for (JarResource jar : jars) {
+            allJars.add(jar);
+        }
+        return new SerializedApplication(new RunnerClassLoader(ClassLoader.getSystemClassLoader(), resourceDirectoryMap,
+                allJars), mainClass);
+    }
+
+    private static Set<String> collectDirectories(Path jar) throws IOException {
+        Set<String> dirs = new LinkedHashSet<>();
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (!entry.isDirectory()) {
+                    dirs.add(RunnerClassLoader.getDirNameFromResourceName(entry.getName()));
+                }
+            }
+        }
+        return dirs;
+    }
+}
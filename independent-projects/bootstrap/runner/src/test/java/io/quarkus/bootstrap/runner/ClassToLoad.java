@@ -0,0 +1,5 @@
+package io.quarkus.bootstrap.runner;
+
+public class ClassToLoad {
+
+}
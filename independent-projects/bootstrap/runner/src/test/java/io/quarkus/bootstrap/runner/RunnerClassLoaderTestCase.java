@@ -0,0 +1,106 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RunnerClassLoaderTestCase {
+
+    private static final String CLASS_RESOURCE = ClassToLoad.class.getName().replace('.', '/') + ".class";
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testLoadFromIndex() throws Exception {
+        Path first = appRoot.resolve("app/first.jar");
+        Path second = appRoot.resolve("lib/main/second.jar");
+        byte[] classData;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(CLASS_RESOURCE)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[1024];
+            int r;
+            while ((r = in.read(buf)) > 0) {
+                out.write(buf, 0, r);
+            }
+            classData = out.toByteArray();
+        }
+        createJar(first, CLASS_RESOURCE, classData, "a/b.txt", bytes("first"), "root.txt", bytes("root"));
+        // a copy of a JDK class in the application libraries must not shadow the JDK one
+        createJar(second, "a/b.txt", bytes("second"), "c/d.txt", bytes("d"), "javax/xml/XMLConstants.class", classData);
+
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        SerializedApplication.write(index, "org.acme.Main", appRoot, Arrays.asList(first, second));
+        SerializedApplication app = SerializedApplication.read(new ByteArrayInputStream(index.toByteArray()), appRoot);
+        assertEquals("org.acme.Main", app.getMainClass());
+
+        try (RunnerClassLoader cl = app.getRunnerClassLoader()) {
+            Class<?> loaded = cl.loadClass(ClassToLoad.class.getName());
+            assertSame(cl, loaded.getClassLoader());
+            assertSame(loaded, cl.loadClass(ClassToLoad.class.getName()));
+            assertSame(String.class, cl.loadClass(String.class.getName()));
+            assertSame(javax.xml.XMLConstants.class, cl.loadClass("javax.xml.XMLConstants"));
+
+            assertEquals("first", read(cl.getResourceAsStream("a/b.txt")));
+            assertEquals("first", read(cl.getResourceAsStream("/a/b.txt")));
+            assertEquals("root", read(cl.getResourceAsStream("root.txt")));
+            assertEquals("d", read(cl.getResourceAsStream("c/d.txt")));
+            assertNull(cl.getResourceAsStream("a/missing.txt"));
+
+            URL url = cl.getResource("c/d.txt");
+            assertNotNull(url);
+            assertEquals("d", read(url.openStream()));
+
+            List<URL> all = new ArrayList<>(Collections.list(cl.getResources("a/b.txt")));
+            assertEquals(2, all.size());
+            assertEquals("first", read(all.get(0).openStream()));
+            assertEquals("second", read(all.get(1).openStream()));
+        }
+    }
+
+    private static void createJar(Path jar, Object... entries) throws IOException {
+        Files.createDirectories(jar.getParent());
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                jarOut.putNextEntry(new JarEntry((String) entries[i]));
+                jarOut.write((byte[]) entries[i + 1]);
+                jarOut.closeEntry();
+            }
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (InputStream is = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[1024];
+            int r;
+            while ((r = is.read(buf)) > 0) {
+                out.write(buf, 0, r);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
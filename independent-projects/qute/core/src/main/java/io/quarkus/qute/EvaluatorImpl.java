@@ -1,7 +1,9 @@
 package io.quarkus.qute;
 
 import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.ExpressionImpl.ExpressionPartImpl;
 import io.quarkus.qute.Results.Result;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -16,10 +18,17 @@ class EvaluatorImpl implements Evaluator {
 
     private static final Logger LOGGER = Logger.getLogger(EvaluatorImpl.class);
 
-    private final List<ValueResolver> resolvers;
+    private final ValueResolver[] resolvers;
+    // The highest resolver index that can be cached - all the resolvers with a lower index are class-based
+    private final int maxCachedIndex;
 
     EvaluatorImpl(List<ValueResolver> valueResolvers) {
-        this.resolvers = valueResolvers;
+        this.resolvers = valueResolvers.toArray(new ValueResolver[0]);
+        int idx = 0;
+        while (idx < resolvers.length && resolvers[idx].isClassBased()) {
+            idx++;
+        }
+        this.maxCachedIndex = idx;
     }
 
     @Override
@@ -34,13 +43,15 @@ class EvaluatorImpl implements Evaluator {
             }
             EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.getNamespace(), resolver.getClass());
-            return resolver.resolve(context).thenCompose(r -> {
-                if (parts.hasNext()) {
-                    return resolveReference(false, r, parts, resolutionContext);
-                } else {
-                    return CompletableFuture.completedFuture(r);
-                }
-            });
+            CompletionStage<Object> result = resolver.resolve(context);
+            if (!parts.hasNext()) {
+                return result;
+            }
+            if (Futures.isCompleted(result)) {
+                // Sync fast path
+                return resolveReference(false, Futures.getCompleted(result), parts, resolutionContext);
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
         } else {
             if (expression.isLiteral()) {
                 return expression.getLiteralValue();
@@ -67,50 +78,168 @@ class EvaluatorImpl implements Evaluator {
 
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<Part> parts,
             ResolutionContext resolutionContext) {
-        Part part = parts.next();
-        EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
-        if (!parts.hasNext()) {
-            // The last part - no need to compose
-            return resolve(evalContext, resolvers.iterator());
-        } else {
-            return resolve(evalContext, resolvers.iterator())
-                    .thenCompose(r -> {
-                        if (parts.hasNext()) {
-                            return resolveReference(tryParent, r, parts, resolutionContext);
-                        } else {
-                            return CompletableFuture.completedFuture(r);
-                        }
-                    });
+        Object base = ref;
+        while (true) {
+            Part part = parts.next();
+            CompletionStage<Object> result = resolve(new EvalContextImpl(tryParent, base, part, resolutionContext),
+                    part instanceof ExpressionPartImpl ? (ExpressionPartImpl) part : null);
+            if (!parts.hasNext()) {
+                // The last part - no need to compose
+                return result;
+            }
+            if (!Futures.isCompleted(result)) {
+                // The value is not available yet - continue asynchronously
+                return result.thenCompose(r -> resolveReference(tryParent, r, parts, resolutionContext));
+            }
+            // Sync fast path - most resolvers return an already completed future
+            base = Futures.getCompleted(result);
         }
     }
 
-    private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers) {
-        if (!resolvers.hasNext()) {
-            ResolutionContext parent = evalContext.resolutionContext.getParent();
-            if (evalContext.tryParent && parent != null) {
-                // Continue with parent context
-                return resolve(
-                        new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent),
-                        this.resolvers.iterator());
+    private CompletionStage<Object> resolve(EvalContextImpl evalContext, ExpressionPartImpl part) {
+        return resolve(evalContext, part, cachedIndex(part, evalContext.base));
+    }
+
+    /**
+     * Resolvers are tried in order, starting with the given index. If the first applicable resolver succeeds for a base object
+     * its index is remembered by the expression part (inline cache). The next evaluation of the part with a base object of the
+     * same class starts directly with the cached resolver. If there is a class mismatch all the resolvers are tried. An index
+     * is
+     * only cached if all the skipped resolvers are {@link ValueResolver#isClassBased() class-based}.
+     */
+    private CompletionStage<Object> resolve(EvalContextImpl evalContext, ExpressionPartImpl part, int startIndex) {
+        int idx = startIndex;
+        // No resolver applicable to this context returned NOT_FOUND so far
+        boolean firstApplicable = startIndex == 0;
+        while (true) {
+            if (idx >= resolvers.length) {
+                ResolutionContext parent = evalContext.resolutionContext.getParent();
+                if (evalContext.tryParent && parent != null) {
+                    // Continue with parent context
+                    evalContext = new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent);
+                    idx = cachedIndex(part, evalContext.base);
+                    firstApplicable = idx == 0;
+                    continue;
+                }
+                LOGGER.tracef("Unable to resolve %s", evalContext);
+                return Results.NOT_FOUND;
             }
-            LOGGER.tracef("Unable to resolve %s", evalContext);
-            return Results.NOT_FOUND;
-        }
-        ValueResolver resolver = resolvers.next();
-        if (resolver.appliesTo(evalContext)) {
-            return resolver.resolve(evalContext).thenCompose(r -> {
+            ValueResolver resolver = resolvers[idx++];
+            if (!resolver.appliesTo(evalContext)) {
+                // Try next resolver
+                continue;
+            }
+            CompletionStage<Object> result = resolver.resolve(evalContext);
+            if (Futures.isCompleted(result)) {
+                if (Result.NOT_FOUND.equals(Futures.getCompleted(result))) {
+                    // Try next resolver
+                    firstApplicable = false;
+                    continue;
+                }
+                if (firstApplicable) {
+                    updateCache(part, evalContext.base, idx - 1);
+                }
+                return result;
+            }
+            EvalContextImpl context = evalContext;
+            int next = idx;
+            return result.thenCompose(r -> {
                 if (Result.NOT_FOUND.equals(r)) {
-                    return resolve(evalContext, resolvers);
+                    return resolve(context, part, next);
                 } else {
                     return CompletableFuture.completedFuture(r);
                 }
             });
-        } else {
-            // Try next resolver
-            return resolve(evalContext, resolvers);
         }
     }
 
+    private int cachedIndex(ExpressionPartImpl part, Object base) {
+        if (part == null || base == null) {
+            return 0;
+        }
+        InlineCache cache = part.inlineCache;
+        return cache != null && cache.evaluator == this ? cache.get(base.getClass()) : 0;
+    }
+
+    private void updateCache(ExpressionPartImpl part, Object base, int index) {
+        if (part == null || base == null || index > maxCachedIndex) {
+            return;
+        }
+        InlineCache cache = part.inlineCache;
+        if (cache == null || cache.evaluator != this) {
+            part.inlineCache = new InlineCache(this, base.getClass(), index);
+        } else if (cache.get(base.getClass()) != index) {
+            InlineCache updated = cache.add(base.getClass(), index);
+            if (updated != null) {
+                part.inlineCache = updated;
+            }
+        }
+    }
+
+    /**
+     * An immutable polymorphic inline cache - maps the class of a base object to the index of the resolver that resolved the
+     * expression part. The number of entries is limited; once the limit is reached the part is considered megamorphic and no
+     * more entries are added.
+     */
+    static final class InlineCache {
+
+        static final int MAX_ENTRIES = 4;
+
+        final EvaluatorImpl evaluator;
+        private final Class<?>[] classes;
+        private final int[] indexes;
+
+        InlineCache(EvaluatorImpl evaluator, Class<?> clazz, int index) {
+            this(evaluator, new Class<?>[] { clazz }, new int[] { index });
+        }
+
+        private InlineCache(EvaluatorImpl evaluator, Class<?>[] classes, int[] indexes) {
+            this.evaluator = evaluator;
+            this.classes = classes;
+            this.indexes = indexes;
+        }
+
+        /**
+         * 
+         * @param clazz
+         * @return the index of the resolver to start with
+         */
+        int get(Class<?> clazz) {
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i] == clazz) {
+                    return indexes[i];
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * 
+         * @param clazz
+         * @param index
+         * @return the new cache or {@code null} if the limit is reached
+         */
+        InlineCache add(Class<?> clazz, int index) {
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i] == clazz) {
+                    // Replace the existing entry
+                    int[] newIndexes = indexes.clone();
+                    newIndexes[i] = index;
+                    return new InlineCache(evaluator, classes, newIndexes);
+                }
+            }
+            if (classes.length == MAX_ENTRIES) {
+                return null;
+            }
+            Class<?>[] newClasses = Arrays.copyOf(classes, classes.length + 1);
+            int[] newIndexes = Arrays.copyOf(indexes, indexes.length + 1);
+            newClasses[classes.length] = clazz;
+            newIndexes[indexes.length] = index;
+            return new InlineCache(evaluator, newClasses, newIndexes);
+        }
+
+    }
+
     static class EvalContextImpl implements EvalContext {
 
         final boolean tryParent;
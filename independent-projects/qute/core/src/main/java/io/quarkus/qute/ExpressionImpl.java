@@ -86,6 +86,8 @@ final class ExpressionImpl implements Expression {
 
         protected final String name;
         protected final String typeInfo;
+        // Resolvers used to resolve this part - see EvaluatorImpl
+        volatile EvaluatorImpl.InlineCache inlineCache;
 
         ExpressionPartImpl(String name, String typeInfo) {
             this.name = name;
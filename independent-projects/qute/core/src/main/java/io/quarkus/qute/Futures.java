@@ -14,6 +14,44 @@ class Futures {
         return failure;
     }
 
+    /**
+     * 
+     * @param stage
+     * @return {@code true} if the given stage is a future that completed normally
+     */
+    static boolean isCompleted(CompletionStage<?> stage) {
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<?> future = (CompletableFuture<?>) stage;
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+        return false;
+    }
+
+    /**
+     * 
+     * @param stage
+     * @return the value of a stage that completed normally
+     * @see #isCompleted(CompletionStage)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T getCompleted(CompletionStage<? extends T> stage) {
+        return ((CompletableFuture<T>) stage).getNow(null);
+    }
+
+    /**
+     * 
+     * @param futures
+     * @return {@code true} if all the futures completed normally
+     */
+    static boolean allCompleted(CompletableFuture<?>[] futures) {
+        for (CompletableFuture<?> future : futures) {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @SuppressWarnings("unchecked")
     static CompletionStage<Map<String, Object>> evaluateParams(Map<String, Expression> parameters,
             ResolutionContext resolutionContext) {
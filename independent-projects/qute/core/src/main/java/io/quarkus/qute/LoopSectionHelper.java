@@ -51,12 +51,16 @@ public class LoopSectionHelper implements SectionHelper {
             if (results.isEmpty()) {
                 return CompletableFuture.completedFuture(ResultNode.NOOP);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<>();
             CompletableFuture<ResultNode>[] all = new CompletableFuture[results.size()];
             idx = 0;
             for (CompletionStage<ResultNode> r : results) {
                 all[idx++] = r.toCompletableFuture();
             }
+            if (Futures.allCompleted(all)) {
+                // Sync fast path
+                return CompletableFuture.completedFuture(new MultiResultNode(all));
+            }
+            CompletableFuture<ResultNode> result = new CompletableFuture<>();
             CompletableFuture
                     .allOf(all)
                     .whenComplete((v, t) -> {
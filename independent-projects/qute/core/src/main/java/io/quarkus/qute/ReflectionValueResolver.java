@@ -28,6 +28,11 @@ public class ReflectionValueResolver implements ValueResolver {
         return -1;
     }
 
+    @Override
+    public boolean isClassBased() {
+        return true;
+    }
+
     @Override
     public boolean appliesTo(EvalContext context) {
         Object base = context.getBase();
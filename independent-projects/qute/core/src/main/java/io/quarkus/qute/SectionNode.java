@@ -118,13 +118,17 @@ class SectionNode implements TemplateNode {
             if (block.nodes.size() == 1) {
                 return block.nodes.get(0).resolve(context);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
             @SuppressWarnings("unchecked")
             CompletableFuture<ResultNode>[] results = new CompletableFuture[block.nodes.size()];
             int idx = 0;
             for (TemplateNode node : block.nodes) {
                 results[idx++] = node.resolve(context).toCompletableFuture();
             }
+            if (Futures.allCompleted(results)) {
+                // Sync fast path
+                return CompletableFuture.completedFuture(new MultiResultNode(results));
+            }
+            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
             CompletableFuture
                     .allOf(results)
                     .whenComplete((v, t) -> {
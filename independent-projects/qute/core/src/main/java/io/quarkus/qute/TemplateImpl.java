@@ -88,21 +88,35 @@ class TemplateImpl implements Template {
     }
 
     private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-        CompletableFuture<Void> result = new CompletableFuture<>();
         DataNamespaceResolver dataResolver = new DataNamespaceResolver();
         List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
                 .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
         ResolutionContext rootContext = new ResolutionContextImpl(null, data, namespaceResolvers,
                 engine.getEvaluator(), null);
         dataResolver.rootContext = rootContext;
+        CompletionStage<ResultNode> resolved = root.resolve(rootContext);
+        if (Futures.isCompleted(resolved)) {
+            // Sync fast path - no async value was resolved
+            try {
+                Futures.<ResultNode> getCompleted(resolved).process(consumer);
+            } catch (Throwable e) {
+                return Futures.failure(e);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> result = new CompletableFuture<>();
         // Async resolution
-        root.resolve(rootContext).whenComplete((r, t) -> {
+        resolved.whenComplete((r, t) -> {
             if (t != null) {
                 result.completeExceptionally(t);
             } else {
                 // Sync processing of the result tree - build the output
-                r.process(consumer);
-                result.complete(null);
+                try {
+                    r.process(consumer);
+                    result.complete(null);
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
             }
         });
         return result;
@@ -1,5 +1,11 @@
 package io.quarkus.qute;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import org.reactivestreams.Publisher;
@@ -80,4 +86,30 @@ public interface TemplateInstance {
      */
     CompletionStage<Void> consume(Consumer<String> consumer);
 
+    /**
+     * Triggers rendering. The chunks of the rendered template are encoded and written to the given output stream as soon as
+     * the result is available, i.e. the rendered template as a whole is never held in memory. The output stream is flushed
+     * but not closed.
+     * 
+     * @param out
+     * @param charset
+     * @return a completion stage that is completed once the rendering finished
+     */
+    default CompletionStage<Void> writeTo(OutputStream out, Charset charset) {
+        Writer writer = new OutputStreamWriter(out, charset);
+        return consume(chunk -> {
+            try {
+                writer.write(chunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).thenRun(() -> {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
 }
@@ -16,11 +16,26 @@ public interface ValueResolver extends Resolver, WithPriority {
      * 
      * @param context
      * @return {@code true} if this resolver applies to the given context
+     * @see #isClassBased()
      */
     default boolean appliesTo(EvalContext context) {
         return true;
     }
 
+    /**
+     * A resolver is class-based if the result of {@link #appliesTo(EvalContext)} only depends on the class of the base object
+     * and the name and the params of the evaluated part, i.e. not on the base object itself or any other state.
+     * <p>
+     * The evaluator remembers which resolver resolved a part for a given class of the base object. The next evaluation of the
+     * part starts with this resolver and skips the resolvers with higher priority, as long as all the skipped resolvers are
+     * class-based.
+     * 
+     * @return {@code true} if this resolver is class-based
+     */
+    default boolean isClassBased() {
+        return false;
+    }
+
     // Utility methods
 
     static boolean matchClass(EvalContext ctx, Class<?> clazz) {
@@ -17,6 +17,11 @@ public final class ValueResolvers {
     public static ValueResolver rawResolver() {
         return new ValueResolver() {
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             public boolean appliesTo(EvalContext context) {
                 return context.getBase() != null
                         && (context.getName().equals("raw") || context.getName().equals("safe"));
@@ -32,6 +37,11 @@ public final class ValueResolvers {
     public static ValueResolver collectionResolver() {
         return new ValueResolver() {
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             public boolean appliesTo(EvalContext context) {
                 return ValueResolver.matchClass(context, Collection.class);
             }
@@ -46,6 +56,11 @@ public final class ValueResolvers {
     public static ValueResolver thisResolver() {
         return new ValueResolver() {
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             public boolean appliesTo(EvalContext context) {
                 return context.getBase() != null && THIS.equals(context.getName());
             }
@@ -65,6 +80,11 @@ public final class ValueResolvers {
     public static ValueResolver orResolver() {
         return new ValueResolver() {
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             public boolean appliesTo(EvalContext context) {
                 if (context.getParams().size() != 1) {
                     return false;
@@ -98,6 +118,11 @@ public final class ValueResolvers {
     public static ValueResolver trueResolver() {
         return new ValueResolver() {
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             public boolean appliesTo(EvalContext context) {
                 return context.getParams().size() == 1
                         && ("?".equals(context.getName()));
@@ -117,6 +142,11 @@ public final class ValueResolvers {
     public static ValueResolver mapEntryResolver() {
         return new ValueResolver() {
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             public boolean appliesTo(EvalContext context) {
                 return ValueResolver.matchClass(context, Entry.class);
             }
@@ -132,6 +162,11 @@ public final class ValueResolvers {
     public static ValueResolver mapResolver() {
         return new ValueResolver() {
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             public boolean appliesTo(EvalContext context) {
                 return ValueResolver.matchClass(context, Map.class);
             }
@@ -146,6 +181,11 @@ public final class ValueResolvers {
     public static ValueResolver mapperResolver() {
         return new ValueResolver() {
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             public boolean appliesTo(EvalContext context) {
                 return context.getBase() instanceof Mapper;
             }
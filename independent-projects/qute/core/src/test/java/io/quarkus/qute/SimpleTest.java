@@ -1,16 +1,22 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateNode.Origin;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 public class SimpleTest {
@@ -191,4 +197,166 @@ public class SimpleTest {
                         .render(Collections.emptyList()));
     }
 
+    @Test
+    public void testMixedSyncAndAsyncResolution() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public int getPriority() {
+                        return 10;
+                    }
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        return context.getBase() instanceof Map;
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        // Upper-case "name" asynchronously, otherwise defer to the next resolver
+                        Map<?, ?> map = (Map<?, ?>) context.getBase();
+                        return CompletableFuture.supplyAsync(() -> {
+                            if (context.getName().equals("name")) {
+                                return map.get("name").toString().toUpperCase();
+                            }
+                            return Result.NOT_FOUND;
+                        });
+                    }
+
+                }).build();
+
+        Map<String, Object> item1 = new HashMap<>();
+        item1.put("name", "foo");
+        item1.put("id", 1);
+        item1.put("nested", Collections.singletonMap("name", "baz"));
+        Map<String, Object> item2 = new HashMap<>();
+        item2.put("name", "bar");
+        item2.put("id", 2);
+        item2.put("nested", Collections.singletonMap("name", "qux"));
+        Map<String, Object> data = new HashMap<>();
+        data.put("items", ImmutableList.of(item1, item2));
+
+        assertEquals("1:FOO:BAZ,2:BAR:QUX,",
+                engine.parse("{#for item in items}{item.id}:{item.name}:{item.nested.name},{/}").render(data));
+    }
+
+    @Test
+    public void testWriteTo() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers().build();
+        Map<String, Object> data = new HashMap<>();
+        data.put("items", ImmutableList.of("Čau", "Ahoj"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        engine.parse("{#for item in items}{item}!{/}").instance().data(data).writeTo(out, StandardCharsets.UTF_8)
+                .toCompletableFuture().join();
+        assertEquals("Čau!Ahoj!", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testResolverInlineCache() {
+        AtomicInteger appliesToCount = new AtomicInteger();
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public int getPriority() {
+                        return 20;
+                    }
+
+                    @Override
+                    public boolean isClassBased() {
+                        return true;
+                    }
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        appliesToCount.incrementAndGet();
+                        return false;
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        throw new IllegalStateException();
+                    }
+
+                }).addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public int getPriority() {
+                        return 10;
+                    }
+
+                    @Override
+                    public boolean isClassBased() {
+                        return true;
+                    }
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        return context.getBase() instanceof StringBuilder;
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        StringBuilder builder = (StringBuilder) context.getBase();
+                        return CompletableFuture.completedFuture(
+                                context.getName().equals("length") ? builder.length() : Result.NOT_FOUND);
+                    }
+
+                }).build();
+
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(new StringBuilder("foo"));
+            items.add(Collections.singletonMap("length", i));
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("items", items);
+        Template template = engine.parse("{#for item in items}{item.length}{/}");
+        assertEquals("30313233343536373839", template.render(data));
+        // Resolvers that do not apply are only tried until the inline caches are populated
+        assertTrue(appliesToCount.get() < items.size(), "" + appliesToCount.get());
+        appliesToCount.set(0);
+        assertEquals("30313233343536373839", template.render(data));
+        assertEquals(0, appliesToCount.get());
+    }
+
+    @Test
+    public void testResolverInlineCacheValueDependentAppliesTo() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public int getPriority() {
+                        return 20;
+                    }
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        // Depends on the base object, not only on its class
+                        return context.getBase() instanceof TreeMap
+                                && ((Map<?, ?>) context.getBase()).containsKey(context.getName());
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        return CompletableFuture.completedFuture("key");
+                    }
+
+                }).build();
+
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            items.add(new TreeMap<>());
+            Map<String, Object> map = new TreeMap<>();
+            map.put("size", i);
+            items.add(map);
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("items", items);
+        Template template = engine.parse("{#for item in items}{item.size}:{/}");
+        assertEquals("0:key:0:key:0:key:", template.render(data));
+        assertEquals("0:key:0:key:0:key:", template.render(data));
+    }
+
 }
@@ -132,6 +132,7 @@ public class ExtensionMethodGenerator {
 
         implementGetPriority(valueResolver, priority);
         implementAppliesTo(valueResolver, method, matchName);
+        implementIsClassBased(valueResolver);
         implementResolve(valueResolver, declaringClass, method, matchName);
 
         valueResolver.close();
@@ -143,6 +144,13 @@ public class ExtensionMethodGenerator {
         getPriority.returnValue(getPriority.load(priority));
     }
 
+    private void implementIsClassBased(ClassCreator valueResolver) {
+        // appliesTo() only tests the class of the base object, the name and the number of params
+        MethodCreator isClassBased = valueResolver.getMethodCreator("isClassBased", boolean.class)
+                .setModifiers(ACC_PUBLIC);
+        isClassBased.returnValue(isClassBased.load(true));
+    }
+
     private void implementResolve(ClassCreator valueResolver, ClassInfo declaringClass, MethodInfo method, String matchName) {
         MethodCreator resolve = valueResolver.getMethodCreator("resolve", CompletionStage.class, EvalContext.class)
                 .setModifiers(ACC_PUBLIC);
@@ -145,6 +145,7 @@ public class ValueResolverGenerator {
 
         implementGetPriority(valueResolver);
         implementAppliesTo(valueResolver, clazz);
+        implementIsClassBased(valueResolver);
         implementResolve(valueResolver, clazzName, clazz, filters);
 
         valueResolver.close();
@@ -166,6 +167,13 @@ public class ValueResolverGenerator {
         getPriority.returnValue(getPriority.load(DEFAULT_PRIORITY));
     }
 
+    private void implementIsClassBased(ClassCreator valueResolver) {
+        // appliesTo() only tests the class of the base object, the name and the number of params
+        MethodCreator isClassBased = valueResolver.getMethodCreator("isClassBased", boolean.class)
+                .setModifiers(ACC_PUBLIC);
+        isClassBased.returnValue(isClassBased.load(true));
+    }
+
     private void implementResolve(ClassCreator valueResolver, String clazzName, ClassInfo clazz,
             Predicate<AnnotationTarget> filter) {
         MethodCreator resolve = valueResolver.getMethodCreator("resolve", CompletionStage.class, EvalContext.class)